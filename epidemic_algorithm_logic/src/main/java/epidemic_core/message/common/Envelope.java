@@ -0,0 +1,66 @@
+package epidemic_core.message.common;
+
+import epidemic_core.message.node_to_node.NodeToNodeMessageType;
+import epidemic_core.message.node_to_node.feedback.FeedbackMsg;
+import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
+import epidemic_core.message.node_to_node.request.RequestMsg;
+import epidemic_core.message.node_to_node.request_and_spread.RequestAndSpreadMsg;
+import epidemic_core.message.node_to_node.spread.SpreadMsg;
+import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
+import epidemic_core.message.supervisor_to_node.kill_node.KillNodeMsg;
+import epidemic_core.message.supervisor_to_node.start_node.StartNodeMsg;
+import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
+
+/**
+ * A received message decoded once (in the node Listener) and passed through the node queues,
+ * so Dispatcher and Worker never parse the raw string again.
+ */
+public record Envelope(Direction direction,
+                       String messageType,
+                       Object message)
+{
+    public static Envelope of(Object message) {
+        if (message instanceof SpreadMsg) return nodeToNode(NodeToNodeMessageType.spread, message);
+        if (message instanceof RequestMsg) return nodeToNode(NodeToNodeMessageType.request, message);
+        if (message instanceof InitialRequestMsg) return nodeToNode(NodeToNodeMessageType.initial_request, message);
+        if (message instanceof RequestAndSpreadMsg) return nodeToNode(NodeToNodeMessageType.request_and_spread, message);
+        if (message instanceof FeedbackMsg) return nodeToNode(NodeToNodeMessageType.feedback, message);
+
+        if (message instanceof StartRoundMsg) return supervisorToNode(SupervisorToNodeMessageType.start_round, message);
+        if (message instanceof StartNodeMsg) return supervisorToNode(SupervisorToNodeMessageType.start_node, message);
+        if (message instanceof KillNodeMsg) return supervisorToNode(SupervisorToNodeMessageType.kill_node, message);
+
+        throw new IllegalArgumentException("Unsupported message in envelope: " + message);
+    }
+
+    private static Envelope nodeToNode(NodeToNodeMessageType type, Object message) {
+        return new Envelope(Direction.node_to_node, type.toString(), message);
+    }
+
+    private static Envelope supervisorToNode(SupervisorToNodeMessageType type, Object message) {
+        return new Envelope(Direction.supervisor_to_node, type.toString(), message);
+    }
+
+    // -------------------------- Node to Node utils ----------------------------------------------
+    public boolean isNodeToNode() { return direction == Direction.node_to_node; }
+
+    public boolean isSpread() { return message instanceof SpreadMsg; }
+
+    public boolean isRequest() { return message instanceof RequestMsg; }
+
+    public boolean isInitialRequest() { return message instanceof InitialRequestMsg; }
+
+    public boolean isRequestAndSpread() { return message instanceof RequestAndSpreadMsg; }
+
+    public boolean isFeedback() { return message instanceof FeedbackMsg; }
+
+    // ------------------------- Supervisor to Node utils ------------------------------------------
+    public boolean isSupervisorToNode() { return direction == Direction.supervisor_to_node; }
+
+    public boolean isStartRound() { return message instanceof StartRoundMsg; }
+
+    public boolean isStartNode() { return message instanceof StartNodeMsg; }
+
+    public boolean isKillNode() { return message instanceof KillNodeMsg; }
+    // ---------------------------------------------------------------------------------------------
+}
@@ -1,7 +1,7 @@
 package epidemic_core.message.common;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import epidemic_core.message.node_to_node.codec.BinaryNodeToNodeCodec;
 import epidemic_core.message.node_to_node.feedback.FeedbackMsg;
 import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
 import epidemic_core.message.node_to_node.request.RequestMsg;
@@ -16,8 +16,6 @@ import java.io.IOException;
 
 public class MessageDispatcher {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     public static Object decode(String raw) {
         // detect if it is JSON 
         if (raw.trim().startsWith("{")) {
@@ -29,29 +27,29 @@ public class MessageDispatcher {
 
     private static Object decodeJson(String jsonString) {
         try {
-            JsonNode jsonNode = objectMapper.readTree(jsonString);
+            JsonNode jsonNode = MessageMappers.treeReader().readTree(jsonString);
             String direction = jsonNode.has("direction") ? jsonNode.get("direction").asText() : null;
             String messageType = jsonNode.has("messageType") ? jsonNode.get("messageType").asText() : null;
 
             if ("node_to_node".equals(direction)) {
                 return switch (messageType) {
-                    case "spread" -> SpreadMsg.decodeMessage(jsonString);
-                    case "request" -> RequestMsg.decodeMessage(jsonString);
-                    case "initial_request" -> InitialRequestMsg.decodeMessage(jsonString);
-                    case "request_and_spread" -> RequestAndSpreadMsg.decodeMessage(jsonString);
-                    case "feedback" -> FeedbackMsg.decodeMessage(jsonString);
+                    case "spread" -> MessageMappers.readerFor(SpreadMsg.class).readValue(jsonNode);
+                    case "request" -> MessageMappers.readerFor(RequestMsg.class).readValue(jsonNode);
+                    case "initial_request" -> MessageMappers.readerFor(InitialRequestMsg.class).readValue(jsonNode);
+                    case "request_and_spread" -> MessageMappers.readerFor(RequestAndSpreadMsg.class).readValue(jsonNode);
+                    case "feedback" -> MessageMappers.readerFor(FeedbackMsg.class).readValue(jsonNode);
                     default -> throw new IllegalArgumentException("Unknown node_to_node message type: " + messageType);
                 };
             } else if ("supervisor_to_node".equals(direction)) {
                 return switch (messageType) {
-                    case "start_round" -> StartRoundMsg.decodeMessage(jsonString);
-                    case "start_node" -> StartNodeMsg.decodeMessage(jsonString);
-                    case "kill_node" -> KillNodeMsg.decodeMessage(jsonString);
+                    case "start_round" -> MessageMappers.readerFor(StartRoundMsg.class).readValue(jsonNode);
+                    case "start_node" -> MessageMappers.readerFor(StartNodeMsg.class).readValue(jsonNode);
+                    case "kill_node" -> MessageMappers.readerFor(KillNodeMsg.class).readValue(jsonNode);
                     default -> throw new IllegalArgumentException("Unknown supervisor_to_node message type: " + messageType);
                 };
             } else if ("node_to_supervisor".equals(direction)) {
                 return switch (messageType) {
-                    case "hello" -> HelloMsg.decodeMessage(jsonString);
+                    case "hello" -> MessageMappers.readerFor(HelloMsg.class).readValue(jsonNode);
                     default -> throw new IllegalArgumentException("Unknown node_to_supervisor message type: " + messageType);
                 };
             }
@@ -63,9 +61,13 @@ public class MessageDispatcher {
     }
 
     public static String getDirection(String raw) {
+        // binary frames are always node_to_node (tag byte tells the type)
+        if (BinaryNodeToNodeCodec.isBinaryFrame(raw)) {
+            return Direction.node_to_node.toString();
+        }
         try {
             if (raw.trim().startsWith("{")) {
-                JsonNode jsonNode = objectMapper.readTree(raw);
+                JsonNode jsonNode = MessageMappers.treeReader().readTree(raw);
                 return jsonNode.has("direction") ? jsonNode.get("direction").asText() : null;
             }
         } catch (IOException e) {
@@ -75,9 +77,12 @@ public class MessageDispatcher {
     }
 
     public static String getMessageType(String raw) {
+        if (BinaryNodeToNodeCodec.isBinaryFrame(raw)) {
+            return BinaryNodeToNodeCodec.frameType(raw).toString();
+        }
         try {
             if (raw.trim().startsWith("{")) {
-                JsonNode jsonNode = objectMapper.readTree(raw);
+                JsonNode jsonNode = MessageMappers.treeReader().readTree(raw);
                 return jsonNode.has("messageType") ? jsonNode.get("messageType").asText() : null;
             }
         } catch (IOException e) {
@@ -0,0 +1,37 @@
+package epidemic_core.message.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared Jackson objects for every message class.
+ * ObjectMapper is expensive to build and thread-safe once configured; ObjectReader/ObjectWriter
+ * are immutable, so one instance per message type is cached and reused by all threads.
+ */
+public final class MessageMappers {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader TREE_READER = MAPPER.readerFor(JsonNode.class);
+
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private MessageMappers() {}
+
+    public static ObjectMapper mapper() { return MAPPER; }
+
+    public static ObjectReader treeReader() { return TREE_READER; }
+
+    public static ObjectReader readerFor(Class<?> type) {
+        return readers.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        return writers.computeIfAbsent(type, MAPPER::writerFor);
+    }
+}
@@ -0,0 +1,254 @@
+package epidemic_core.message.node_to_node.codec;
+
+import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.MessageId;
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.message.node_to_node.NodeToNodeMessageType;
+import epidemic_core.message.node_to_node.feedback.FeedbackMsg;
+import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
+import epidemic_core.message.node_to_node.request.RequestMsg;
+import epidemic_core.message.node_to_node.request_and_spread.RequestAndSpreadMsg;
+import epidemic_core.message.node_to_node.spread.SpreadMsg;
+import general.communication.utils.FrameCharset;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding for node_to_node messages.
+ *
+ * Frame layout:
+ *   tag(1 byte) [id] [originId] [data]
+ *   id       = 0 (absent) | 1, subject, zigzag varint sourceId, zigzag varint timestamp
+ *   subject  = varint(code + 1) for subjects in the table negotiated at start, or 0 + string
+ *   string   = varint(length + 1) + UTF-8 bytes, 0 meaning null
+ *
+ * Frames are carried as ISO-8859-1 strings so they fit the String based Communication API.
+ */
+public class BinaryNodeToNodeCodec implements NodeToNodeCodec {
+
+    // Tags (kept below 0x20, so they can never be the first char of a JSON message)
+    public static final byte TAG_SPREAD = 0x01;
+    public static final byte TAG_REQUEST = 0x02;
+    public static final byte TAG_INITIAL_REQUEST = 0x03;
+    public static final byte TAG_REQUEST_AND_SPREAD = 0x04;
+    public static final byte TAG_FEEDBACK = 0x05;
+
+    private final List<String> subjectCodes;
+    private final Map<String, Integer> codeBySubject;
+
+    public BinaryNodeToNodeCodec(List<String> subjectCodes) {
+        this.subjectCodes = subjectCodes != null ? List.copyOf(subjectCodes) : List.of();
+        this.codeBySubject = new HashMap<>();
+        for (int i = 0; i < this.subjectCodes.size(); i++) {
+            codeBySubject.put(this.subjectCodes.get(i), i);
+        }
+    }
+
+    @Override
+    public WireFormat getWireFormat() { return WireFormat.BINARY; }
+
+    // ---------------------------------- Frame detection ----------------------------------
+    public static boolean isBinaryFrame(String raw) {
+        if (raw == null || raw.isEmpty()) return false;
+        char tag = raw.charAt(0);
+        return tag >= TAG_SPREAD && tag <= TAG_FEEDBACK;
+    }
+
+    public static NodeToNodeMessageType frameType(String raw) {
+        if (!isBinaryFrame(raw)) return null;
+        return switch (raw.charAt(0)) {
+            case TAG_SPREAD -> NodeToNodeMessageType.spread;
+            case TAG_REQUEST -> NodeToNodeMessageType.request;
+            case TAG_INITIAL_REQUEST -> NodeToNodeMessageType.initial_request;
+            case TAG_REQUEST_AND_SPREAD -> NodeToNodeMessageType.request_and_spread;
+            case TAG_FEEDBACK -> NodeToNodeMessageType.feedback;
+            default -> null;
+        };
+    }
+
+    // ---------------------------------------- Encode ----------------------------------------
+    @Override
+    public String encode(Object message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32);
+
+        if (message instanceof SpreadMsg m) {
+            out.write(TAG_SPREAD);
+            writeId(out, m.getId());
+            writeVarLong(out, zigzag(m.getOriginId()));
+            writeString(out, m.getData());
+        } else if (message instanceof RequestMsg m) {
+            out.write(TAG_REQUEST);
+            writeId(out, m.getId());
+            writeVarLong(out, zigzag(m.getOriginId()));
+        } else if (message instanceof InitialRequestMsg m) {
+            out.write(TAG_INITIAL_REQUEST);
+            writeVarLong(out, zigzag(m.getOriginId()));
+        } else if (message instanceof RequestAndSpreadMsg m) {
+            out.write(TAG_REQUEST_AND_SPREAD);
+            writeId(out, m.getId());
+            writeVarLong(out, zigzag(m.getOriginId()));
+            writeString(out, m.getData());
+        } else if (message instanceof FeedbackMsg m) {
+            out.write(TAG_FEEDBACK);
+            writeId(out, m.getId());
+        } else {
+            throw new IllegalArgumentException("Not a node_to_node message: " + message);
+        }
+
+        return out.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private void writeId(ByteArrayOutputStream out, MessageId id) {
+        if (id == null) {
+            out.write(0);
+            return;
+        }
+        out.write(1);
+
+        Integer code = codeBySubject.get(id.topic().subject());
+        if (code != null) {
+            writeVarLong(out, code + 1);
+        } else {
+            writeVarLong(out, 0);
+            writeString(out, id.topic().subject());
+        }
+        writeVarLong(out, zigzag(id.topic().sourceId()));
+        writeVarLong(out, zigzag(id.timestamp()));
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    // ---------------------------------------- Decode ----------------------------------------
+    @Override
+    public Object decode(String raw) throws IOException {
+        if (!isBinaryFrame(raw)) {
+            // supervisor messages (and JSON peers) still go through the JSON path
+            return MessageDispatcher.decode(raw);
+        }
+
+        Reader reader = new Reader(raw);
+        int tag = reader.readByte();
+
+        try {
+            return switch (tag) {
+                case TAG_SPREAD -> {
+                    MessageId id = readId(reader);
+                    int originId = (int) unzigzag(reader.readVarLong());
+                    String data = reader.readString();
+                    yield new SpreadMsg(null, null, subjectOf(id), sourceOf(id), timestampOf(id), originId, data);
+                }
+                case TAG_REQUEST -> {
+                    MessageId id = readId(reader);
+                    int originId = (int) unzigzag(reader.readVarLong());
+                    yield new RequestMsg(null, null, subjectOf(id), sourceOf(id), timestampOf(id), originId);
+                }
+                case TAG_INITIAL_REQUEST -> new InitialRequestMsg(null, null, (int) unzigzag(reader.readVarLong()));
+                case TAG_REQUEST_AND_SPREAD -> {
+                    MessageId id = readId(reader);
+                    int originId = (int) unzigzag(reader.readVarLong());
+                    String data = reader.readString();
+                    yield new RequestAndSpreadMsg(null, null, subjectOf(id), sourceOf(id), timestampOf(id), originId, data);
+                }
+                case TAG_FEEDBACK -> new FeedbackMsg(readId(reader));
+                default -> throw new IOException("Unknown binary frame tag: " + tag);
+            };
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated binary frame", e);
+        }
+    }
+
+    private MessageId readId(Reader reader) throws IOException {
+        if (reader.readByte() == 0) {
+            return null;
+        }
+
+        long code = reader.readVarLong();
+        String subject;
+        if (code == 0) {
+            subject = reader.readString();
+        } else if (code - 1 < subjectCodes.size()) {
+            subject = subjectCodes.get((int) (code - 1));
+        } else {
+            throw new IOException("Unknown subject code: " + (code - 1));
+        }
+
+        int sourceId = (int) unzigzag(reader.readVarLong());
+        long timestamp = unzigzag(reader.readVarLong());
+        return new MessageId(new MessageTopic(subject, sourceId), timestamp);
+    }
+
+    private static String subjectOf(MessageId id) { return id != null ? id.topic().subject() : null; }
+    private static Integer sourceOf(MessageId id) { return id != null ? id.topic().sourceId() : null; }
+    private static Long timestampOf(MessageId id) { return id != null ? id.timestamp() : null; }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // Cursor over an ISO-8859-1 frame
+    private static final class Reader {
+        private final String frame;
+        private int position;
+
+        Reader(String frame) {
+            this.frame = frame;
+        }
+
+        int readByte() {
+            return frame.charAt(position++) & 0xFF;
+        }
+
+        long readVarLong() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IOException("Malformed varint in binary frame");
+        }
+
+        String readString() throws IOException {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            int size = (int) (length - 1);
+            if (position + size > frame.length()) {
+                throw new IOException("Truncated string in binary frame");
+            }
+            byte[] bytes = new byte[size];
+            for (int i = 0; i < size; i++) {
+                bytes[i] = (byte) readByte();
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package epidemic_core.message.node_to_node.codec;
+
+import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.node_to_node.feedback.FeedbackMsg;
+import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
+import epidemic_core.message.node_to_node.request.RequestMsg;
+import epidemic_core.message.node_to_node.request_and_spread.RequestAndSpreadMsg;
+import epidemic_core.message.node_to_node.spread.SpreadMsg;
+
+import java.io.IOException;
+
+// Jackson JSON path (each message class encodes itself)
+public class JsonNodeToNodeCodec implements NodeToNodeCodec {
+
+    @Override
+    public String encode(Object message) throws IOException {
+        if (message instanceof SpreadMsg m) return m.encode();
+        if (message instanceof RequestMsg m) return m.encode();
+        if (message instanceof InitialRequestMsg m) return m.encode();
+        if (message instanceof RequestAndSpreadMsg m) return m.encode();
+        if (message instanceof FeedbackMsg m) return m.encode();
+
+        throw new IllegalArgumentException("Not a node_to_node message: " + message);
+    }
+
+    @Override
+    public Object decode(String raw) throws IOException {
+        if (BinaryNodeToNodeCodec.isBinaryFrame(raw)) {
+            throw new IOException("Binary frame received by a JSON codec");
+        }
+        return MessageDispatcher.decode(raw);
+    }
+
+    @Override
+    public WireFormat getWireFormat() { return WireFormat.JSON; }
+}
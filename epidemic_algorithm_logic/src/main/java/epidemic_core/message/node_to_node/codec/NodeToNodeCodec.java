@@ -0,0 +1,25 @@
+package epidemic_core.message.node_to_node.codec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Encodes/decodes node_to_node messages (SpreadMsg, RequestMsg, InitialRequestMsg,
+ * RequestAndSpreadMsg and FeedbackMsg) to/from the string handed to Communication.
+ * Decoders must also accept JSON, so supervisor_to_node messages keep working.
+ */
+public interface NodeToNodeCodec {
+
+    String encode(Object message) throws IOException;
+
+    Object decode(String raw) throws IOException;
+
+    WireFormat getWireFormat();
+
+    static NodeToNodeCodec create(WireFormat wireFormat, List<String> subjectCodes) {
+        return switch (wireFormat) {
+            case JSON -> new JsonNodeToNodeCodec();
+            case BINARY -> new BinaryNodeToNodeCodec(subjectCodes);
+        };
+    }
+}
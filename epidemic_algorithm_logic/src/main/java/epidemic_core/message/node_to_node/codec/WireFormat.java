@@ -0,0 +1,22 @@
+package epidemic_core.message.node_to_node.codec;
+
+// Encoding used for node_to_node datagrams during a run
+public enum WireFormat
+{
+    JSON,   // human readable, kept for debugging
+    BINARY; // compact tagged binary frames
+
+    public static WireFormat fromString(String input){
+
+        if (input == null) {
+            return BINARY;
+        }
+
+        return switch(input.toLowerCase()){
+            case "json" -> JSON;
+            case "binary" -> BINARY;
+
+            default -> throw new IllegalStateException("Unexpected value: " + input.toLowerCase());
+        };
+    }
+}
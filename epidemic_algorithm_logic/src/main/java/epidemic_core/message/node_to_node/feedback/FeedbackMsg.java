@@ -4,8 +4,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
 import java.io.IOException;
@@ -74,13 +74,11 @@ public class FeedbackMsg {
     }
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(FeedbackMsg.class).writeValueAsString(this);
     }
 
     public static FeedbackMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, FeedbackMsg.class);
+        return MessageMappers.readerFor(FeedbackMsg.class).readValue(jsonString);
     }
 
 }
@@ -3,8 +3,8 @@ package epidemic_core.message.node_to_node.initial_request;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
 import java.io.IOException;
 
@@ -45,13 +45,11 @@ public class InitialRequestMsg {
     }
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(InitialRequestMsg.class).writeValueAsString(this);
     }
 
     public static InitialRequestMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, InitialRequestMsg.class);
+        return MessageMappers.readerFor(InitialRequestMsg.class).readValue(jsonString);
     }
 
 }
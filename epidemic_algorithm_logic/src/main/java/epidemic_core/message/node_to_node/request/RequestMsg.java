@@ -3,8 +3,8 @@ package epidemic_core.message.node_to_node.request;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
@@ -74,12 +74,10 @@ public class RequestMsg {
     }
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(RequestMsg.class).writeValueAsString(this);
     }
 
     public static RequestMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, RequestMsg.class);
+        return MessageMappers.readerFor(RequestMsg.class).readValue(jsonString);
     }
 }
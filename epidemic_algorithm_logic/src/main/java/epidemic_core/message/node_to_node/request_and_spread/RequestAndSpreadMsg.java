@@ -3,8 +3,8 @@ package epidemic_core.message.node_to_node.request_and_spread;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
@@ -77,12 +77,10 @@ public class RequestAndSpreadMsg {
     }
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(RequestAndSpreadMsg.class).writeValueAsString(this);
     }
 
     public static RequestAndSpreadMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, RequestAndSpreadMsg.class);
+        return MessageMappers.readerFor(RequestAndSpreadMsg.class).readValue(jsonString);
     }
 }
@@ -3,8 +3,8 @@ package epidemic_core.message.node_to_node.spread;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
@@ -78,12 +78,10 @@ public class SpreadMsg {
     }
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(SpreadMsg.class).writeValueAsString(this);
     }
 
     public static SpreadMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, SpreadMsg.class);
+        return MessageMappers.readerFor(SpreadMsg.class).readValue(jsonString);
     }
 }
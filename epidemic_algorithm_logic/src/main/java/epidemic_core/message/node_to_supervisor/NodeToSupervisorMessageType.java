@@ -3,5 +3,6 @@ package epidemic_core.message.node_to_supervisor;
 public enum NodeToSupervisorMessageType {
     infection_update,
     remotion_update,
+    status_batch,
     hello
 }
@@ -3,8 +3,8 @@ package epidemic_core.message.node_to_supervisor.infection_update;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
@@ -94,12 +94,10 @@ public class InfectionUpdateMsg {
     // --------------------------------------------------
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(InfectionUpdateMsg.class).writeValueAsString(this);
     }
 
     public static InfectionUpdateMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, InfectionUpdateMsg.class);
+        return MessageMappers.readerFor(InfectionUpdateMsg.class).readValue(jsonString);
     }
 }
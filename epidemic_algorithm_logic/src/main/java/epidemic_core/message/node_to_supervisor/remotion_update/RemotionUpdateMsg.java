@@ -3,8 +3,8 @@ package epidemic_core.message.node_to_supervisor.remotion_update;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
@@ -81,12 +81,10 @@ public class RemotionUpdateMsg {
     // --------------------------------------------------
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(RemotionUpdateMsg.class).writeValueAsString(this);
     }
 
     public static RemotionUpdateMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, RemotionUpdateMsg.class);
+        return MessageMappers.readerFor(RemotionUpdateMsg.class).readValue(jsonString);
     }
 }
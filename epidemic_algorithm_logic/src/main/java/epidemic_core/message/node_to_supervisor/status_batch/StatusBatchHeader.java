@@ -0,0 +1,16 @@
+package epidemic_core.message.node_to_supervisor.status_batch;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
+
+public record StatusBatchHeader() {
+
+    public Direction direction() {
+        return Direction.node_to_supervisor;
+    }
+
+    public NodeToSupervisorMessageType messageType() {
+        return NodeToSupervisorMessageType.status_batch;
+    }
+
+}
@@ -0,0 +1,113 @@
+package epidemic_core.message.node_to_supervisor.status_batch;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
+import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Message Node -> Supervisor: every infection/remotion a node reported since its last flush
+ * (same information as InfectionUpdateMsg / RemotionUpdateMsg, one message per batch)
+ */
+
+@JsonPropertyOrder({"direction", "messageType", "updated_node_id", "round", "roundLagMs", "missedRounds", "infections", "remotions"})
+public class StatusBatchMsg {
+
+    @JsonPropertyOrder({"infecting_node_id", "subject", "sourceId", "timestamp", "data"})
+    public record InfectionEntry(@JsonProperty("infecting_node_id") int infectingNodeId,
+                                 @JsonProperty("subject") String subject,
+                                 @JsonProperty("sourceId") Integer sourceId,
+                                 @JsonProperty("timestamp") Long timestamp,
+                                 @JsonProperty("data") String data) {}
+
+    @JsonPropertyOrder({"subject", "sourceId", "timestamp"})
+    public record RemotionEntry(@JsonProperty("subject") String subject,
+                                @JsonProperty("sourceId") Integer sourceId,
+                                @JsonProperty("timestamp") Long timestamp) {}
+
+    private final StatusBatchHeader header;
+    private final int updated_node_id;
+    private final int round; // node's round count when the batch was flushed
+    private final Long roundLagMs; // lag of that round's start signal at the node (null = unknown)
+    private final Long missedRounds; // round signals the node never received so far
+    private final List<InfectionEntry> infections;
+    private final List<RemotionEntry> remotions;
+
+    public StatusBatchMsg(String direction, String messageType, int updated_node_id, int round,
+                          List<InfectionEntry> infections, List<RemotionEntry> remotions) {
+        this(direction, messageType, updated_node_id, round, null, null, infections, remotions);
+    }
+
+    // Constructor
+    @JsonCreator
+    public StatusBatchMsg(@JsonProperty("direction") String direction,
+                          @JsonProperty("messageType") String messageType,
+                          @JsonProperty("updated_node_id") int updated_node_id,
+                          @JsonProperty("round") int round,
+                          @JsonProperty("roundLagMs") Long roundLagMs,
+                          @JsonProperty("missedRounds") Long missedRounds,
+                          @JsonProperty("infections") List<InfectionEntry> infections,
+                          @JsonProperty("remotions") List<RemotionEntry> remotions) {
+
+        if (direction != null && !Direction.node_to_supervisor.toString().equals(direction)) {
+            throw new IllegalArgumentException("Invalid direction for StatusBatchMsg: " + direction);
+        }
+        if (messageType != null && !NodeToSupervisorMessageType.status_batch.toString().equals(messageType)) {
+            throw new IllegalArgumentException("Invalid messageType for StatusBatchMsg: " + messageType);
+        }
+        this.header = new StatusBatchHeader();
+        this.updated_node_id = updated_node_id;
+        this.round = round;
+        this.roundLagMs = roundLagMs;
+        this.missedRounds = missedRounds;
+        this.infections = infections != null ? infections : List.of();
+        this.remotions = remotions != null ? remotions : List.of();
+    }
+
+    // getters
+    public StatusBatchHeader getHeader() { return header; }
+
+    @JsonProperty("direction")
+    public String getDirection() {
+        return header.direction().toString();
+    }
+
+    @JsonProperty("messageType")
+    public String getMessageType() {
+        return header.messageType().toString();
+    }
+
+    @JsonProperty("updated_node_id")
+    public int getUpdatedNodeId() { return updated_node_id; }
+
+    @JsonProperty("round")
+    public int getRound() { return round; }
+
+    @JsonProperty("roundLagMs")
+    public Long getRoundLagMs() { return roundLagMs; }
+
+    @JsonProperty("missedRounds")
+    public Long getMissedRounds() { return missedRounds; }
+
+    @JsonProperty("infections")
+    public List<InfectionEntry> getInfections() { return infections; }
+
+    @JsonProperty("remotions")
+    public List<RemotionEntry> getRemotions() { return remotions; }
+
+    public int size() { return infections.size() + remotions.size(); }
+
+    // --------------------------------------------------
+
+    public String encode() throws IOException {
+        return MessageMappers.writerFor(StatusBatchMsg.class).writeValueAsString(this);
+    }
+
+    public static StatusBatchMsg decodeMessage(String jsonString) throws IOException {
+        return MessageMappers.readerFor(StatusBatchMsg.class).readValue(jsonString);
+    }
+}
@@ -3,8 +3,8 @@ package epidemic_core.message.supervisor_to_node.kill_node;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
 
 import java.io.IOException;
@@ -44,12 +44,10 @@ public class KillNodeMsg {
     }
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(KillNodeMsg.class).writeValueAsString(this);
     }
 
     public static KillNodeMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, KillNodeMsg.class);
+        return MessageMappers.readerFor(KillNodeMsg.class).readValue(jsonString);
     }
 }
@@ -4,8 +4,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
 import general.communication.utils.Address;
@@ -22,19 +22,30 @@ import java.util.Map;
  */
 @JsonPropertyOrder({"direction", "messageType", "nodeId", "supervisorTcpAddress", "neighbors", 
                    "nodeToAddressTable", "subscribedTopics", "assignedSubjectAsSource", 
-                   "mode", "protocol", "k"})
+                   "mode", "protocol", "k", "wireFormat", "subjectCodes",
+                   "workerMode", "workerTickMs", "reportBatchSize", "reportFlushMs",
+                   "roundSync", "roundChildren", "roundMulticastGroup"})
 public class StartNodeMsg {
 
     private final StartNodeHeader header;
     private final int nodeId;
     private final String supervisorTcpAddress;
     private final List<Integer> neighbors;
-    private final Map<String, String> nodeToAddressTable;     // Map<nodeId as string, "ip:port">
+    private final Map<String, String> nodeToAddressTable;     // Map<nodeId as string, "ip:port">: this node and its neighbours
     private final List<Map<String, Object>> subscribedTopics; // List of {subject, sourceId}
     private final String assignedSubjectAsSource;
     private final String mode;
     private final String protocol;
     private final Double k;
+    private final String wireFormat;          // node_to_node encoding for this run
+    private final List<String> subjectCodes;  // subject table used by the binary codec
+    private final String workerMode;          // "polling" or "event_driven"
+    private final Long workerTickMs;
+    private final Integer reportBatchSize;    // status reports per StatusBatchMsg (null/<=1 = one message per update)
+    private final Long reportFlushMs;         // max time a report waits in the batch
+    private final String roundSync;           // "unicast", "multicast" or "tree"
+    private final List<Integer> roundChildren; // tree: nodes this one forwards round signals to
+    private final String roundMulticastGroup; // multicast: "ip:port" group to join
 
     @JsonCreator
     public StartNodeMsg(@JsonProperty("direction") String direction,
@@ -47,7 +58,16 @@ public class StartNodeMsg {
                        @JsonProperty("assignedSubjectAsSource") String assignedSubjectAsSource,
                        @JsonProperty("mode") String mode,
                        @JsonProperty("protocol") String protocol,
-                       @JsonProperty("k") Double k) {
+                       @JsonProperty("k") Double k,
+                       @JsonProperty("wireFormat") String wireFormat,
+                       @JsonProperty("subjectCodes") List<String> subjectCodes,
+                       @JsonProperty("workerMode") String workerMode,
+                       @JsonProperty("workerTickMs") Long workerTickMs,
+                       @JsonProperty("reportBatchSize") Integer reportBatchSize,
+                       @JsonProperty("reportFlushMs") Long reportFlushMs,
+                       @JsonProperty("roundSync") String roundSync,
+                       @JsonProperty("roundChildren") List<Integer> roundChildren,
+                       @JsonProperty("roundMulticastGroup") String roundMulticastGroup) {
         
         if (direction != null && !Direction.supervisor_to_node.toString().equals(direction)) {
             throw new IllegalArgumentException("Invalid direction for StartNodeMsg: " + direction);
@@ -65,6 +85,15 @@ public class StartNodeMsg {
         this.mode = mode;
         this.protocol = protocol;
         this.k = k;
+        this.wireFormat = wireFormat;
+        this.subjectCodes = subjectCodes != null ? new ArrayList<>(subjectCodes) : new ArrayList<>();
+        this.workerMode = workerMode;
+        this.workerTickMs = workerTickMs;
+        this.reportBatchSize = reportBatchSize;
+        this.reportFlushMs = reportFlushMs;
+        this.roundSync = roundSync;
+        this.roundChildren = roundChildren != null ? new ArrayList<>(roundChildren) : new ArrayList<>();
+        this.roundMulticastGroup = roundMulticastGroup;
     }
 
     // Getters
@@ -134,13 +163,38 @@ public class StartNodeMsg {
     @JsonProperty("k")
     public Double getK() { return k; }
 
+    @JsonProperty("wireFormat")
+    public String getWireFormat() { return wireFormat; }
+
+    @JsonProperty("subjectCodes")
+    public List<String> getSubjectCodes() { return new ArrayList<>(subjectCodes); }
+
+    @JsonProperty("workerMode")
+    public String getWorkerMode() { return workerMode; }
+
+    @JsonProperty("workerTickMs")
+    public Long getWorkerTickMs() { return workerTickMs; }
+
+    @JsonProperty("reportBatchSize")
+    public Integer getReportBatchSize() { return reportBatchSize; }
+
+    @JsonProperty("reportFlushMs")
+    public Long getReportFlushMs() { return reportFlushMs; }
+
+    @JsonProperty("roundSync")
+    public String getRoundSync() { return roundSync; }
+
+    @JsonProperty("roundChildren")
+    public List<Integer> getRoundChildren() { return new ArrayList<>(roundChildren); }
+
+    @JsonProperty("roundMulticastGroup")
+    public String getRoundMulticastGroup() { return roundMulticastGroup; }
+
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(StartNodeMsg.class).writeValueAsString(this);
     }
 
     public static StartNodeMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, StartNodeMsg.class);
+        return MessageMappers.readerFor(StartNodeMsg.class).readValue(jsonString);
     }
 }
@@ -3,23 +3,33 @@ package epidemic_core.message.supervisor_to_node.start_round;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
 import java.io.IOException;
 
 /**
  * Message Supervisor -> Node: Start round signal
+ * round lets nodes detect missed signals; sentAtMs (supervisor clock) lets them measure round-start lag.
+ * Both are optional (null for the discrete-event simulator, which has no wall clock).
  */
-@JsonPropertyOrder({ "direction", "messageType" })
+@JsonPropertyOrder({ "direction", "messageType", "round", "sentAtMs" })
 public class StartRoundMsg {
 
     private final StartRoundHeader header;
+    private final Integer round;
+    private final Long sentAtMs;
+
+    public StartRoundMsg(String direction, String messageType) {
+        this(direction, messageType, null, null);
+    }
 
     // Constructor
     @JsonCreator
     public StartRoundMsg(@JsonProperty("direction") String direction,
-            @JsonProperty("messageType") String messageType) {
+            @JsonProperty("messageType") String messageType,
+            @JsonProperty("round") Integer round,
+            @JsonProperty("sentAtMs") Long sentAtMs) {
 
         if (direction != null && !Direction.supervisor_to_node.toString().equals(direction)
                 && !Direction.supervisor_to_ui.toString().equals(direction)) {
@@ -29,6 +39,8 @@ public class StartRoundMsg {
             throw new IllegalArgumentException("Invalid messageType for StartRoundMsg: " + messageType);
         }
         this.header = new StartRoundHeader();
+        this.round = round;
+        this.sentAtMs = sentAtMs;
     }
 
     // Getters
@@ -46,16 +58,24 @@ public class StartRoundMsg {
         return header.messageType().toString();
     }
 
+    @JsonProperty("round")
+    public Integer getRound() {
+        return round;
+    }
+
+    @JsonProperty("sentAtMs")
+    public Long getSentAtMs() {
+        return sentAtMs;
+    }
+
     // encode
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(StartRoundMsg.class).writeValueAsString(this);
     }
 
     // decode
     public static StartRoundMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, StartRoundMsg.class);
+        return MessageMappers.readerFor(StartRoundMsg.class).readValue(jsonString);
     }
 
 }
@@ -3,9 +3,9 @@ package epidemic_core.message.supervisor_to_ui.structural_infos;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.supervisor_to_ui.SupervisorToUiMessageType;
 
 import java.io.IOException;
@@ -95,13 +95,11 @@ public class StructuralInfosMsg {
     }
 
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(StructuralInfosMsg.class).writeValueAsString(this);
     }
 
     public static StructuralInfosMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, StructuralInfosMsg.class);
+        return MessageMappers.readerFor(StructuralInfosMsg.class).readValue(jsonString);
     }
 
     // Getters
@@ -3,8 +3,8 @@ package epidemic_core.message.ui_to_supervisor.end_system;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.ui_to_supervisor.UiToSupervisorMessageType;
 import java.io.IOException;
 
@@ -45,13 +45,11 @@ public class EndMsg {
 
     // encode
     public String encode() throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return MessageMappers.writerFor(EndMsg.class).writeValueAsString(this);
     }
 
     // decode
     public static EndMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonString, EndMsg.class);
+        return MessageMappers.readerFor(EndMsg.class).readValue(jsonString);
     }
 }
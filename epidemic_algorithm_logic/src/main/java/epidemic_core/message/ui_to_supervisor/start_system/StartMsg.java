@@ -2,8 +2,8 @@ package epidemic_core.message.ui_to_supervisor.start_system;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.ui_to_supervisor.UiToSupervisorMessageType;
 import general.communication.utils.Address;
 import java.io.IOException;
@@ -18,9 +18,28 @@ public class StartMsg {
     private Integer N;
     private Integer sourceNodes;
     private String topology;
+    private String topologyFile; // optional edge-list file replacing the generated topology
+    private String topologyExportFile; // optional: write the topology used, to replay the run
     private String protocol;
     private String mode;
     private String deployment; // "local" or "distributed"
+    private String wireFormat; // "binary" or "json" (node_to_node encoding)
+    private String workerMode; // "polling" or "event_driven"
+    private Long workerTickMs; // optional tick for event_driven workers (0/null = none)
+    private String transport; // "udp", "nio_udp" or "in_memory" (local mode only)
+    private String linkLatency; // in_memory link latency spec, e.g. "fixed:2", "uniform:1:5", "exponential:3"
+    private Double dropProbability; // in_memory datagram loss in [0, 1]
+    private Long bandwidthBytesPerSec; // in_memory per-sender link cap (0 = unlimited)
+    private Integer reportBatchSize; // node status reports per StatusBatchMsg (<=1 = one message per update)
+    private Long reportFlushMs; // max time a status report waits in a node's batch
+    private String roundSync; // StartRoundMsg delivery: "unicast", "multicast" or "tree"
+    private Integer roundTreeArity; // children per node (and roots) for "tree"
+    private String roundPacing; // next round: "fixed", "fast" (on quiescence) or "adaptive"
+    private Long roundIntervalMs; // fixed round interval, upper bound for "fast"/"adaptive"
+    private Long roundMinIntervalMs; // lower bound for "fast"/"adaptive"
+    private Long roundQuietMs; // no new messages for this long = quiescent
+    private Boolean stopOnConvergence; // stop firing rounds once the run converged / went quiescent
+    private Integer convergenceQuietRounds; // rounds without any infection/remotion change = quiescent
 
     // Constructor
     @JsonCreator
@@ -30,9 +49,28 @@ public class StartMsg {
                      @JsonProperty("N") Integer N,
                      @JsonProperty("sourceNodes") Integer sourceNodes,
                      @JsonProperty("topology") String topology,
+                     @JsonProperty("topologyFile") String topologyFile,
+                     @JsonProperty("topologyExportFile") String topologyExportFile,
                      @JsonProperty("protocol") String protocol,
                      @JsonProperty("mode") String mode,
-                     @JsonProperty("deployment") String deployment) {
+                     @JsonProperty("deployment") String deployment,
+                     @JsonProperty("wireFormat") String wireFormat,
+                     @JsonProperty("workerMode") String workerMode,
+                     @JsonProperty("workerTickMs") Long workerTickMs,
+                     @JsonProperty("transport") String transport,
+                     @JsonProperty("linkLatency") String linkLatency,
+                     @JsonProperty("dropProbability") Double dropProbability,
+                     @JsonProperty("bandwidthBytesPerSec") Long bandwidthBytesPerSec,
+                     @JsonProperty("reportBatchSize") Integer reportBatchSize,
+                     @JsonProperty("reportFlushMs") Long reportFlushMs,
+                     @JsonProperty("roundSync") String roundSync,
+                     @JsonProperty("roundTreeArity") Integer roundTreeArity,
+                     @JsonProperty("roundPacing") String roundPacing,
+                     @JsonProperty("roundIntervalMs") Long roundIntervalMs,
+                     @JsonProperty("roundMinIntervalMs") Long roundMinIntervalMs,
+                     @JsonProperty("roundQuietMs") Long roundQuietMs,
+                     @JsonProperty("stopOnConvergence") Boolean stopOnConvergence,
+                     @JsonProperty("convergenceQuietRounds") Integer convergenceQuietRounds) {
          
         if (direction != null && !Direction.ui_to_supervisor.toString().equals(direction)) {
             throw new IllegalArgumentException("Invalid direction for StartRoundMsg: " + direction);
@@ -45,15 +83,32 @@ public class StartMsg {
         this.N = N;
         this.sourceNodes = sourceNodes;
         this.topology = topology;
+        this.topologyFile = topologyFile;
+        this.topologyExportFile = topologyExportFile;
         this.protocol = protocol;
         this.mode = mode;
         this.deployment = deployment != null ? deployment : "local"; // Default to "local" if not provided
+        this.wireFormat = wireFormat != null ? wireFormat : "binary"; // JSON kept for debugging
+        this.workerMode = workerMode != null ? workerMode : "polling";
+        this.workerTickMs = workerTickMs != null ? workerTickMs : 0L;
+        this.transport = transport != null ? transport : "udp";
+        this.linkLatency = linkLatency != null ? linkLatency : "none";
+        this.dropProbability = dropProbability != null ? dropProbability : 0.0;
+        this.bandwidthBytesPerSec = bandwidthBytesPerSec != null ? bandwidthBytesPerSec : 0L;
+        this.reportBatchSize = reportBatchSize != null ? reportBatchSize : 256;
+        this.reportFlushMs = reportFlushMs != null ? reportFlushMs : 100L;
+        this.roundSync = roundSync != null ? roundSync : "unicast";
+        this.roundTreeArity = roundTreeArity != null ? roundTreeArity : 4;
+        this.roundPacing = roundPacing != null ? roundPacing : "fixed";
+        this.roundIntervalMs = roundIntervalMs != null ? roundIntervalMs : 5000L;
+        this.roundMinIntervalMs = roundMinIntervalMs != null ? roundMinIntervalMs : 50L;
+        this.roundQuietMs = roundQuietMs != null ? roundQuietMs : this.reportFlushMs + 100L; // let pending report batches flush
+        this.stopOnConvergence = stopOnConvergence != null ? stopOnConvergence : true;
+        this.convergenceQuietRounds = convergenceQuietRounds != null ? convergenceQuietRounds : 5;
     }
 
     public static StartMsg decodeMessage(String jsonString) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        StartMsg msg = objectMapper.readValue(jsonString, StartMsg.class);
-        return msg;
+        return MessageMappers.readerFor(StartMsg.class).readValue(jsonString);
     }
 
     // Getters
@@ -62,9 +117,28 @@ public class StartMsg {
     public Integer getN() { return N; }
     public Integer getSourceNodes() { return sourceNodes; }
     public String getTopology() { return topology; }
+    public String getTopologyFile() { return topologyFile; }
+    public String getTopologyExportFile() { return topologyExportFile; }
     public String getProtocol() { return protocol; }
     public String getMode() { return mode; }
     public String getDeployment() { return deployment; }
+    public String getWireFormat() { return wireFormat; }
+    public String getWorkerMode() { return workerMode; }
+    public Long getWorkerTickMs() { return workerTickMs; }
+    public String getTransport() { return transport; }
+    public String getLinkLatency() { return linkLatency; }
+    public Double getDropProbability() { return dropProbability; }
+    public Long getBandwidthBytesPerSec() { return bandwidthBytesPerSec; }
+    public Integer getReportBatchSize() { return reportBatchSize; }
+    public Long getReportFlushMs() { return reportFlushMs; }
+    public String getRoundSync() { return roundSync; }
+    public Integer getRoundTreeArity() { return roundTreeArity; }
+    public String getRoundPacing() { return roundPacing; }
+    public Long getRoundIntervalMs() { return roundIntervalMs; }
+    public Long getRoundMinIntervalMs() { return roundMinIntervalMs; }
+    public Long getRoundQuietMs() { return roundQuietMs; }
+    public Boolean getStopOnConvergence() { return stopOnConvergence; }
+    public Integer getConvergenceQuietRounds() { return convergenceQuietRounds; }
 
     @JsonProperty("direction")
     public String getDirection() {
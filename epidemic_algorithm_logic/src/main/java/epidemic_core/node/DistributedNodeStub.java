@@ -1,27 +1,34 @@
 package epidemic_core.node;
 
 import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.node_to_node.codec.NodeToNodeCodec;
+import epidemic_core.message.node_to_node.codec.WireFormat;
 import epidemic_core.message.node_to_supervisor.hello.HelloMsg;
 import epidemic_core.message.supervisor_to_node.kill_node.KillNodeMsg;
 import epidemic_core.message.supervisor_to_node.start_node.StartNodeMsg;
-import epidemic_core.node.mode.NodeMode;
+import epidemic_core.node.pacing.WorkerMode;
+import epidemic_core.node.round_sync.MulticastRoundReceiver;
+import epidemic_core.node.round_sync.RoundSyncMode;
 import epidemic_core.node.mode.pull.anti_entropy.AntiEntropyPullNode;
 import epidemic_core.node.mode.pull.gossip.GossipPullNode;
-import epidemic_core.node.mode.pull.gossip.blind.coin.BlindCoinPullNode;
-import epidemic_core.node.mode.pull.gossip.feedback.coin.FeedbackCoinPullNode;
 import epidemic_core.node.mode.push.anti_entropy.AntiEntropyPushNode;
 import epidemic_core.node.mode.push.gossip.GossipPushNode;
-import epidemic_core.node.mode.push.gossip.blind.coin.BlindCoinPushNode;
-import epidemic_core.node.mode.push.gossip.feedback.coin.FeedbackCoinPushNode;
 import epidemic_core.node.mode.pushpull.anti_entropy.AntiEntropyPushPullNode;
 import epidemic_core.node.mode.pushpull.gossip.GossipPushPullNode;
-import epidemic_core.node.mode.pushpull.gossip.blind.coin.BlindCoinPushPullNode;
-import epidemic_core.node.mode.pushpull.gossip.feedback.coin.FeedbackCoinPushPullNode;
+import general.communication.Communication;
+import general.communication.Transport;
+import general.communication.implementation.NioUdpCommunication;
+import general.communication.implementation.PooledTcpCommunication;
 import general.communication.implementation.TcpCommunication;
 import general.communication.implementation.UdpCommunication;
+import general.communication.implementation.in_memory.InMemoryCommunication;
+import general.communication.implementation.in_memory.InMemoryFabric;
 import general.communication.utils.Address;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -31,6 +38,9 @@ import java.util.Random;
  * - WAVING: Sends HelloMsg via UDP broadcast every 2s, listens for StartNodeMsg
  * - WORKING: Normal node operation after receiving StartNodeMsg
  * - Returns to WAVING when receiving KillNodeMsg
+ *
+ * Transport: UDP/NIO_UDP sockets, or IN_MEMORY where every endpoint (hello broadcast,
+ * StartNodeMsg, node-to-node, reports to the supervisor) lives on the given fabric.
  */
 public class DistributedNodeStub {
 
@@ -46,24 +56,46 @@ public class DistributedNodeStub {
     
     private volatile State state = State.WAVING;
     private final int helloIntervalMs;
-    private UdpCommunication udpCommunication;
-    private TcpCommunication tcpCommunication;
+    private final InMemoryFabric fabric; // null = sockets
+    private Communication udpCommunication;
+    private Communication tcpCommunication;
     private Address myUdpAddress;
     private Address myTcpAddress;
     private Node actualNode;
+    private MulticastRoundReceiver roundReceiver; // MULTICAST round sync over sockets
     private Thread nodeThread;
     private Thread wavingThread;
     private Thread tcpListeningThread;
 
     public DistributedNodeStub(String ip, int udpPort) {
+        this(ip, udpPort, Transport.UDP, null);
+    }
+
+    public DistributedNodeStub(String ip, int udpPort, Transport transport, InMemoryFabric fabric) {
+        if (transport == Transport.IN_MEMORY && fabric == null) {
+            throw new IllegalArgumentException("IN_MEMORY transport needs an InMemoryFabric");
+        }
+        this.fabric = transport == Transport.IN_MEMORY ? fabric : null;
         this.helloIntervalMs = HELLO_INTERVAL_MIN_MS + random.nextInt(HELLO_INTERVAL_MAX_MS - HELLO_INTERVAL_MIN_MS + 1);
         
         this.myUdpAddress = new Address(ip, udpPort);
         int tcpPort = udpPort + 1;
         this.myTcpAddress = new Address(ip, tcpPort);
         
-        this.udpCommunication = new UdpCommunication();
-        this.tcpCommunication = new TcpCommunication();
+        switch (transport) {
+            case IN_MEMORY -> {
+                this.udpCommunication = this.fabric.newCommunication();
+                this.tcpCommunication = this.fabric.newReliableCommunication();
+            }
+            case NIO_UDP -> {
+                this.udpCommunication = new NioUdpCommunication();
+                this.tcpCommunication = new TcpCommunication();
+            }
+            default -> {
+                this.udpCommunication = new UdpCommunication();
+                this.tcpCommunication = new TcpCommunication();
+            }
+        }
 
         udpCommunication.setupSocket(myUdpAddress);
 
@@ -95,7 +127,13 @@ public class DistributedNodeStub {
                     
                     String encodedHello = helloMsg.encode();
 
-                    ((UdpCommunication) udpCommunication).sendBroadcastMessage(SUPERVISOR_DISCOVERY_PORT, encodedHello);
+                    if (udpCommunication instanceof UdpCommunication udp) {
+                        udp.sendBroadcastMessage(SUPERVISOR_DISCOVERY_PORT, encodedHello);
+                    } else if (udpCommunication instanceof NioUdpCommunication nioUdp) {
+                        nioUdp.sendBroadcastMessage(SUPERVISOR_DISCOVERY_PORT, encodedHello);
+                    } else if (udpCommunication instanceof InMemoryCommunication inMemory) {
+                        inMemory.sendBroadcastMessage(SUPERVISOR_DISCOVERY_PORT, encodedHello);
+                    }
 
                     Thread.sleep(helloIntervalMs);
                 } catch (IOException e) {
@@ -170,14 +208,49 @@ public class DistributedNodeStub {
             String protocol = msg.getProtocol();
             Double k = msg.getK();
 
-            Node node = createNode(nodeId, neighbors, assignedSubjectAsSource, 
+            Node node = NodeFactory.createNode(nodeId, neighbors, assignedSubjectAsSource,
                                   nodeToAddressTable, subscribedTopics, supervisorTcpAddress,
-                                  mode, protocol, k);
+                                  mode, protocol, k, udpCommunication);
             
             this.actualNode = node;
 
-            TcpCommunication tcpComm = new TcpCommunication();
-            node.supervisorTcpCommunication = tcpComm;
+            // One long-lived connection carries every report of this run to the supervisor
+            node.supervisorTcpCommunication = fabric != null ? fabric.newReliableCommunication() : new PooledTcpCommunication();
+
+            // Status reports coalesced into StatusBatchMsg over the supervisor connection
+            int reportBatchSize = msg.getReportBatchSize() != null ? msg.getReportBatchSize() : 0;
+            long reportFlushMs = msg.getReportFlushMs() != null ? msg.getReportFlushMs() : 0L;
+            node.getStatusReporter().configure(reportBatchSize, reportFlushMs);
+
+            // Node-to-node encoding negotiated for this run
+            node.setCodec(NodeToNodeCodec.create(WireFormat.fromString(msg.getWireFormat()), msg.getSubjectCodes()));
+
+            // Worker pacing for this run (polling vs event-driven)
+            long workerTickMs = msg.getWorkerTickMs() != null ? msg.getWorkerTickMs() : 0L;
+            node.setWorkerMode(WorkerMode.fromString(msg.getWorkerMode()), workerTickMs);
+
+            // Round clock: children to forward round signals to, or the multicast group to join
+            RoundSyncMode roundSync = RoundSyncMode.fromString(msg.getRoundSync());
+            if (roundSync == RoundSyncMode.TREE) {
+                List<Address> children = new ArrayList<>();
+                for (Integer child : msg.getRoundChildren()) {
+                    Address childAddress = nodeToAddressTable.get(child);
+                    if (childAddress != null) {
+                        children.add(childAddress);
+                    }
+                }
+                node.getRoundTracker().setTreeChildren(children);
+            } else if (roundSync == RoundSyncMode.MULTICAST && fabric == null && msg.getRoundMulticastGroup() != null) {
+                Address group = Address.parse(msg.getRoundMulticastGroup());
+                try {
+                    // datagrams go through the node's own socket so its Listener handles them like unicast ones
+                    roundReceiver = new MulticastRoundReceiver(new InetSocketAddress(group.getIp(), group.getPort()),
+                            myUdpAddress.getIp(), raw -> udpCommunication.sendMessage(myUdpAddress, raw));
+                } catch (IOException e) {
+                    System.err.println("[DistributedNodeStub] Could not join round multicast group " + group.getIp() + ":"
+                            + group.getPort() + " (round signals will be missed): " + e.getMessage());
+                }
+            }
 
             if (node instanceof AntiEntropyPullNode n) n.startRunning();
             else if (node instanceof AntiEntropyPushNode n) n.startRunning();
@@ -197,66 +270,10 @@ public class DistributedNodeStub {
         }
     }
 
-    private Node createNode(int nodeId,
-                           java.util.List<Integer> neighbors,
-                           String assignedSubjectAsSource,
-                           java.util.Map<Integer, Address> nodeToAddressTable,
-                           java.util.List<epidemic_core.message.common.MessageTopic> subscribedTopics,
-                           Address supervisorAddress,
-                           String mode,
-                           String protocol,
-                           Double k) {
-        
-        NodeMode nodeMode = NodeMode.fromString(mode);
-        String protocolLower = protocol != null ? protocol.toLowerCase() : "anti_entropy";
-        double kValue = k != null ? k : 2.0;
-        
-        switch (nodeMode) {
-            case PULL:
-                return switch (protocolLower) {
-                    case "anti_entropy" -> new AntiEntropyPullNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                   nodeToAddressTable, subscribedTopics, supervisorAddress, udpCommunication);
-                    case "gossip_feedback_coin", "feedback_coin" -> new FeedbackCoinPullNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                                             nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, udpCommunication);
-                    case "gossip_blind_coin", "blind_coin" -> new BlindCoinPullNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                                    nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, udpCommunication);
-                    default -> throw new IllegalArgumentException("Invalid protocol for PULL mode: " + protocol);
-                };
-            
-            case PUSH:
-                return switch (protocolLower) {
-                    case "anti_entropy" -> new AntiEntropyPushNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                   nodeToAddressTable, subscribedTopics, supervisorAddress, udpCommunication);
-                    case "gossip_feedback_coin", "feedback_coin" -> new FeedbackCoinPushNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                                             nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, udpCommunication);
-                    case "gossip_blind_coin", "blind_coin" -> new BlindCoinPushNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                                    nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, udpCommunication);
-                    default -> throw new IllegalArgumentException("Invalid protocol for PUSH mode: " + protocol);
-                };
-            
-            case PUSHPULL:
-                return switch (protocolLower) {
-                    case "anti_entropy" -> new AntiEntropyPushPullNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                       nodeToAddressTable, subscribedTopics, supervisorAddress, udpCommunication);
-                    case "gossip_feedback_coin", "feedback_coin" -> new FeedbackCoinPushPullNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                                                 nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, udpCommunication);
-                    case "gossip_blind_coin", "blind_coin" -> new BlindCoinPushPullNode(nodeId, neighbors, assignedSubjectAsSource, 
-                                                                                        nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, udpCommunication);
-                    default -> throw new IllegalArgumentException("Invalid protocol for PUSHPULL mode: " + protocol);
-                };
-            
-            default:
-                throw new IllegalArgumentException("Invalid node mode: " + mode);
-        }
-    }
-
     private void handleKillNodeMsg() {
         System.out.println("[DistributedNodeStub] Received KillNodeMsg - returning to WAVING state");
 
-        if (actualNode != null) {
-            actualNode.stop();
-            actualNode = null;
-        }
+        stopActualNode();
         
         if (nodeThread != null) {
             nodeThread.interrupt();
@@ -266,6 +283,22 @@ public class DistributedNodeStub {
         startWaving();
     }
 
+    private void stopActualNode() {
+        if (roundReceiver != null) {
+            roundReceiver.close();
+            roundReceiver = null;
+        }
+        if (actualNode == null) {
+            return;
+        }
+        actualNode.stop();
+        actualNode.getStatusReporter().flush();
+        if (actualNode.supervisorTcpCommunication != null) {
+            actualNode.supervisorTcpCommunication.closeSocket(); // flushes and drops the pooled connection
+        }
+        actualNode = null;
+    }
+
     public Node getActualNode() {
         return actualNode;
     }
@@ -281,9 +314,7 @@ public class DistributedNodeStub {
         if (tcpListeningThread != null) {
             tcpListeningThread.interrupt();
         }
-        if (actualNode != null) {
-            actualNode.stop();
-        }
+        stopActualNode();
         if (udpCommunication != null) {
             udpCommunication.closeSocket();
         }
@@ -308,17 +339,24 @@ public class DistributedNodeStub {
             ip = "127.0.0.1";
             port = 8000;
             System.out.println("No arguments provided. Using default: " + ip + ":" + port);
-            System.out.println("Usage: java DistributedNodeStub <ip> <port>");
+            System.out.println("Usage: java DistributedNodeStub <ip> <port> [udp|nio_udp]");
+        }
+
+        Transport transport = args.length >= 3 ? Transport.fromString(args[2]) : Transport.UDP;
+        if (transport == Transport.IN_MEMORY) {
+            System.err.println("in_memory transport is only available in local mode. Using udp.");
+            transport = Transport.UDP;
         }
         
         System.out.println("================================================");
         System.out.println("Starting DistributedNodeStub");
         System.out.println("  IP: " + ip);
         System.out.println("  Port: " + port);
+        System.out.println("  Transport: " + transport);
         System.out.println("  Mode: WAVING (waiting for StartNodeMsg from supervisor)");
         System.out.println("================================================");
 
-        DistributedNodeStub stub = new DistributedNodeStub(ip, port);
+        DistributedNodeStub stub = new DistributedNodeStub(ip, port, transport, null);
 
         try {
             Thread.currentThread().join();
@@ -5,20 +5,19 @@ import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
 import epidemic_core.message.node_to_supervisor.remotion_update.RemotionUpdateMsg;
+import epidemic_core.message.node_to_supervisor.status_batch.StatusBatchMsg;
 import general.communication.Communication;
 import general.communication.utils.Address;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class GossipNode extends Node {
 
     protected Set<MessageId> removedMessages;
-    private static final Random rand = new Random();
 
     // Constructor
     public GossipNode(Integer id,
@@ -61,6 +60,14 @@ public abstract class GossipNode extends Node {
     
     // Notify supervisor that this node has removed a message (for Gossip protocols)
     private void notifyRemotionSupervisor(MessageId messageId) {
+        if (supervisorTcpCommunication != null && statusReporter.isBatching()) {
+            statusReporter.addRemotion(new StatusBatchMsg.RemotionEntry(
+                    messageId.topic().subject(),
+                    messageId.topic().sourceId(),
+                    messageId.timestamp()));
+            return;
+        }
+
         RemotionUpdateMsg remotionUpdateMsg = new RemotionUpdateMsg(
                 Direction.node_to_supervisor.toString(),
                 NodeToSupervisorMessageType.remotion_update.toString(),
@@ -71,12 +78,7 @@ public abstract class GossipNode extends Node {
         );
         
         try {
-            String encodedMessage = remotionUpdateMsg.encode();
-            if (supervisorTcpCommunication != null) {
-                supervisorTcpCommunication.sendMessage(supervisorAddress, encodedMessage);
-            } else {
-                communication.sendMessage(supervisorAddress, encodedMessage);
-            }
+            sendToSupervisor(remotionUpdateMsg.encode());
         } catch (IOException e) {
             System.err.println("Error encoding RemotionUpdateMsg: " + e.getMessage());
             e.printStackTrace();
@@ -84,8 +86,8 @@ public abstract class GossipNode extends Node {
     }
 
     // Coin variant: Toss a coin with 1/k probability of returning true
-    public static boolean tossCoin(double k) { 
-        return rand.nextDouble() < (1.0 / k); 
+    public boolean tossCoin(double k) {
+        return random.nextDouble() < (1.0 / k);
     }
 
 }
@@ -1,26 +1,38 @@
 package epidemic_core.node;
 
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
+import epidemic_core.message.node_to_node.codec.JsonNodeToNodeCodec;
+import epidemic_core.message.node_to_node.codec.NodeToNodeCodec;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
 import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
 import epidemic_core.message.node_to_supervisor.infection_update.InfectionUpdateMsg;
+import epidemic_core.message.node_to_supervisor.status_batch.StatusBatchMsg;
 import epidemic_core.node.msg_related.NodeRole;
+import epidemic_core.node.pacing.WorkSignal;
+import epidemic_core.node.pacing.WorkerMode;
+import epidemic_core.node.reporting.StatusReporter;
+import epidemic_core.node.round_sync.RoundTracker;
 import epidemic_core.node.msg_related.NodeStatus;
 import epidemic_core.node.msg_related.StatusForMessage;
+import epidemic_core.node.store.MessageStore;
+import epidemic_core.node.store.implementation.IndexedMessageStore;
 import general.communication.Communication;
 import general.communication.implementation.NodeToNodeCountingCommunication;
 import general.communication.implementation.UdpCommunication;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 public abstract class Node {
 
@@ -34,9 +46,27 @@ public abstract class Node {
 
     // Subject+SourceId that this node has interest
     protected List<MessageTopic> subscribedTopics;
+    private final Set<MessageTopic> subscribedTopicsSet;
 
-    // Stored by MessageId and includes the Status & Role of the node relative to that msg
-    protected Map<MessageId, StatusForMessage> storedMessages;
+    // Latest version of each topic, including the Status & Role of the node relative to that msg
+    protected MessageStore storedMessages;
+
+    // Encoding of node_to_node messages (negotiated in StartNodeMsg, JSON until then)
+    protected volatile NodeToNodeCodec codec = new JsonNodeToNodeCodec();
+
+    // Worker pacing (polling by default; event-driven runs are woken by the Dispatcher through workSignal)
+    protected volatile WorkerMode workerMode = WorkerMode.POLLING;
+    protected volatile long workerTickMs = 0; // optional periodic tick in event-driven mode (0 = none)
+    protected final WorkSignal workSignal = new WorkSignal();
+
+    // Per-node randomness (seedable through NodeRandom for reproducible runs)
+    protected final Random random;
+
+    // Coalesces infection/remotion reports into StatusBatchMsg (configured from StartNodeMsg, off until then)
+    protected final StatusReporter statusReporter;
+
+    // Round numbers seen (missed-round detection, lag) and TREE round-signal forwarding
+    protected final RoundTracker roundTracker;
 
     protected volatile boolean isRunning;
 
@@ -65,7 +95,11 @@ public abstract class Node {
         this.nodeIdToAddressTable = nodeIdToAddressTable;
         this.supervisorAddress = supervisorAddress;
         this.subscribedTopics = subscribedTopics != null ? new ArrayList<>(subscribedTopics) : new ArrayList<>();
-        this.storedMessages = new ConcurrentHashMap<>();
+        this.subscribedTopicsSet = new HashSet<>(this.subscribedTopics);
+        this.storedMessages = createMessageStore();
+        this.random = NodeRandom.forNode(id);
+        this.roundTracker = new RoundTracker(id);
+        this.statusReporter = new StatusReporter(id, this::sendToSupervisor, roundTracker);
         this.isRunning = true;
 
         Communication raw = existingCommunication != null
@@ -86,64 +120,29 @@ public abstract class Node {
         }
     }
 
+    // Message store used by this node (override to plug a different implementation)
+    protected MessageStore createMessageStore() {
+        return new IndexedMessageStore();
+    }
+
     public Boolean hasMessage(String subject, int sourceId) {
         return getMessagebySubjectAndSource(subject, sourceId) != null;
     }
 
     public Boolean hasMessage(String subject) {
-        for (MessageId msgId : storedMessages.keySet()) {
-            if (msgId.topic().subject().equals(subject)) {
-                return true;
-            }
-        }
-        return false;
+        return storedMessages.containsSubject(subject);
     }
 
     public StatusForMessage getMessagebyTopic(MessageTopic topic) {
-        StatusForMessage mostRecent = null;
-        long maxTimestamp = -1;
-        
-        for (Map.Entry<MessageId, StatusForMessage> entry : storedMessages.entrySet()) {
-            MessageId msgId = entry.getKey();
-            if (msgId.topic().subject().equals(topic.subject()) 
-                && msgId.topic().sourceId() == topic.sourceId() 
-                && msgId.timestamp() > maxTimestamp) {
-                mostRecent = entry.getValue();
-                maxTimestamp = msgId.timestamp();
-            }
-        }
-        
-        return mostRecent;
+        return storedMessages.getLatest(topic);
     }
 
     public StatusForMessage getMessagebySubjectAndSource(String subject, int sourceId) {
-        StatusForMessage mostRecent = null;
-        long maxTimestamp = -1;
-        
-        for (Map.Entry<MessageId, StatusForMessage> entry : storedMessages.entrySet()) {
-            MessageId msgId = entry.getKey();
-            if (msgId.topic().subject().equals(subject) && msgId.topic().sourceId() == sourceId && msgId.timestamp() > maxTimestamp) {
-                mostRecent = entry.getValue();
-                maxTimestamp = msgId.timestamp();
-            }
-        }
-        
-        return mostRecent;
+        return storedMessages.getLatest(new MessageTopic(subject, sourceId));
     }
 
     public StatusForMessage getMessagebySubject(String subject) {
-        StatusForMessage mostRecent = null;
-        long maxTimestamp = -1;
-        
-        for (Map.Entry<MessageId, StatusForMessage> entry : storedMessages.entrySet()) {
-            MessageId msgId = entry.getKey();
-            if (msgId.topic().subject().equals(subject) && msgId.timestamp() > maxTimestamp) {
-                mostRecent = entry.getValue();
-                maxTimestamp = msgId.timestamp();
-            }
-        }
-        
-        return mostRecent;
+        return storedMessages.getLatestBySubject(subject);
     }
 
     // Get message by exact MessageId
@@ -153,7 +152,7 @@ public abstract class Node {
     
     // Check if node has a message with the exact MessageId
     public Boolean hasMessageById(MessageId messageId) {
-        return storedMessages.containsKey(messageId);
+        return storedMessages.contains(messageId);
     }
 
     public List<Integer> getNeighbours() { return neighbours; }
@@ -164,10 +163,43 @@ public abstract class Node {
 
     public Integer getId() { return id; }
 
+    public Random getRandom() { return random; }
+
+    public NodeToNodeCodec getCodec() { return codec; }
+
+    public void setCodec(NodeToNodeCodec codec) { this.codec = codec; }
+
+    public WorkerMode getWorkerMode() { return workerMode; }
+
+    public long getWorkerTickMs() { return workerTickMs; }
+
+    public WorkSignal getWorkSignal() { return workSignal; }
+
+    public StatusReporter getStatusReporter() { return statusReporter; }
+
+    public RoundTracker getRoundTracker() { return roundTracker; }
+
+    public void setWorkerMode(WorkerMode workerMode, long workerTickMs) {
+        this.workerMode = workerMode;
+        this.workerTickMs = workerTickMs;
+    }
+
     // Sends a notification to supervisor about the Node's current status related to a given message
     public void notifyStatusSupervisor(NodeStatus statusToNotify, SpreadMsg message, int infectingNodeId) {
-        // Create InfectionUpdateMsg
         MessageId msgId = message.getId();
+
+        // Batched over the supervisor stream connection; single datagrams otherwise (size limit)
+        if (supervisorTcpCommunication != null && statusReporter.isBatching()) {
+            statusReporter.addInfection(new StatusBatchMsg.InfectionEntry(
+                    infectingNodeId,
+                    msgId.topic().subject(),
+                    msgId.topic().sourceId(),
+                    msgId.timestamp(),
+                    message.getData()));
+            return;
+        }
+
+        // Create InfectionUpdateMsg
         InfectionUpdateMsg infectionUpdateMsg = new InfectionUpdateMsg(
                 Direction.node_to_supervisor.toString(),
                 NodeToSupervisorMessageType.infection_update.toString(),
@@ -180,19 +212,22 @@ public abstract class Node {
             );
         
         try {
-            String encodedMessage = infectionUpdateMsg.encode();
-            // Use TCP if available (distributed mode), otherwise use UDP (local mode)
-            if (supervisorTcpCommunication != null) {
-                supervisorTcpCommunication.sendMessage(supervisorAddress, encodedMessage);
-            } else {
-                communication.sendMessage(supervisorAddress, encodedMessage);
-            }
+            sendToSupervisor(infectionUpdateMsg.encode());
         } catch (IOException e) {
             System.err.println("Error encoding InfectionUpdateMsg: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    // Use TCP if available (distributed mode), otherwise use UDP (local mode)
+    protected void sendToSupervisor(String encodedMessage) {
+        if (supervisorTcpCommunication != null) {
+            supervisorTcpCommunication.sendMessage(supervisorAddress, encodedMessage);
+        } else {
+            communication.sendMessage(supervisorAddress, encodedMessage);
+        }
+    }
+
     public void notifyStatusSupervisor(NodeStatus statusToNotify, SpreadMsg message) {
         notifyStatusSupervisor(statusToNotify, message, id);
     }
@@ -210,19 +245,15 @@ public abstract class Node {
 
         StatusForMessage newMessage = new StatusForMessage(message, role);
 
-        storedMessages.entrySet().removeIf(entry -> {
-            MessageId key = entry.getKey();
-            return key.topic().subject().equals(receivedSubject) && key.topic().sourceId() == sourceId;
-        });
-
-        storedMessages.put(msgId, newMessage);
+        // Replaces the previously stored version of the same subject+sourceId
+        storedMessages.put(newMessage);
 
         if (isRunning) {
             if(role == NodeRole.FORWARDER) {
-            System.out.println("[Node " + id + "] Stored/Updated subject '" + receivedSubject +
+            ConsoleLog.println("[Node " + id + "] Stored/Updated subject '" + receivedSubject +
                     "' with value: " + message.getData() + " (timestamp: " + receivedTimeStamp + ", sourceId: " + sourceId + ")");
             } else if(role == NodeRole.SOURCE) {
-                System.out.println("[Node " + id + "] Generated as SOURCE - subject '" + assignedSubjectAsSource +
+                ConsoleLog.println("[Node " + id + "] Generated as SOURCE - subject '" + assignedSubjectAsSource +
                         "' with value: " +  message.getData());
             }
         }
@@ -284,24 +315,22 @@ public abstract class Node {
     }
 
     private String randomDataGenerator(String subject) {
-        Random rand  = new Random();
-        int num = rand.nextInt(100);
+        int num = random.nextInt(100);
         return Integer.toString(num);
     }
 
     public List<SpreadMsg> getAllStoredMessages() {
         List<SpreadMsg> messages = new ArrayList<>();
 
-        for (Map.Entry<MessageId, StatusForMessage> entry : storedMessages.entrySet()) {
-            SpreadMsg message = entry.getValue().getMessage();
-            messages.add(message);
+        for (StatusForMessage status : storedMessages.values()) {
+            messages.add(status.getMessage());
         }
 
         return messages;
     }
 
     public Map<MessageId, StatusForMessage> getAllStoredMessagesWithStatus() {
-        return new ConcurrentHashMap<>(storedMessages);
+        return storedMessages.snapshot();
     }
     
     // Check if node is a source
@@ -320,31 +349,33 @@ public abstract class Node {
     }
 
     public boolean subscriptionCheck(MessageTopic topic) {
-        for(MessageTopic subsTopic : subscribedTopics) {
-            // Check if both subject AND sourceId match
-            if(topic.subject().equals(subsTopic.subject()) && topic.sourceId() == subsTopic.sourceId()) {
-                return true;
-            }
-        }
-        return false;
+        // Both subject AND sourceId must match (MessageTopic equality)
+        return subscribedTopicsSet.contains(topic);
     }
 
     // Print current state of all subjects stored in this node
     public void printNodeState() {
         if (isRunning && !storedMessages.isEmpty()) {
-            System.out.println("[Node " + id + "] Current subjects:");
-            for (Map.Entry<MessageId, StatusForMessage> entry : storedMessages.entrySet()) {
-                MessageId msgId = entry.getKey();
-                SpreadMsg message = entry.getValue().getMessage();
-                NodeRole role = entry.getValue().getNodeRole();
-                System.out.println("  - Subject: '" + msgId.topic().subject() + "' | Value: " + message.getData() + 
+            ConsoleLog.println("[Node " + id + "] Current subjects:");
+            for (StatusForMessage status : storedMessages.values()) {
+                SpreadMsg message = status.getMessage();
+                MessageId msgId = message.getId();
+                NodeRole role = status.getNodeRole();
+                ConsoleLog.println("  - Subject: '" + msgId.topic().subject() + "' | Value: " + message.getData() + 
                         " | Timestamp: " + msgId.timestamp() + " | SourceId: " + msgId.topic().sourceId() + " | Role: " + role);
             }
         }
     }
 
+    // Thread-less driving (discrete-event simulation): hand a decoded message to the node's Dispatcher
+    public abstract void deliver(Envelope envelope);
+
+    // Thread-less driving: one pass over the node's FSMs
+    public abstract void workingStep();
+
     public void stop() {
         this.isRunning = false;
+        workSignal.signal(); // release an event-driven worker waiting for input
     }
 
     public boolean isRunning() {
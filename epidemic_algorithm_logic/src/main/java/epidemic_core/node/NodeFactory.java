@@ -0,0 +1,81 @@
+package epidemic_core.node;
+
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.node.mode.NodeMode;
+import epidemic_core.node.mode.pull.anti_entropy.AntiEntropyPullNode;
+import epidemic_core.node.mode.pull.gossip.blind.coin.BlindCoinPullNode;
+import epidemic_core.node.mode.pull.gossip.feedback.coin.FeedbackCoinPullNode;
+import epidemic_core.node.mode.push.anti_entropy.AntiEntropyPushNode;
+import epidemic_core.node.mode.push.gossip.blind.coin.BlindCoinPushNode;
+import epidemic_core.node.mode.push.gossip.feedback.coin.FeedbackCoinPushNode;
+import epidemic_core.node.mode.pushpull.anti_entropy.AntiEntropyPushPullNode;
+import epidemic_core.node.mode.pushpull.gossip.blind.coin.BlindCoinPushPullNode;
+import epidemic_core.node.mode.pushpull.gossip.feedback.coin.FeedbackCoinPushPullNode;
+import general.communication.Communication;
+import general.communication.utils.Address;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the concrete node for a (mode, protocol) pair.
+ * Shared by DistributedNodeStub and the in-process simulator.
+ */
+public final class NodeFactory {
+
+    private NodeFactory() {}
+
+    public static Node createNode(int nodeId,
+                                  List<Integer> neighbors,
+                                  String assignedSubjectAsSource,
+                                  Map<Integer, Address> nodeToAddressTable,
+                                  List<MessageTopic> subscribedTopics,
+                                  Address supervisorAddress,
+                                  String mode,
+                                  String protocol,
+                                  Double k,
+                                  Communication communication) {
+        
+        NodeMode nodeMode = NodeMode.fromString(mode);
+        String protocolLower = protocol != null ? protocol.toLowerCase() : "anti_entropy";
+        double kValue = k != null ? k : 2.0;
+        
+        switch (nodeMode) {
+            case PULL:
+                return switch (protocolLower) {
+                    case "anti_entropy" -> new AntiEntropyPullNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                          nodeToAddressTable, subscribedTopics, supervisorAddress, communication);
+                    case "gossip_feedback_coin", "feedback_coin" -> new FeedbackCoinPullNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                                                    nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, communication);
+                    case "gossip_blind_coin", "blind_coin" -> new BlindCoinPullNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                                           nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, communication);
+                    default -> throw new IllegalArgumentException("Invalid protocol for PULL mode: " + protocol);
+                };
+            
+            case PUSH:
+                return switch (protocolLower) {
+                    case "anti_entropy" -> new AntiEntropyPushNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                          nodeToAddressTable, subscribedTopics, supervisorAddress, communication);
+                    case "gossip_feedback_coin", "feedback_coin" -> new FeedbackCoinPushNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                                                    nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, communication);
+                    case "gossip_blind_coin", "blind_coin" -> new BlindCoinPushNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                                           nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, communication);
+                    default -> throw new IllegalArgumentException("Invalid protocol for PUSH mode: " + protocol);
+                };
+            
+            case PUSHPULL:
+                return switch (protocolLower) {
+                    case "anti_entropy" -> new AntiEntropyPushPullNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                              nodeToAddressTable, subscribedTopics, supervisorAddress, communication);
+                    case "gossip_feedback_coin", "feedback_coin" -> new FeedbackCoinPushPullNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                                                        nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, communication);
+                    case "gossip_blind_coin", "blind_coin" -> new BlindCoinPushPullNode(nodeId, neighbors, assignedSubjectAsSource, 
+                                                                                               nodeToAddressTable, subscribedTopics, supervisorAddress, kValue, communication);
+                    default -> throw new IllegalArgumentException("Invalid protocol for PUSHPULL mode: " + protocol);
+                };
+            
+            default:
+                throw new IllegalArgumentException("Invalid node mode: " + mode);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package epidemic_core.node;
+
+import java.util.Random;
+
+/**
+ * Source of per-node randomness (neighbour selection, coin tosses, generated data).
+ * Normally unseeded; a run seed set on the thread that builds the nodes (e.g. the discrete-event
+ * simulator) makes every node's sequence reproducible. Thread-local so parallel runs don't interfere.
+ */
+public final class NodeRandom {
+
+    private static final ThreadLocal<Long> runSeed = new ThreadLocal<>();
+
+    private NodeRandom() {}
+
+    public static void setRunSeed(long seed) { runSeed.set(seed); }
+
+    public static void clearRunSeed() { runSeed.remove(); }
+
+    public static Random forNode(int nodeId) {
+        Long seed = runSeed.get();
+        if (seed == null) {
+            return new Random();
+        }
+        return new Random(mix(seed, nodeId));
+    }
+
+    // Independent Random per (seed, stream) pair, e.g. topology creation or source selection
+    public static Random forStream(long seed, long stream) {
+        return new Random(mix(seed, stream));
+    }
+
+    // SplitMix64 finalizer, spreads nearby ids over the whole seed space
+    private static long mix(long seed, long id) {
+        long z = seed + 0x9E3779B97F4A7C15L * (id + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
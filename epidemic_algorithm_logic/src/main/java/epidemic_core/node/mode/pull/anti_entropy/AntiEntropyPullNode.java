@@ -3,6 +3,7 @@ package epidemic_core.node.mode.pull.anti_entropy;
 import epidemic_core.node.mode.pull.general.components.Dispatcher;
 import epidemic_core.node.mode.pull.general.components.Listener;
 import epidemic_core.node.mode.pull.general.components.WorkerInterface;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageTopic;
 import general.communication.Communication;
 import general.communication.utils.Address;
@@ -23,10 +24,10 @@ public class AntiEntropyPullNode extends AntiEntropyNode {
     protected WorkerInterface worker;
 
     // Msg buffers
-    protected BlockingQueue<String> msgsQueue;
-    protected BlockingQueue<String> replyMsgs;
-    protected BlockingQueue<String> requestMsgs;
-    protected BlockingQueue<String> startRoundMsgs;
+    protected BlockingQueue<Envelope> msgsQueue;
+    protected BlockingQueue<Envelope> replyMsgs;
+    protected BlockingQueue<Envelope> requestMsgs;
+    protected BlockingQueue<Envelope> startRoundMsgs;
 
     // Constructor
     public AntiEntropyPullNode(Integer id,
@@ -54,7 +55,7 @@ public class AntiEntropyPullNode extends AntiEntropyNode {
         this.startRoundMsgs = new LinkedBlockingQueue<>();
 
         this.listener     = new Listener(this, msgsQueue);
-        this.dispatcher   = new Dispatcher(msgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
+        this.dispatcher   = new Dispatcher(workSignal, statusReporter, msgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
         this.worker       = new AntiEntropyPullWorker(this, replyMsgs, requestMsgs, startRoundMsgs);
     }
 
@@ -81,5 +82,21 @@ public class AntiEntropyPullNode extends AntiEntropyNode {
         dispatcher.stopDispatching();
     }
 
-}
+    // ===========================================================
+    //                  THREAD-LESS DRIVING
+    // ===========================================================
+    @Override
+    public void deliver(Envelope envelope) {
+        try {
+            dispatcher.dispatch(envelope);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void workingStep() {
+        worker.workingStep();
+    }
 
+}
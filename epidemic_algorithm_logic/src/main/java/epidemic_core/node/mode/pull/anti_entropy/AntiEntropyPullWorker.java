@@ -1,7 +1,7 @@
 package epidemic_core.node.mode.pull.anti_entropy;
 
 import epidemic_core.message.common.Direction;
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
@@ -9,12 +9,14 @@ import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
 import epidemic_core.message.node_to_node.request.RequestMsg;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
 import epidemic_core.node.mode.pull.general.components.WorkerInterface;
+import epidemic_core.node.pacing.WorkerLoop;
 import epidemic_core.node.mode.pull.general.fsm.pull_fsm.logic.PullFsm;
 import epidemic_core.node.mode.pull.general.fsm.pull_fsm.logic.output.PullFsmResult;
 import epidemic_core.node.mode.pull.general.fsm.reply_fsm.logic.ReplyFsm;
 import epidemic_core.node.mode.pull.general.fsm.reply_fsm.logic.output.ReplyFsmResult;
 import epidemic_core.node.msg_related.StatusForMessage;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,23 +27,24 @@ public class AntiEntropyPullWorker implements WorkerInterface {
 
     private AntiEntropyPullNode node;
 
-    private BlockingQueue<String> replyMsgs;
-    private List<String> newReplyMsgs;
+    private BlockingQueue<Envelope> replyMsgs;
+    private List<Envelope> newReplyMsgs;
 
-    private BlockingQueue<String> requestMsgs;
-    private List<String> newReqMsgs;
+    private BlockingQueue<Envelope> requestMsgs;
+    private List<Envelope> newReqMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PullFsm pullFsm;
     private ReplyFsm replyFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
 
-    public AntiEntropyPullWorker(AntiEntropyPullNode node, BlockingQueue<String> replyMsgs, BlockingQueue<String> requestMsgs, BlockingQueue<String> startRoundMsgs) {
+    public AntiEntropyPullWorker(AntiEntropyPullNode node, BlockingQueue<Envelope> replyMsgs, BlockingQueue<Envelope> requestMsgs, BlockingQueue<Envelope> startRoundMsgs) {
         this.node = node;
+        this.rand = node.getRandom();
 
         this.replyMsgs = replyMsgs;
         this.newReplyMsgs = new ArrayList<>();
@@ -64,17 +67,7 @@ public class AntiEntropyPullWorker implements WorkerInterface {
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) AntiEntropyPullNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
-
+        WorkerLoop.run(node, AntiEntropyPullNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     public void setStartSignal(boolean startSignal) { this.startSignal = startSignal; }
@@ -85,7 +78,7 @@ public class AntiEntropyPullWorker implements WorkerInterface {
     public void checkForStartSignal() {
         if (startRoundMsgs.poll() != null) {
             startSignal = true;
-            System.out.println("[Node " + node.getId() + "] StartRoundMsg processed - starting pull round");
+            ConsoleLog.println("[Node " + node.getId() + "] StartRoundMsg processed - starting pull round");
         } else {
             startSignal = false;
         }
@@ -117,7 +110,7 @@ public class AntiEntropyPullWorker implements WorkerInterface {
                     node.getId()
                 );
                 try {
-                    String request = reqMsg.encode();
+                    String request = node.getCodec().encode(reqMsg);
                     node.getCommunication().sendMessage(randNeighAdd, request);
                 } catch (java.io.IOException e) {
                     System.err.println("Error encoding InitialRequestMsg: " + e.getMessage());
@@ -135,7 +128,7 @@ public class AntiEntropyPullWorker implements WorkerInterface {
                     node.getId()
                 );
                 try {
-                    String request = reqMsg.encode();
+                    String request = node.getCodec().encode(reqMsg);
                     node.getCommunication().sendMessage(randNeighAdd, request);
                 } catch (java.io.IOException e) {
                     System.err.println("Error encoding RequestMsg: " + e.getMessage());
@@ -158,20 +151,20 @@ public class AntiEntropyPullWorker implements WorkerInterface {
 
         if(result.saveReplyMsgs) {
             newReplyMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = replyMsgs.poll()) != null) { newReplyMsgs.add(newMsg); }
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newReplyMsgs) {
+            for(Envelope newEnvelope: newReplyMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
                             Boolean gotStored = node.storeOrIgnoreMessage(spreadMsg);
                             if (!gotStored) {
-                                System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                             }
                         }
                     }
@@ -193,9 +186,9 @@ public class AntiEntropyPullWorker implements WorkerInterface {
     //                  REPLY FSM HANDLE                        //
     // ======================================================= //
 
-    public void sendPullReply(String reqMsgStr) {
+    public void sendPullReply(Envelope reqEnvelope) {
         try {
-            Object decodedMsg = MessageDispatcher.decode(reqMsgStr);
+            Object decodedMsg = reqEnvelope.message();
             if (decodedMsg instanceof RequestMsg) {
                 RequestMsg requestMsg = (RequestMsg) decodedMsg;
 
@@ -225,7 +218,7 @@ public class AntiEntropyPullWorker implements WorkerInterface {
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("Error encoding SpreadMsg: " + e.getMessage());
@@ -256,7 +249,7 @@ public class AntiEntropyPullWorker implements WorkerInterface {
                         );
                         
                         try {
-                            String stringMsg = forwardMsg.encode();
+                            String stringMsg = node.getCodec().encode(forwardMsg);
                             node.getCommunication().sendMessage(neighAddress, stringMsg);
                         } catch (java.io.IOException e) {
                             System.err.println("Error encoding SpreadMsg: " + e.getMessage());
@@ -283,11 +276,11 @@ public class AntiEntropyPullWorker implements WorkerInterface {
 
         if(result.sendReply) {
             newReqMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = requestMsgs.poll()) != null) { newReqMsgs.add(newMsg); }
 
-            for(String newReqMsgStr: newReqMsgs) {
-                sendPullReply(newReqMsgStr);
+            for(Envelope newReqEnvelope: newReqMsgs) {
+                sendPullReply(newReqEnvelope);
             }
         }
 
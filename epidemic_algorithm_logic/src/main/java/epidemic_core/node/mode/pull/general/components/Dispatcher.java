@@ -1,23 +1,30 @@
 package epidemic_core.node.mode.pull.general.components;
 
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
+import epidemic_core.node.pacing.WorkSignal;
+import epidemic_core.node.reporting.StatusReporter;
 import java.util.concurrent.BlockingQueue;
 
 public class Dispatcher {
 
-    private BlockingQueue<String> msgsQueue;
-    private BlockingQueue<String> replyMsgs;
-    private BlockingQueue<String> requestMsgs;
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> msgsQueue;
+    private BlockingQueue<Envelope> replyMsgs;
+    private BlockingQueue<Envelope> requestMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
+    private WorkSignal workSignal; // wakes the worker in event-driven mode
+    private StatusReporter statusReporter; // flushed at every round boundary
     private volatile boolean running;
 
-    public Dispatcher(BlockingQueue<String> msgsQueue, BlockingQueue<String> replyMsgs, BlockingQueue<String> requestMsgs, BlockingQueue<String> startRoundMsgs) {
+    public Dispatcher(WorkSignal workSignal, StatusReporter statusReporter, BlockingQueue<Envelope> msgsQueue, BlockingQueue<Envelope> replyMsgs, BlockingQueue<Envelope> requestMsgs, BlockingQueue<Envelope> startRoundMsgs) {
         this.msgsQueue = msgsQueue;
         this.replyMsgs = replyMsgs;
         this.requestMsgs = requestMsgs;
         this.startRoundMsgs = startRoundMsgs;
 
+        this.workSignal = workSignal;
+        this.statusReporter = statusReporter;
+
         running = true;
     }
 
@@ -25,20 +32,8 @@ public class Dispatcher {
 
         while(running){
             try {
-                String consumedMsg = msgsQueue.take();
-                
-                if (MessageDispatcher.isRequest(consumedMsg) || MessageDispatcher.isInitialRequest(consumedMsg)) {
-                    requestMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isSpread(consumedMsg)) {
-                    replyMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isFeedback(consumedMsg)) {
-                    replyMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isStartRound(consumedMsg)) {
-                    startRoundMsgs.put(consumedMsg);
-                }
-
-                Thread.onSpinWait();
-
+                Envelope consumedMsg = msgsQueue.take();
+                dispatch(consumedMsg);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -47,6 +42,22 @@ public class Dispatcher {
 
     }
 
+    // Routes one decoded message to the worker queues (also used to drive the node without its threads)
+    public void dispatch(Envelope consumedMsg) throws InterruptedException {
+        if (consumedMsg.isRequest() || consumedMsg.isInitialRequest()) {
+            requestMsgs.put(consumedMsg);
+        } else if (consumedMsg.isSpread()) {
+            replyMsgs.put(consumedMsg);
+        } else if (consumedMsg.isFeedback()) {
+            replyMsgs.put(consumedMsg);
+        } else if (consumedMsg.isStartRound()) {
+            statusReporter.onRoundStart();
+            startRoundMsgs.put(consumedMsg);
+        }
+
+        workSignal.signal();
+    }
+
     public void stopDispatching(){
         running = false;
     }
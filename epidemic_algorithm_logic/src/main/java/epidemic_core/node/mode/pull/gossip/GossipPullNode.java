@@ -4,6 +4,7 @@ import epidemic_core.node.mode.pull.general.components.Dispatcher;
 import epidemic_core.node.mode.pull.general.components.Listener;
 import epidemic_core.node.mode.pull.general.components.WorkerInterface;
 import epidemic_core.node.GossipNode;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageTopic;
 import general.communication.Communication;
 import general.communication.utils.Address;
@@ -23,10 +24,10 @@ public abstract class GossipPullNode extends GossipNode {
     protected WorkerInterface worker;
 
     // Msg buffers
-    protected BlockingQueue<String> msgsQueue;
-    protected BlockingQueue<String> replyMsgs;
-    protected BlockingQueue<String> requestMsgs;
-    protected BlockingQueue<String> startRoundMsgs;
+    protected BlockingQueue<Envelope> msgsQueue;
+    protected BlockingQueue<Envelope> replyMsgs;
+    protected BlockingQueue<Envelope> requestMsgs;
+    protected BlockingQueue<Envelope> startRoundMsgs;
 
     public GossipPullNode(Integer id,
                          List<Integer> neighbours,
@@ -53,7 +54,7 @@ public abstract class GossipPullNode extends GossipNode {
         this.startRoundMsgs = new LinkedBlockingQueue<>();
 
         this.listener   = new Listener(this, msgsQueue);
-        this.dispatcher = new Dispatcher(msgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
+        this.dispatcher = new Dispatcher(workSignal, statusReporter, msgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
     }
 
     // ===========================================================
@@ -71,5 +72,21 @@ public abstract class GossipPullNode extends GossipNode {
         dispatcher.stopDispatching();
     }
 
-}
+    // ===========================================================
+    //                  THREAD-LESS DRIVING
+    // ===========================================================
+    @Override
+    public void deliver(Envelope envelope) {
+        try {
+            dispatcher.dispatch(envelope);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    @Override
+    public void workingStep() {
+        worker.workingStep();
+    }
+
+}
@@ -1,21 +1,22 @@
 package epidemic_core.node.mode.pull.gossip.blind.coin;
 
 import epidemic_core.message.common.Direction;
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
 import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
 import epidemic_core.message.node_to_node.request.RequestMsg;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
-import epidemic_core.node.GossipNode;
 import epidemic_core.node.mode.pull.gossip.GossipPullNode;
 import epidemic_core.node.mode.pull.general.fsm.pull_fsm.logic.PullFsm;
 import epidemic_core.node.mode.pull.general.fsm.pull_fsm.logic.output.PullFsmResult;
 import epidemic_core.node.mode.pull.general.fsm.reply_fsm.logic.ReplyFsm;
 import epidemic_core.node.mode.pull.general.fsm.reply_fsm.logic.output.ReplyFsmResult;
 import epidemic_core.node.msg_related.StatusForMessage;
+import epidemic_core.node.pacing.WorkerLoop;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,24 +27,25 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
 
     private BlindCoinPullNode node;
 
-    private BlockingQueue<String> replyMsgs;
-    private List<String> newReplyMsgs;
+    private BlockingQueue<Envelope> replyMsgs;
+    private List<Envelope> newReplyMsgs;
 
-    private BlockingQueue<String> requestMsgs;
-    private List<String> newReqMsgs;
+    private BlockingQueue<Envelope> requestMsgs;
+    private List<Envelope> newReqMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PullFsm pullFsm;
     private ReplyFsm replyFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
     private final double k;
 
-    public BlindCoinPullWorker(BlindCoinPullNode node, BlockingQueue<String> replyMsgs, BlockingQueue<String> requestMsgs, BlockingQueue<String> startRoundMsgs, double k) {
+    public BlindCoinPullWorker(BlindCoinPullNode node, BlockingQueue<Envelope> replyMsgs, BlockingQueue<Envelope> requestMsgs, BlockingQueue<Envelope> startRoundMsgs, double k) {
         this.node = node;
+        this.rand = node.getRandom();
         this.replyMsgs = replyMsgs;
         this.newReplyMsgs = new ArrayList<>();
         this.requestMsgs = requestMsgs;
@@ -62,16 +64,7 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) GossipPullNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
+        WorkerLoop.run(node, GossipPullNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     public void setStartSignal(boolean startSignal) { this.startSignal = startSignal; }
@@ -109,7 +102,7 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
                     node.getId()
                 );
                 try {
-                    String request = reqMsg.encode();
+                    String request = node.getCodec().encode(reqMsg);
                     node.getCommunication().sendMessage(randNeighAdd, request);
                 } catch (java.io.IOException e) {
                     System.err.println("Error encoding InitialRequestMsg: " + e.getMessage());
@@ -126,7 +119,7 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
                         node.getId()
                     );
                     try {
-                        String request = reqMsg.encode();
+                        String request = node.getCodec().encode(reqMsg);
                         node.getCommunication().sendMessage(randNeighAdd, request);
                     } catch (java.io.IOException e) {
                         System.err.println("Error encoding InitialRequestMsg: " + e.getMessage());
@@ -144,17 +137,17 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
                     node.getId()
                 );
                 try {
-                    String request = reqMsg.encode();
+                    String request = node.getCodec().encode(reqMsg);
                     node.getCommunication().sendMessage(randNeighAdd, request);
                 } catch (java.io.IOException e) {
                     System.err.println("Error encoding RequestMsg: " + e.getMessage());
                     e.printStackTrace();
                 }
 
-                if (GossipNode.tossCoin(k)) {
+                if (node.tossCoin(k)) {
                     node.removeMessage(messageId);
                     if (node.isRunning()) {
-                        System.out.println("[Node " + node.getId() + "] Blind Coin: Removed message '" + 
+                        ConsoleLog.println("[Node " + node.getId() + "] Blind Coin: Removed message '" + 
                                 messageId.topic().subject() + "' from source " + messageId.topic().sourceId() + 
                                 " (timestamp=" + messageId.timestamp() + ", k=" + k + ")");
                     }
@@ -175,21 +168,21 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
 
         if(result.saveReplyMsgs) {
             newReplyMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = replyMsgs.poll()) != null) { newReplyMsgs.add(newMsg); }
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newReplyMsgs) {
+            for(Envelope newEnvelope: newReplyMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
                             MessageId msgId = spreadMsg.getId();
                             if (node.isMessageRemoved(msgId)) {
                                 if (node.isRunning()) {
-                                    System.out.println("[Node " + node.getId() + "] Ignored removed message - subject '" + 
+                                    ConsoleLog.println("[Node " + node.getId() + "] Ignored removed message - subject '" + 
                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                             " (timestamp=" + msgId.timestamp() + ")");
                                 }
@@ -198,7 +191,7 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
                             
                             Boolean gotStored = node.storeOrIgnoreMessage(spreadMsg);
                             if (!gotStored && node.isRunning()) {
-                                System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                             }
                         }
                     }
@@ -219,9 +212,9 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
     //                  REPLY FSM HANDLE                        //
     // ======================================================= //
 
-    public void sendPullReply(String reqMsgStr) {
+    public void sendPullReply(Envelope reqEnvelope) {
         try {
-            Object decodedMsg = MessageDispatcher.decode(reqMsgStr);
+            Object decodedMsg = reqEnvelope.message();
             if (decodedMsg instanceof RequestMsg) {
                 RequestMsg requestMsg = (RequestMsg) decodedMsg;
 
@@ -251,7 +244,7 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("[Node " + node.getId() + "] Error encoding SpreadMsg: " + e.getMessage());
@@ -283,7 +276,7 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("[Node " + node.getId() + "] Error encoding SpreadMsg: " + e.getMessage());
@@ -310,11 +303,11 @@ public class BlindCoinPullWorker implements epidemic_core.node.mode.pull.general
 
         if(result.sendReply) {
             newReqMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = requestMsgs.poll()) != null) { newReqMsgs.add(newMsg); }
 
-            for(String newReqMsgStr: newReqMsgs) {
-                sendPullReply(newReqMsgStr);
+            for(Envelope newReqEnvelope: newReqMsgs) {
+                sendPullReply(newReqEnvelope);
             }
         }
     }
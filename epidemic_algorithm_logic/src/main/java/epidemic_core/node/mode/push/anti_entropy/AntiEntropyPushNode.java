@@ -4,6 +4,7 @@ import epidemic_core.node.mode.push.general.components.Dispatcher;
 import epidemic_core.node.mode.push.general.components.Listener;
 import epidemic_core.node.mode.push.general.components.WorkerInterface;
 import epidemic_core.node.AntiEntropyNode;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageTopic;
 import general.communication.Communication;
 import general.communication.utils.Address;
@@ -23,9 +24,9 @@ public class AntiEntropyPushNode extends AntiEntropyNode {
     protected WorkerInterface worker;
 
     // Msg buffers
-    protected BlockingQueue<String> receivedMsgsQueue;
-    protected BlockingQueue<String> pushMsgs;
-    protected BlockingQueue<String> startRoundMsgs;
+    protected BlockingQueue<Envelope> receivedMsgsQueue;
+    protected BlockingQueue<Envelope> pushMsgs;
+    protected BlockingQueue<Envelope> startRoundMsgs;
 
     // Constructor (uses default UdpCommunication)
     public AntiEntropyPushNode(Integer id,
@@ -53,7 +54,7 @@ public class AntiEntropyPushNode extends AntiEntropyNode {
         this.startRoundMsgs       = new LinkedBlockingQueue<>();
 
         this.listener   = new Listener(this, receivedMsgsQueue);
-        this.dispatcher = new Dispatcher(receivedMsgsQueue, pushMsgs, startRoundMsgs);
+        this.dispatcher = new Dispatcher(workSignal, statusReporter, receivedMsgsQueue, pushMsgs, startRoundMsgs);
         this.worker     = new AntiEntropyPushWorker(this, pushMsgs, startRoundMsgs);
     }
 
@@ -72,6 +73,21 @@ public class AntiEntropyPushNode extends AntiEntropyNode {
         dispatcher.stopDispatching();
     }
 
-}
+    // ===========================================================
+    //                  THREAD-LESS DRIVING
+    // ===========================================================
+    @Override
+    public void deliver(Envelope envelope) {
+        try {
+            dispatcher.dispatch(envelope);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    @Override
+    public void workingStep() {
+        worker.workingStep();
+    }
 
+}
@@ -1,13 +1,15 @@
 package epidemic_core.node.mode.push.anti_entropy;
 
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
 import epidemic_core.node.mode.push.general.components.WorkerInterface;
 import epidemic_core.node.mode.push.general.fsm.push_fsm.logic.PushFsm;
 import epidemic_core.node.mode.push.general.fsm.push_fsm.logic.output.PushFsmResult;
 import epidemic_core.node.mode.push.general.fsm.update_fsm.logic.UpdateFsm;
 import epidemic_core.node.mode.push.general.fsm.update_fsm.logic.output.UpdateFsmResult;
+import epidemic_core.node.pacing.WorkerLoop;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,20 +20,21 @@ public class AntiEntropyPushWorker implements WorkerInterface {
 
     private AntiEntropyPushNode node;
 
-    private BlockingQueue<String> pushMsgs;
-    private List<String> newPushMsgs;
+    private BlockingQueue<Envelope> pushMsgs;
+    private List<Envelope> newPushMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PushFsm pushFsm;
     private UpdateFsm updateFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
 
-    public AntiEntropyPushWorker(AntiEntropyPushNode node, BlockingQueue<String> pushMsgs, BlockingQueue<String> startRoundMsgs) {
+    public AntiEntropyPushWorker(AntiEntropyPushNode node, BlockingQueue<Envelope> pushMsgs, BlockingQueue<Envelope> startRoundMsgs) {
         this.node = node;
+        this.rand = node.getRandom();
 
         this.pushMsgs = pushMsgs;
         this.newPushMsgs = new ArrayList<>();
@@ -51,17 +54,7 @@ public class AntiEntropyPushWorker implements WorkerInterface {
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) AntiEntropyPushNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
-
+        WorkerLoop.run(node, AntiEntropyPushNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     // ======================================================= //
@@ -71,7 +64,7 @@ public class AntiEntropyPushWorker implements WorkerInterface {
     public void checkForStartSignal() {
         if (startRoundMsgs.poll() != null) {
             startSignal = true;
-            System.out.println("[Node " + node.getId() + "] StartRoundMsg processed - starting push round");
+            ConsoleLog.println("[Node " + node.getId() + "] StartRoundMsg processed - starting push round");
         } else {
             startSignal = false;
         }
@@ -104,9 +97,9 @@ public class AntiEntropyPushWorker implements WorkerInterface {
                     );
                     
                     try {
-                        String stringMsg = forwardMsg.encode();
+                        String stringMsg = node.getCodec().encode(forwardMsg);
                         node.getCommunication().sendMessage(randNeighAdd, stringMsg);
-                        System.out.println("[Node " + node.getId() + "] Sent SpreadMsg (subject='" + msgId.topic().subject() + "', sourceId=" + msgId.topic().sourceId() + ") to neighbor " + randNeighId + " at " + randNeighAdd);
+                        ConsoleLog.println("[Node " + node.getId() + "] Sent SpreadMsg (subject='" + msgId.topic().subject() + "', sourceId=" + msgId.topic().sourceId() + ") to neighbor " + randNeighId + " at " + randNeighAdd);
                     } catch (java.io.IOException e) {
                         System.err.println("[Node " + node.getId() + "] Error encoding/sending SpreadMsg: " + e.getMessage());
                         e.printStackTrace();
@@ -131,15 +124,15 @@ public class AntiEntropyPushWorker implements WorkerInterface {
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newPushMsgs) {
+            for(Envelope newEnvelope: newPushMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
                             Boolean gotStored = node.storeOrIgnoreMessage(spreadMsg);
                             if(!gotStored) {
-                                System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                             }
                         }
                     }
@@ -166,7 +159,7 @@ public class AntiEntropyPushWorker implements WorkerInterface {
 
         if(result.saveMsgs) {
             newPushMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = pushMsgs.poll()) != null) { newPushMsgs.add(newMsg); }
         }
 
@@ -1,21 +1,29 @@
 package epidemic_core.node.mode.push.general.components;
 
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
+import epidemic_core.node.pacing.WorkSignal;
+import epidemic_core.node.reporting.StatusReporter;
+import general.logging.ConsoleLog;
 
 import java.util.concurrent.BlockingQueue;
 
 public class Dispatcher {
 
-    private BlockingQueue<String> receivedMsgsQueue;
-    private BlockingQueue<String> pushMsgs;
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> receivedMsgsQueue;
+    private BlockingQueue<Envelope> pushMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
+    private WorkSignal workSignal; // wakes the worker in event-driven mode
+    private StatusReporter statusReporter; // flushed at every round boundary
     private volatile boolean running;
 
-    public Dispatcher(BlockingQueue<String> receivedMsgsQueue, BlockingQueue<String> pushMsgs, BlockingQueue<String> startRoundMsgs) {
+    public Dispatcher(WorkSignal workSignal, StatusReporter statusReporter, BlockingQueue<Envelope> receivedMsgsQueue, BlockingQueue<Envelope> pushMsgs, BlockingQueue<Envelope> startRoundMsgs) {
         this.receivedMsgsQueue = receivedMsgsQueue;
         this.pushMsgs = pushMsgs;
         this.startRoundMsgs = startRoundMsgs;
 
+        this.workSignal = workSignal;
+        this.statusReporter = statusReporter;
+
         running = true;
     }
 
@@ -23,20 +31,8 @@ public class Dispatcher {
 
         while(running){
             try {
-                String consumedMsg = receivedMsgsQueue.take();
-                
-                // Process node_to_node messages (spread and feedback)
-                if (MessageDispatcher.isSpread(consumedMsg)) {
-                    pushMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isFeedback(consumedMsg)) {
-                    pushMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isStartRound(consumedMsg)) {
-                    System.out.println("[Dispatcher] Received StartRoundMsg - triggering round");
-                    startRoundMsgs.put(consumedMsg);
-                }
-
-                Thread.onSpinWait();
-
+                Envelope consumedMsg = receivedMsgsQueue.take();
+                dispatch(consumedMsg);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -45,6 +41,22 @@ public class Dispatcher {
 
     }
 
+    // Routes one decoded message to the worker queues (also used to drive the node without its threads)
+    public void dispatch(Envelope consumedMsg) throws InterruptedException {
+        // Process node_to_node messages (spread and feedback)
+        if (consumedMsg.isSpread()) {
+            pushMsgs.put(consumedMsg);
+        } else if (consumedMsg.isFeedback()) {
+            pushMsgs.put(consumedMsg);
+        } else if (consumedMsg.isStartRound()) {
+            statusReporter.onRoundStart();
+            ConsoleLog.println("[Dispatcher] Received StartRoundMsg - triggering round");
+            startRoundMsgs.put(consumedMsg);
+        }
+
+        workSignal.signal();
+    }
+
     public void stopDispatching(){
         running = false;
     }
@@ -5,6 +5,9 @@ package epidemic_core.node.mode.push.general.components;
  */
 public interface WorkerInterface {
     void workingLoop();
+
+    // One pass over the FSMs (workingLoop repeats it; the simulator calls it directly)
+    void workingStep();
 }
 
 
@@ -4,6 +4,7 @@ import epidemic_core.node.mode.push.general.components.Dispatcher;
 import epidemic_core.node.mode.push.general.components.Listener;
 import epidemic_core.node.mode.push.general.components.WorkerInterface;
 import epidemic_core.node.GossipNode;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageTopic;
 import general.communication.Communication;
 import general.communication.utils.Address;
@@ -22,9 +23,9 @@ public abstract class GossipPushNode extends GossipNode {
     protected WorkerInterface worker;
 
     // Msg buffers
-    protected BlockingQueue<String> receivedMsgsQueue;
-    protected BlockingQueue<String> pushMsgs;
-    protected BlockingQueue<String> startRoundMsgs;
+    protected BlockingQueue<Envelope> receivedMsgsQueue;
+    protected BlockingQueue<Envelope> pushMsgs;
+    protected BlockingQueue<Envelope> startRoundMsgs;
 
     // Constructor
     public GossipPushNode(Integer id,
@@ -52,7 +53,7 @@ public abstract class GossipPushNode extends GossipNode {
         this.startRoundMsgs       = new LinkedBlockingQueue<>();
 
         this.listener   = new Listener(this, receivedMsgsQueue);
-        this.dispatcher = new Dispatcher(receivedMsgsQueue, pushMsgs, startRoundMsgs);
+        this.dispatcher = new Dispatcher(workSignal, statusReporter, receivedMsgsQueue, pushMsgs, startRoundMsgs);
     }
 
     // ===========================================================
@@ -70,5 +71,21 @@ public abstract class GossipPushNode extends GossipNode {
         dispatcher.stopDispatching();
     }
 
-}
+    // ===========================================================
+    //                  THREAD-LESS DRIVING
+    // ===========================================================
+    @Override
+    public void deliver(Envelope envelope) {
+        try {
+            dispatcher.dispatch(envelope);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    @Override
+    public void workingStep() {
+        worker.workingStep();
+    }
+
+}
@@ -1,16 +1,17 @@
 package epidemic_core.node.mode.push.gossip.blind.coin;
 
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
-import epidemic_core.node.GossipNode;
 import epidemic_core.node.mode.push.general.components.WorkerInterface;
 import epidemic_core.node.mode.push.general.fsm.push_fsm.logic.PushFsm;
 import epidemic_core.node.mode.push.general.fsm.push_fsm.logic.output.PushFsmResult;
 import epidemic_core.node.mode.push.general.fsm.update_fsm.logic.UpdateFsm;
 import epidemic_core.node.mode.push.general.fsm.update_fsm.logic.output.UpdateFsmResult;
 import epidemic_core.node.mode.push.gossip.GossipPushNode;
+import epidemic_core.node.pacing.WorkerLoop;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,21 +22,22 @@ public class BlindCoinPushWorker implements WorkerInterface {
 
     private GossipPushNode node;
 
-    private BlockingQueue<String> pushMsgs;
-    private List<String> newPushMsgs;
+    private BlockingQueue<Envelope> pushMsgs;
+    private List<Envelope> newPushMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PushFsm pushFsm;
     private UpdateFsm updateFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
     private final double k;
 
-    public BlindCoinPushWorker(GossipPushNode node, BlockingQueue<String> pushMsgs, BlockingQueue<String> startRoundMsgs, double k) {
+    public BlindCoinPushWorker(GossipPushNode node, BlockingQueue<Envelope> pushMsgs, BlockingQueue<Envelope> startRoundMsgs, double k) {
         this.node = node;
+        this.rand = node.getRandom();
         this.pushMsgs = pushMsgs;
         this.newPushMsgs = new ArrayList<>();
         this.startRoundMsgs = startRoundMsgs;
@@ -52,16 +54,7 @@ public class BlindCoinPushWorker implements WorkerInterface {
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) GossipPushNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
+        WorkerLoop.run(node, GossipPushNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     // ======================================================= //
@@ -102,13 +95,13 @@ public class BlindCoinPushWorker implements WorkerInterface {
                     );
                     
                     try {
-                        String stringMsg = forwardMsg.encode();
+                        String stringMsg = node.getCodec().encode(forwardMsg);
                         node.getCommunication().sendMessage(randNeighAdd, stringMsg);
 
-                        if (GossipNode.tossCoin(k)) {
+                        if (node.tossCoin(k)) {
                             node.removeMessage(messageId);
                             if (node.isRunning()) {
-                        System.out.println("[Node " + node.getId() + "] Blind Coin: Removed message '" + 
+                        ConsoleLog.println("[Node " + node.getId() + "] Blind Coin: Removed message '" + 
                                         messageId.topic().subject() + "' from source " + messageId.topic().sourceId() + 
                                         " (timestamp=" + messageId.timestamp() + ", k=" + k + ")");
                             }
@@ -135,16 +128,16 @@ public class BlindCoinPushWorker implements WorkerInterface {
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newPushMsgs) {
+            for(Envelope newEnvelope: newPushMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
                             MessageId msgId = spreadMsg.getId();
                             if (node.isMessageRemoved(msgId)) {
                                 if (node.isRunning()) {
-                                    System.out.println("[Node " + node.getId() + "] Ignored removed message - subject '" + 
+                                    ConsoleLog.println("[Node " + node.getId() + "] Ignored removed message - subject '" + 
                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                             " (timestamp=" + msgId.timestamp() + ")");
                                 }
@@ -154,7 +147,7 @@ public class BlindCoinPushWorker implements WorkerInterface {
                             Boolean gotStored = node.storeOrIgnoreMessage(spreadMsg);
                             if(!gotStored) {
                                 if (node.isRunning()) {
-                                System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                                 }
                             }
                         }
@@ -180,7 +173,7 @@ public class BlindCoinPushWorker implements WorkerInterface {
 
         if(result.saveMsgs) {
             newPushMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = pushMsgs.poll()) != null) { newPushMsgs.add(newMsg); }
         }
     }
@@ -1,17 +1,18 @@
 package epidemic_core.node.mode.push.gossip.feedback.coin;
 
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.node_to_node.feedback.FeedbackMsg;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
-import epidemic_core.node.GossipNode;
 import epidemic_core.node.mode.push.general.components.WorkerInterface;
 import epidemic_core.node.mode.push.general.fsm.push_fsm.logic.PushFsm;
 import epidemic_core.node.mode.push.general.fsm.push_fsm.logic.output.PushFsmResult;
 import epidemic_core.node.mode.push.general.fsm.update_fsm.logic.UpdateFsm;
 import epidemic_core.node.mode.push.general.fsm.update_fsm.logic.output.UpdateFsmResult;
 import epidemic_core.node.mode.push.gossip.GossipPushNode;
+import epidemic_core.node.pacing.WorkerLoop;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,21 +23,22 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
 
     private GossipPushNode node;
 
-    private BlockingQueue<String> pushMsgs;
-    private List<String> newPushMsgs;
+    private BlockingQueue<Envelope> pushMsgs;
+    private List<Envelope> newPushMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PushFsm pushFsm;
     private UpdateFsm updateFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
     private final double k;
 
-    public FeedbackCoinPushWorker(GossipPushNode node, BlockingQueue<String> pushMsgs, BlockingQueue<String> startRoundMsgs, double k) {
+    public FeedbackCoinPushWorker(GossipPushNode node, BlockingQueue<Envelope> pushMsgs, BlockingQueue<Envelope> startRoundMsgs, double k) {
         this.node = node;
+        this.rand = node.getRandom();
         this.pushMsgs = pushMsgs;
         this.newPushMsgs = new ArrayList<>();
         this.startRoundMsgs = startRoundMsgs;
@@ -53,16 +55,7 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) GossipPushNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
+        WorkerLoop.run(node, GossipPushNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     // ======================================================= //
@@ -104,7 +97,7 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
                     );
                     
                     try {
-                        String stringMsg = forwardMsg.encode();
+                        String stringMsg = node.getCodec().encode(forwardMsg);
                         node.getCommunication().sendMessage(randNeighAdd, stringMsg);
                     } catch (java.io.IOException e) {
                         System.err.println("[Node " + node.getId() + "] Error encoding SpreadMsg: " + e.getMessage());
@@ -128,9 +121,9 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newPushMsgs) {
+            for(Envelope newEnvelope: newPushMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
@@ -147,10 +140,10 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
                                         if (originAddress != null) {
                                             FeedbackMsg feedbackMsg = new FeedbackMsg(msgId);
                                             try {
-                                                String feedbackString = feedbackMsg.encode();
+                                                String feedbackString = node.getCodec().encode(feedbackMsg);
                                                 node.getCommunication().sendMessage(originAddress, feedbackString);
                                                 if (node.isRunning()) {
-                                                    System.out.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for removed message '" + 
+                                                    ConsoleLog.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for removed message '" + 
                                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                                             " (timestamp=" + msgId.timestamp() + ") to node " + originId);
                                                 }
@@ -179,10 +172,10 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
                                         if (originAddress != null) {
                                             FeedbackMsg feedbackMsg = new FeedbackMsg(msgId);
                                             try {
-                                                String feedbackString = feedbackMsg.encode();
+                                                String feedbackString = node.getCodec().encode(feedbackMsg);
                                                 node.getCommunication().sendMessage(originAddress, feedbackString);
                                                 if (node.isRunning()) {
-                                                    System.out.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for message '" + 
+                                                    ConsoleLog.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for message '" + 
                                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                                             " (timestamp=" + msgId.timestamp() + ") to node " + originId);
                                                 }
@@ -192,7 +185,7 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
                                             }
                                         }
                                     } else if (node.isRunning()) {
-                                        System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                        ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                                     }
                                 }
                             }
@@ -202,10 +195,10 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
                         MessageId msgId = feedbackMsg.getId();
 
                         if (!node.isMessageRemoved(msgId) && node.hasMessage(msgId.topic().subject(), msgId.topic().sourceId())) {
-                            if (GossipNode.tossCoin(k)) {
+                            if (node.tossCoin(k)) {
                                 node.removeMessage(msgId);
                                 if (node.isRunning()) {
-                                    System.out.println("[Node " + node.getId() + "] Feedback Coin: Removed message '" + 
+                                    ConsoleLog.println("[Node " + node.getId() + "] Feedback Coin: Removed message '" + 
                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                             " (timestamp=" + msgId.timestamp() + ", k=" + k + ") after receiving feedback");
                                 }
@@ -233,7 +226,7 @@ public class FeedbackCoinPushWorker implements WorkerInterface {
 
         if(result.saveMsgs) {
             newPushMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = pushMsgs.poll()) != null) { newPushMsgs.add(newMsg); }
         }
     }
@@ -3,6 +3,7 @@ package epidemic_core.node.mode.pushpull.anti_entropy;
 import epidemic_core.node.mode.pushpull.general.components.Dispatcher;
 import epidemic_core.node.mode.pushpull.general.components.Listener;
 import epidemic_core.node.mode.pushpull.general.components.WorkerInterface;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageTopic;
 import general.communication.Communication;
 import general.communication.utils.Address;
@@ -21,10 +22,10 @@ public class AntiEntropyPushPullNode extends AntiEntropyNode {
     protected Dispatcher dispatcher;
     protected WorkerInterface worker;
 
-    protected BlockingQueue<String> receivedMsgsQueue;
-    protected BlockingQueue<String> replyMsgs;
-    protected BlockingQueue<String> requestMsgs;
-    protected BlockingQueue<String> startRoundMsgs;
+    protected BlockingQueue<Envelope> receivedMsgsQueue;
+    protected BlockingQueue<Envelope> replyMsgs;
+    protected BlockingQueue<Envelope> requestMsgs;
+    protected BlockingQueue<Envelope> startRoundMsgs;
 
     public AntiEntropyPushPullNode(Integer id,
                     List<Integer> neighbours,
@@ -51,7 +52,7 @@ public class AntiEntropyPushPullNode extends AntiEntropyNode {
         this.startRoundMsgs      = new LinkedBlockingQueue<>();
 
         this.listener   = new Listener(this, receivedMsgsQueue);
-        this.dispatcher = new Dispatcher(receivedMsgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
+        this.dispatcher = new Dispatcher(workSignal, statusReporter, receivedMsgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
         this.worker     = new AntiEntropyPushPullWorker(this, replyMsgs, requestMsgs, startRoundMsgs);
     }
 
@@ -78,5 +79,21 @@ public class AntiEntropyPushPullNode extends AntiEntropyNode {
         dispatcher.stopDispatching();
     }
 
-}
+    // ===========================================================
+    //                  THREAD-LESS DRIVING
+    // ===========================================================
+    @Override
+    public void deliver(Envelope envelope) {
+        try {
+            dispatcher.dispatch(envelope);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void workingStep() {
+        worker.workingStep();
+    }
 
+}
@@ -1,8 +1,8 @@
 package epidemic_core.node.mode.pushpull.anti_entropy;
 
 import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
-import epidemic_core.message.common.MessageDispatcher;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
 import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
@@ -15,7 +15,9 @@ import epidemic_core.node.mode.pushpull.general.fsm.pushpull_fsm.logic.output.Pu
 import epidemic_core.node.mode.pushpull.general.fsm.reply_update_fsm.logic.ReplyUpdateFsm;
 import epidemic_core.node.mode.pushpull.general.fsm.reply_update_fsm.logic.output.ReplyUpdateFsmResult;
 import epidemic_core.node.msg_related.StatusForMessage;
+import epidemic_core.node.pacing.WorkerLoop;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,23 +28,24 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
 
     private AntiEntropyPushPullNode node;
 
-    private BlockingQueue<String> replyMsgs;
-    private List<String> newReplyMsgs;
+    private BlockingQueue<Envelope> replyMsgs;
+    private List<Envelope> newReplyMsgs;
 
-    private BlockingQueue<String> requestMsgs;
-    private List<String> newReqMsgs;
+    private BlockingQueue<Envelope> requestMsgs;
+    private List<Envelope> newReqMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PushPullFsm pushPullFsm;
     private ReplyUpdateFsm replyUpdateFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
 
-    public AntiEntropyPushPullWorker(AntiEntropyPushPullNode node, BlockingQueue<String> replyMsgs, BlockingQueue<String> requestMsgs, BlockingQueue<String> startRoundMsgs) {
+    public AntiEntropyPushPullWorker(AntiEntropyPushPullNode node, BlockingQueue<Envelope> replyMsgs, BlockingQueue<Envelope> requestMsgs, BlockingQueue<Envelope> startRoundMsgs) {
         this.node = node;
+        this.rand = node.getRandom();
 
         this.replyMsgs = replyMsgs;
         this.newReplyMsgs = new ArrayList<>();
@@ -65,17 +68,7 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) AntiEntropyPushPullNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
-
+        WorkerLoop.run(node, AntiEntropyPushPullNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     public void setStartSignal(boolean startSignal) { this.startSignal = startSignal; }
@@ -118,7 +111,7 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
                         node.getId()
                     );
                     try {
-                        String request = reqMsg.encode();
+                        String request = node.getCodec().encode(reqMsg);
                         node.getCommunication().sendMessage(randNeighAdd, request);
                     } catch (java.io.IOException e) {
                         System.err.println("Error encoding InitialRequestMsg: " + e.getMessage());
@@ -138,7 +131,7 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
                     );
                     
                     try {
-                        String requestAndSpreadString = requestAndSpreadMsg.encode();
+                        String requestAndSpreadString = node.getCodec().encode(requestAndSpreadMsg);
                         node.getCommunication().sendMessage(randNeighAdd, requestAndSpreadString);
                     } catch (java.io.IOException e) {
                         System.err.println("Error encoding RequestAndSpreadMsg: " + e.getMessage());
@@ -164,20 +157,20 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
 
         if(result.saveReplyMsgs) {
             newReplyMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = replyMsgs.poll()) != null) { newReplyMsgs.add(newMsg); }
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newReplyMsgs) {
+            for(Envelope newEnvelope: newReplyMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
                             Boolean gotStored = node.storeOrIgnoreMessage(spreadMsg);
                             if(!gotStored) {
-                                System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                             }
                         }
                     }
@@ -199,9 +192,9 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
     //                  REPLY UPDATE FSM HANDLE                //
     // ======================================================= //
 
-    public void sendPushPullReply(String reqMsgStr) {
+    public void sendPushPullReply(Envelope reqEnvelope) {
         try {
-            Object decodedMsg = MessageDispatcher.decode(reqMsgStr);
+            Object decodedMsg = reqEnvelope.message();
 
             MessageId reqMsgId = null;
             Integer neighId = null;
@@ -226,7 +219,7 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
                         );
                         
                         try {
-                            String stringMsg = forwardMsg.encode();
+                            String stringMsg = node.getCodec().encode(forwardMsg);
                             node.getCommunication().sendMessage(neighAddress, stringMsg);
                         } catch (java.io.IOException e) {
                             System.err.println("Error encoding SpreadMsg: " + e.getMessage());
@@ -273,7 +266,7 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("Error encoding SpreadMsg: " + e.getMessage());
@@ -300,11 +293,11 @@ public class AntiEntropyPushPullWorker implements WorkerInterface {
 
         if(result.sendReply) {
             newReqMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = requestMsgs.poll()) != null) { newReqMsgs.add(newMsg); }
 
-            for(String newReqMsgStr: newReqMsgs) {
-                sendPushPullReply(newReqMsgStr);
+            for(Envelope newReqEnvelope: newReqMsgs) {
+                sendPushPullReply(newReqEnvelope);
             }
             
             newReqMsgs.clear();
@@ -1,7 +1,9 @@
 package epidemic_core.node.mode.pushpull.general.components;
 
 import epidemic_core.message.common.Direction;
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
+import epidemic_core.node.pacing.WorkSignal;
+import epidemic_core.node.reporting.StatusReporter;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
 import epidemic_core.message.node_to_node.request_and_spread.RequestAndSpreadMsg;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
@@ -10,18 +12,23 @@ import java.util.concurrent.BlockingQueue;
 
 public class Dispatcher {
 
-    private BlockingQueue<String> receivedMsgsQueue;
-    private BlockingQueue<String> replyMsgs;
-    private BlockingQueue<String> requestMsgs;
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> receivedMsgsQueue;
+    private BlockingQueue<Envelope> replyMsgs;
+    private BlockingQueue<Envelope> requestMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
+    private WorkSignal workSignal; // wakes the worker in event-driven mode
+    private StatusReporter statusReporter; // flushed at every round boundary
     private volatile boolean running;
 
-    public Dispatcher(BlockingQueue<String> receivedMsgsQueue, BlockingQueue<String> replyMsgs, BlockingQueue<String> requestMsgs, BlockingQueue<String> startRoundMsgs) {
+    public Dispatcher(WorkSignal workSignal, StatusReporter statusReporter, BlockingQueue<Envelope> receivedMsgsQueue, BlockingQueue<Envelope> replyMsgs, BlockingQueue<Envelope> requestMsgs, BlockingQueue<Envelope> startRoundMsgs) {
         this.receivedMsgsQueue = receivedMsgsQueue;
         this.replyMsgs = replyMsgs;
         this.requestMsgs = requestMsgs;
         this.startRoundMsgs = startRoundMsgs;
 
+        this.workSignal = workSignal;
+        this.statusReporter = statusReporter;
+
         running = true;
     }
 
@@ -29,45 +36,8 @@ public class Dispatcher {
 
         while(running){
             try {
-                String consumedMsg = receivedMsgsQueue.take();
-
-                if (MessageDispatcher.isRequestAndSpread(consumedMsg)) {
-                    requestMsgs.put(consumedMsg);
-
-                    try {
-                        Object decodedMsg = MessageDispatcher.decode(consumedMsg);
-                        if (decodedMsg instanceof RequestAndSpreadMsg) {
-                            RequestAndSpreadMsg requestAndSpreadMsg = (RequestAndSpreadMsg) decodedMsg;
-                            SpreadMsg spreadPart = new SpreadMsg(
-                                Direction.node_to_node.toString(),
-                                NodeToNodeMessageType.spread.toString(),
-                                requestAndSpreadMsg.getSubject(),
-                                requestAndSpreadMsg.getSourceId(),
-                                requestAndSpreadMsg.getTimestamp(),
-                                requestAndSpreadMsg.getOriginId(),
-                                requestAndSpreadMsg.getData()
-                            );
-                            try {
-                                String spreadMsgString = spreadPart.encode();
-                                replyMsgs.put(spreadMsgString);
-                            } catch (java.io.IOException e) {
-                                System.err.println("[Dispatcher] Error encoding SpreadMsg: " + e.getMessage());
-                                e.printStackTrace();
-                            }
-                        }
-                    } catch (Exception e) {
-                        System.err.println("[Dispatcher] Error extracting SPREAD from RequestAndSpreadMsg: " + e.getMessage());
-                    }
-                } else if (MessageDispatcher.isRequest(consumedMsg) || MessageDispatcher.isInitialRequest(consumedMsg)) {
-                    requestMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isSpread(consumedMsg)) {
-                    replyMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isFeedback(consumedMsg)) {
-                    replyMsgs.put(consumedMsg);
-                } else if (MessageDispatcher.isStartRound(consumedMsg)) {
-                    startRoundMsgs.put(consumedMsg);
-                }
-
+                Envelope consumedMsg = receivedMsgsQueue.take();
+                dispatch(consumedMsg);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -76,6 +46,37 @@ public class Dispatcher {
 
     }
 
+    // Routes one decoded message to the worker queues (also used to drive the node without its threads)
+    public void dispatch(Envelope consumedMsg) throws InterruptedException {
+        if (consumedMsg.isRequestAndSpread()) {
+            requestMsgs.put(consumedMsg);
+
+            // Spread part goes to the reply path, already decoded (no re-encode/re-parse)
+            RequestAndSpreadMsg requestAndSpreadMsg = (RequestAndSpreadMsg) consumedMsg.message();
+            SpreadMsg spreadPart = new SpreadMsg(
+                Direction.node_to_node.toString(),
+                NodeToNodeMessageType.spread.toString(),
+                requestAndSpreadMsg.getSubject(),
+                requestAndSpreadMsg.getSourceId(),
+                requestAndSpreadMsg.getTimestamp(),
+                requestAndSpreadMsg.getOriginId(),
+                requestAndSpreadMsg.getData()
+            );
+            replyMsgs.put(Envelope.of(spreadPart));
+        } else if (consumedMsg.isRequest() || consumedMsg.isInitialRequest()) {
+            requestMsgs.put(consumedMsg);
+        } else if (consumedMsg.isSpread()) {
+            replyMsgs.put(consumedMsg);
+        } else if (consumedMsg.isFeedback()) {
+            replyMsgs.put(consumedMsg);
+        } else if (consumedMsg.isStartRound()) {
+            statusReporter.onRoundStart();
+            startRoundMsgs.put(consumedMsg);
+        }
+
+        workSignal.signal();
+    }
+
     public void stopDispatching(){
         running = false;
     }
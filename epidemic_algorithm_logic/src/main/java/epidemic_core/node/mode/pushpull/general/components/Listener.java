@@ -1,5 +1,7 @@
 package epidemic_core.node.mode.pushpull.general.components;
 
+import epidemic_core.message.common.Envelope;
+import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
 import epidemic_core.node.Node;
 import general.communication.Communication;
 
@@ -7,11 +9,11 @@ import java.util.concurrent.BlockingQueue;
 
 public class Listener {
 
-    private BlockingQueue<String> receivedMsgsQueue;
+    private BlockingQueue<Envelope> receivedMsgsQueue;
     private Node node;
     private volatile boolean running;
 
-    public Listener(Node node, BlockingQueue<String> receivedMsgsQueue) {
+    public Listener(Node node, BlockingQueue<Envelope> receivedMsgsQueue) {
         this.node = node;
         this.receivedMsgsQueue = receivedMsgsQueue;
 
@@ -23,8 +25,23 @@ public class Listener {
             Communication communication = node.getCommunication();
             String receivedMsg = communication.receiveMessage();
             if (receivedMsg != null) {
+                // Decoded exactly once here; everything downstream works on the Envelope
+                Envelope envelope;
                 try {
-                    receivedMsgsQueue.put(receivedMsg);
+                    envelope = Envelope.of(node.getCodec().decode(receivedMsg));
+                } catch (Exception e) {
+                    System.err.println("[Node " + node.getId() + "] Dropped undecodable message: " + e.getMessage());
+                    continue;
+                }
+
+                // Round signals: gap detection / tree forwarding, duplicates dropped here
+                if (envelope.isStartRound()
+                        && !node.getRoundTracker().onRoundSignal((StartRoundMsg) envelope.message(), receivedMsg, communication)) {
+                    continue;
+                }
+
+                try {
+                    receivedMsgsQueue.put(envelope);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
@@ -3,5 +3,8 @@ package epidemic_core.node.mode.pushpull.general.components;
 // Interface for all PushPull Workers (Anti-Entropy and Gossip variants)
 public interface WorkerInterface {
     void workingLoop();
+
+    // One pass over the FSMs (workingLoop repeats it; the simulator calls it directly)
+    void workingStep();
 }
 
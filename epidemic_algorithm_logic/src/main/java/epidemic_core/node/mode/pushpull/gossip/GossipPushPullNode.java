@@ -4,6 +4,7 @@ import epidemic_core.node.mode.pushpull.general.components.Dispatcher;
 import epidemic_core.node.mode.pushpull.general.components.Listener;
 import epidemic_core.node.mode.pushpull.general.components.WorkerInterface;
 import epidemic_core.node.GossipNode;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageTopic;
 import general.communication.Communication;
 import general.communication.utils.Address;
@@ -23,10 +24,10 @@ public abstract class GossipPushPullNode extends GossipNode {
     protected WorkerInterface worker;
 
     // Msg buffers
-    protected BlockingQueue<String> receivedMsgsQueue;
-    protected BlockingQueue<String> replyMsgs;
-    protected BlockingQueue<String> requestMsgs;
-    protected BlockingQueue<String> startRoundMsgs;
+    protected BlockingQueue<Envelope> receivedMsgsQueue;
+    protected BlockingQueue<Envelope> replyMsgs;
+    protected BlockingQueue<Envelope> requestMsgs;
+    protected BlockingQueue<Envelope> startRoundMsgs;
 
     // Constructor
     public GossipPushPullNode(Integer id,
@@ -54,7 +55,7 @@ public abstract class GossipPushPullNode extends GossipNode {
         this.startRoundMsgs       = new LinkedBlockingQueue<>();
 
         this.listener   = new Listener(this, receivedMsgsQueue);
-        this.dispatcher = new Dispatcher(receivedMsgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
+        this.dispatcher = new Dispatcher(workSignal, statusReporter, receivedMsgsQueue, replyMsgs, requestMsgs, startRoundMsgs);
     }
 
     // ===========================================================
@@ -72,5 +73,21 @@ public abstract class GossipPushPullNode extends GossipNode {
         dispatcher.stopDispatching();
     }
 
-}
+    // ===========================================================
+    //                  THREAD-LESS DRIVING
+    // ===========================================================
+    @Override
+    public void deliver(Envelope envelope) {
+        try {
+            dispatcher.dispatch(envelope);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    @Override
+    public void workingStep() {
+        worker.workingStep();
+    }
+
+}
@@ -1,7 +1,7 @@
 package epidemic_core.node.mode.pushpull.gossip.blind.coin;
 
 import epidemic_core.message.common.Direction;
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
@@ -9,14 +9,15 @@ import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
 import epidemic_core.message.node_to_node.request.RequestMsg;
 import epidemic_core.message.node_to_node.request_and_spread.RequestAndSpreadMsg;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
-import epidemic_core.node.GossipNode;
 import epidemic_core.node.mode.pushpull.gossip.GossipPushPullNode;
 import epidemic_core.node.mode.pushpull.general.fsm.pushpull_fsm.logic.PushPullFsm;
 import epidemic_core.node.mode.pushpull.general.fsm.pushpull_fsm.logic.output.PushPullFsmResult;
 import epidemic_core.node.mode.pushpull.general.fsm.reply_update_fsm.logic.ReplyUpdateFsm;
 import epidemic_core.node.mode.pushpull.general.fsm.reply_update_fsm.logic.output.ReplyUpdateFsmResult;
 import epidemic_core.node.msg_related.StatusForMessage;
+import epidemic_core.node.pacing.WorkerLoop;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,24 +28,25 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
 
     private BlindCoinPushPullNode node;
 
-    private BlockingQueue<String> replyMsgs;
-    private List<String> newReplyMsgs;
+    private BlockingQueue<Envelope> replyMsgs;
+    private List<Envelope> newReplyMsgs;
 
-    private BlockingQueue<String> requestMsgs;
-    private List<String> newReqMsgs;
+    private BlockingQueue<Envelope> requestMsgs;
+    private List<Envelope> newReqMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PushPullFsm pushPullFsm;
     private ReplyUpdateFsm replyUpdateFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
     private final double k; // Probability parameter: 1/k chance to stop spreading
 
-    public BlindCoinPushPullWorker(BlindCoinPushPullNode node, BlockingQueue<String> replyMsgs, BlockingQueue<String> requestMsgs, BlockingQueue<String> startRoundMsgs, double k) {
+    public BlindCoinPushPullWorker(BlindCoinPushPullNode node, BlockingQueue<Envelope> replyMsgs, BlockingQueue<Envelope> requestMsgs, BlockingQueue<Envelope> startRoundMsgs, double k) {
         this.node = node;
+        this.rand = node.getRandom();
         this.replyMsgs = replyMsgs;
         this.newReplyMsgs = new ArrayList<>();
         this.requestMsgs = requestMsgs;
@@ -63,16 +65,7 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) GossipPushPullNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
+        WorkerLoop.run(node, GossipPushPullNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     public void setStartSignal(boolean startSignal) { this.startSignal = startSignal; }
@@ -111,7 +104,7 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
                         node.getId()
                     );
                     try {
-                        String request = reqMsg.encode();
+                        String request = node.getCodec().encode(reqMsg);
                         node.getCommunication().sendMessage(randNeighAdd, request);
                     } catch (java.io.IOException e) {
                         System.err.println("Error encoding InitialRequestMsg: " + e.getMessage());
@@ -128,7 +121,7 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
                             node.getId()
                         );
                         try {
-                            String request = reqMsg.encode();
+                            String request = node.getCodec().encode(reqMsg);
                             node.getCommunication().sendMessage(randNeighAdd, request);
                         } catch (java.io.IOException e) {
                             System.err.println("Error encoding InitialRequestMsg: " + e.getMessage());
@@ -148,17 +141,17 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
                     );
                     
                     try {
-                        String requestAndSpreadString = requestAndSpreadMsg.encode();
+                        String requestAndSpreadString = node.getCodec().encode(requestAndSpreadMsg);
                         node.getCommunication().sendMessage(randNeighAdd, requestAndSpreadString);
                     } catch (java.io.IOException e) {
                         System.err.println("Error encoding RequestAndSpreadMsg: " + e.getMessage());
                         e.printStackTrace();
                     }
 
-                    if (GossipNode.tossCoin(k)) {
+                    if (node.tossCoin(k)) {
                         node.removeMessage(msgId);
                         if (node.isRunning()) {
-                            System.out.println("[Node " + node.getId() + "] Blind Coin: Removed message '" + 
+                            ConsoleLog.println("[Node " + node.getId() + "] Blind Coin: Removed message '" + 
                                     msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                     " (timestamp=" + msgId.timestamp() + ", k=" + k + ")");
                         }
@@ -182,14 +175,14 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
 
         if(result.saveReplyMsgs) {
             newReplyMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = replyMsgs.poll()) != null) { newReplyMsgs.add(newMsg); }
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newReplyMsgs) {
+            for(Envelope newEnvelope: newReplyMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
@@ -198,7 +191,7 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
                             if (node.isMessageRemoved(msgId)) {
                                 // Ignore this message - it was previously removed
                                 if (node.isRunning()) {
-                                    System.out.println("[Node " + node.getId() + "] Ignored removed message - subject '" + 
+                                    ConsoleLog.println("[Node " + node.getId() + "] Ignored removed message - subject '" + 
                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                             " (timestamp=" + msgId.timestamp() + ")");
                                 }
@@ -207,7 +200,7 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
                             
                             Boolean gotStored = node.storeOrIgnoreMessage(spreadMsg);
                             if(!gotStored && node.isRunning()) {
-                                System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                             }
                         }
                     }
@@ -228,9 +221,9 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
     //                  REPLY UPDATE FSM HANDLE                //
     // ======================================================= //
 
-    public void sendPushPullReply(String reqMsgStr) {
+    public void sendPushPullReply(Envelope reqEnvelope) {
         try {
-            Object decodedMsg = MessageDispatcher.decode(reqMsgStr);
+            Object decodedMsg = reqEnvelope.message();
 
             MessageId reqMsgId = null;
             Integer neighId = null;
@@ -256,7 +249,7 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("[Node " + node.getId() + "] Error encoding SpreadMsg: " + e.getMessage());
@@ -304,7 +297,7 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("[Node " + node.getId() + "] Error encoding SpreadMsg: " + e.getMessage());
@@ -330,11 +323,11 @@ public class BlindCoinPushPullWorker implements epidemic_core.node.mode.pushpull
 
         if(result.sendReply) {
             newReqMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = requestMsgs.poll()) != null) { newReqMsgs.add(newMsg); }
 
-            for(String newReqMsgStr: newReqMsgs) {
-                sendPushPullReply(newReqMsgStr);
+            for(Envelope newReqEnvelope: newReqMsgs) {
+                sendPushPullReply(newReqEnvelope);
             }
             
             newReqMsgs.clear();
@@ -1,7 +1,7 @@
 package epidemic_core.node.mode.pushpull.gossip.feedback.coin;
 
 import epidemic_core.message.common.Direction;
-import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.Envelope;
 import epidemic_core.message.common.MessageId;
 import epidemic_core.message.common.MessageTopic;
 import epidemic_core.message.node_to_node.NodeToNodeMessageType;
@@ -10,14 +10,15 @@ import epidemic_core.message.node_to_node.initial_request.InitialRequestMsg;
 import epidemic_core.message.node_to_node.request.RequestMsg;
 import epidemic_core.message.node_to_node.request_and_spread.RequestAndSpreadMsg;
 import epidemic_core.message.node_to_node.spread.SpreadMsg;
-import epidemic_core.node.GossipNode;
 import epidemic_core.node.mode.pushpull.gossip.GossipPushPullNode;
 import epidemic_core.node.mode.pushpull.general.fsm.pushpull_fsm.logic.PushPullFsm;
 import epidemic_core.node.mode.pushpull.general.fsm.pushpull_fsm.logic.output.PushPullFsmResult;
 import epidemic_core.node.mode.pushpull.general.fsm.reply_update_fsm.logic.ReplyUpdateFsm;
 import epidemic_core.node.mode.pushpull.general.fsm.reply_update_fsm.logic.output.ReplyUpdateFsmResult;
 import epidemic_core.node.msg_related.StatusForMessage;
+import epidemic_core.node.pacing.WorkerLoop;
 import general.communication.utils.Address;
+import general.logging.ConsoleLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,24 +29,25 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
 
     private FeedbackCoinPushPullNode node;
 
-    private BlockingQueue<String> replyMsgs;
-    private List<String> newReplyMsgs;
+    private BlockingQueue<Envelope> replyMsgs;
+    private List<Envelope> newReplyMsgs;
 
-    private BlockingQueue<String> requestMsgs;
-    private List<String> newReqMsgs;
+    private BlockingQueue<Envelope> requestMsgs;
+    private List<Envelope> newReqMsgs;
 
-    private BlockingQueue<String> startRoundMsgs;
+    private BlockingQueue<Envelope> startRoundMsgs;
 
     private PushPullFsm pushPullFsm;
     private ReplyUpdateFsm replyUpdateFsm;
 
     private volatile boolean startSignal;
 
-    private final Random rand = new Random();
+    private final Random rand;
     private final double k;
 
-    public FeedbackCoinPushPullWorker(FeedbackCoinPushPullNode node, BlockingQueue<String> replyMsgs, BlockingQueue<String> requestMsgs, BlockingQueue<String> startRoundMsgs, double k) {
+    public FeedbackCoinPushPullWorker(FeedbackCoinPushPullNode node, BlockingQueue<Envelope> replyMsgs, BlockingQueue<Envelope> requestMsgs, BlockingQueue<Envelope> startRoundMsgs, double k) {
         this.node = node;
+        this.rand = node.getRandom();
         this.replyMsgs = replyMsgs;
         this.newReplyMsgs = new ArrayList<>();
         this.requestMsgs = requestMsgs;
@@ -64,16 +66,7 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
     }
 
     public void workingLoop() {
-        while(node.isRunning()) {
-            workingStep();
-
-            try {
-                Thread.sleep((long) GossipPushPullNode.RUNNING_INTERVAL);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
+        WorkerLoop.run(node, GossipPushPullNode.RUNNING_INTERVAL, this::workingStep);
     }
 
     public void setStartSignal(boolean startSignal) { this.startSignal = startSignal; }
@@ -112,7 +105,7 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                         node.getId()
                     );
                     try {
-                        String request = reqMsg.encode();
+                        String request = node.getCodec().encode(reqMsg);
                         node.getCommunication().sendMessage(randNeighAdd, request);
                     } catch (java.io.IOException e) {
                         System.err.println("Error encoding InitialRequestMsg: " + e.getMessage());
@@ -137,7 +130,7 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                     );
                     
                     try {
-                        String requestAndSpreadString = requestAndSpreadMsg.encode();
+                        String requestAndSpreadString = node.getCodec().encode(requestAndSpreadMsg);
                         node.getCommunication().sendMessage(randNeighAdd, requestAndSpreadString);
                     } catch (java.io.IOException e) {
                         System.err.println("Error encoding RequestAndSpreadMsg: " + e.getMessage());
@@ -162,14 +155,14 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
 
         if(result.saveReplyMsgs) {
             newReplyMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = replyMsgs.poll()) != null) { newReplyMsgs.add(newMsg); }
         }
 
         if(result.updateStatus) {
-            for(String newMsgStr: newReplyMsgs) {
+            for(Envelope newEnvelope: newReplyMsgs) {
                 try {
-                    Object decodedMsg = MessageDispatcher.decode(newMsgStr);
+                    Object decodedMsg = newEnvelope.message();
                     if (decodedMsg instanceof SpreadMsg) {
                         SpreadMsg spreadMsg = (SpreadMsg) decodedMsg;
                         if(node.subscriptionCheck(spreadMsg.getId().topic())) {
@@ -187,10 +180,10 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                                         if (originAddress != null) {
                                             FeedbackMsg feedbackMsg = new FeedbackMsg(msgId);
                                             try {
-                                                String feedbackString = feedbackMsg.encode();
+                                                String feedbackString = node.getCodec().encode(feedbackMsg);
                                                 node.getCommunication().sendMessage(originAddress, feedbackString);
                                                 if (node.isRunning()) {
-                                                    System.out.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for removed message '" + 
+                                                    ConsoleLog.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for removed message '" + 
                                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                                             " (timestamp=" + msgId.timestamp() + ") to node " + originId);
                                                 }
@@ -206,7 +199,7 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                             
                             Boolean gotStored = node.storeOrIgnoreMessage(spreadMsg);
                             if(!gotStored && node.isRunning()) {
-                                System.out.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
+                                ConsoleLog.println("[Node " + node.getId() + "] Ignored message - subject '" + spreadMsg.getId().topic().subject() + "' (older timestamp)");
                             }
                         }
                     } else if (decodedMsg instanceof FeedbackMsg) {
@@ -214,10 +207,10 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                         MessageId msgId = feedbackMsg.getId();
 
                         if (!node.isMessageRemoved(msgId) && node.hasMessage(msgId.topic().subject(), msgId.topic().sourceId())) {
-                            if (GossipNode.tossCoin(k)) {
+                            if (node.tossCoin(k)) {
                                 node.removeMessage(msgId);
                                 if (node.isRunning()) {
-                                    System.out.println("[Node " + node.getId() + "] Feedback Coin: Removed message '" + 
+                                    ConsoleLog.println("[Node " + node.getId() + "] Feedback Coin: Removed message '" + 
                                             msgId.topic().subject() + "' from source " + msgId.topic().sourceId() + 
                                             " (timestamp=" + msgId.timestamp() + ", k=" + k + ") after receiving feedback");
                                 }
@@ -241,9 +234,9 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
     //                  REPLY UPDATE FSM HANDLE                //
     // ======================================================= //
 
-    public void sendPushPullReply(String reqMsgStr) {
+    public void sendPushPullReply(Envelope reqEnvelope) {
         try {
-            Object decodedMsg = MessageDispatcher.decode(reqMsgStr);
+            Object decodedMsg = reqEnvelope.message();
 
             MessageId reqMsgId = null;
             Integer neighId = null;
@@ -269,7 +262,7 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("[Node " + node.getId() + "] Error encoding SpreadMsg: " + e.getMessage());
@@ -308,11 +301,11 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                         if (storedTimestamp == reqTimestamp) {
                             FeedbackMsg feedbackMsg = new FeedbackMsg(reqMsgId);
                             try {
-                                String feedbackString = feedbackMsg.encode();
+                                String feedbackString = node.getCodec().encode(feedbackMsg);
                                 node.getCommunication().sendMessage(neighAddress, feedbackString);
                                 if (node.isRunning()) {
                                     String removedNote = node.isMessageRemoved(storedMsgId) ? " (removed)" : "";
-                                    System.out.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for message '" + 
+                                    ConsoleLog.println("[Node " + node.getId() + "] Feedback Coin: Sent feedback for message '" + 
                                             reqSubject + "' from source " + reqSourceId + 
                                             " (timestamp=" + reqTimestamp + ")" + removedNote + " to node " + neighId);
                                 }
@@ -332,7 +325,7 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
                             );
                             
                             try {
-                                String stringMsg = forwardMsg.encode();
+                                String stringMsg = node.getCodec().encode(forwardMsg);
                                 node.getCommunication().sendMessage(neighAddress, stringMsg);
                             } catch (java.io.IOException e) {
                                 System.err.println("[Node " + node.getId() + "] Error encoding SpreadMsg: " + e.getMessage());
@@ -358,11 +351,11 @@ public class FeedbackCoinPushPullWorker implements epidemic_core.node.mode.pushp
 
         if(result.sendReply) {
             newReqMsgs.clear();
-            String newMsg;
+            Envelope newMsg;
             while((newMsg = requestMsgs.poll()) != null) { newReqMsgs.add(newMsg); }
 
-            for(String newReqMsgStr: newReqMsgs) {
-                sendPushPullReply(newReqMsgStr);
+            for(Envelope newReqEnvelope: newReqMsgs) {
+                sendPushPullReply(newReqEnvelope);
             }
             
             newReqMsgs.clear();
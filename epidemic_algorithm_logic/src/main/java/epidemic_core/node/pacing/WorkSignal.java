@@ -0,0 +1,30 @@
+package epidemic_core.node.pacing;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Coalescing wake-up signal between a node's Dispatcher (producer) and its Worker (consumer).
+// Any number of signal() calls before the worker wakes result in a single wake-up.
+public class WorkSignal {
+
+    private final Semaphore permits = new Semaphore(0);
+
+    public void signal() {
+        if (permits.availablePermits() == 0) {
+            permits.release();
+        }
+    }
+
+    // Waits for a signal; timeoutMs <= 0 waits indefinitely. Returns false on timeout.
+    public boolean await(long timeoutMs) throws InterruptedException {
+        boolean signalled;
+        if (timeoutMs > 0) {
+            signalled = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } else {
+            permits.acquire();
+            signalled = true;
+        }
+        permits.drainPermits();
+        return signalled;
+    }
+}
@@ -0,0 +1,32 @@
+package epidemic_core.node.pacing;
+
+import epidemic_core.node.Node;
+
+// Shared working loop for every node worker (push, pull and pushpull families)
+public final class WorkerLoop {
+
+    // FSM chains need at most IDLE -> ACTION -> IDLE after an input, so a burst of steps settles them
+    public static final int SETTLE_STEPS = 3;
+
+    private WorkerLoop() {}
+
+    public static void run(Node node, double pollingIntervalMs, Runnable workingStep) {
+        while (node.isRunning()) {
+            try {
+                if (node.getWorkerMode() == WorkerMode.EVENT_DRIVEN) {
+                    // Wait for the Dispatcher (or the optional tick), then walk the FSMs until they settle
+                    node.getWorkSignal().await(node.getWorkerTickMs());
+                    for (int i = 0; i < SETTLE_STEPS && node.isRunning(); i++) {
+                        workingStep.run();
+                    }
+                } else {
+                    workingStep.run();
+                    Thread.sleep((long) pollingIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package epidemic_core.node.pacing;
+
+// How node workers step their FSMs
+public enum WorkerMode
+{
+    POLLING,      // step, then sleep RUNNING_INTERVAL (original behaviour)
+    EVENT_DRIVEN; // step only when the Dispatcher queues something (or on the optional tick)
+
+    public static WorkerMode fromString(String input){
+
+        if (input == null) {
+            return POLLING;
+        }
+
+        return switch(input.toLowerCase()){
+            case "polling" -> POLLING;
+            case "event_driven", "event" -> EVENT_DRIVEN;
+
+            default -> throw new IllegalStateException("Unexpected value: " + input.toLowerCase());
+        };
+    }
+}
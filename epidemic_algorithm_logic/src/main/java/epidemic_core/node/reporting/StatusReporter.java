@@ -0,0 +1,147 @@
+package epidemic_core.node.reporting;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
+import epidemic_core.message.node_to_supervisor.status_batch.StatusBatchMsg;
+import epidemic_core.message.node_to_supervisor.status_batch.StatusBatchMsg.InfectionEntry;
+import epidemic_core.message.node_to_supervisor.status_batch.StatusBatchMsg.RemotionEntry;
+import epidemic_core.node.round_sync.RoundTracker;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Node-side buffer that coalesces infection/remotion reports into one StatusBatchMsg.
+ *
+ * A batch is flushed when:
+ * - a new round starts (the Dispatcher calls onRoundStart)
+ * - it reaches maxBatchSize entries
+ * - maxDelayMs elapsed since its first entry (one timer thread shared by every node)
+ * maxBatchSize <= 1 means no batching (the node sends the single-update messages instead).
+ *
+ * Batches carry the node's round (from the RoundTracker), the lag of that round's start signal and the
+ * rounds missed so far. So that quiet nodes are measured too, a node also sends an otherwise empty batch
+ * at one round in LAG_SAMPLE_EVERY (staggered by node id), and whenever it notices a missed round.
+ */
+public class StatusReporter {
+
+    private static final ScheduledExecutorService FLUSH_TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "status-report-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final int LAG_SAMPLE_EVERY = 8;
+
+    private final int nodeId;
+    private final Consumer<String> sender;
+    private final RoundTracker roundTracker;
+
+    private final Object sendLock = new Object(); // batches leave in the order they were built
+    private volatile int maxBatchSize = 0;
+    private volatile long maxDelayMs = 0;
+
+    private List<InfectionEntry> infections = new ArrayList<>();
+    private List<RemotionEntry> remotions = new ArrayList<>();
+    private boolean flushScheduled = false;
+    private int round = 0;
+    private long reportedMissedRounds = 0;
+
+    public StatusReporter(int nodeId, Consumer<String> sender, RoundTracker roundTracker) {
+        this.nodeId = nodeId;
+        this.sender = sender;
+        this.roundTracker = roundTracker;
+    }
+
+    public void configure(int maxBatchSize, long maxDelayMs) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    public boolean isBatching() {
+        return maxBatchSize > 1;
+    }
+
+    public void addInfection(InfectionEntry entry) {
+        boolean full;
+        synchronized (this) {
+            infections.add(entry);
+            full = infections.size() + remotions.size() >= maxBatchSize;
+            if (!full) scheduleFlushIfNeeded();
+        }
+        if (full) flush();
+    }
+
+    public void addRemotion(RemotionEntry entry) {
+        boolean full;
+        synchronized (this) {
+            remotions.add(entry);
+            full = infections.size() + remotions.size() >= maxBatchSize;
+            if (!full) scheduleFlushIfNeeded();
+        }
+        if (full) flush();
+    }
+
+    // Round boundary: whatever the previous round produced goes out now
+    public void onRoundStart() {
+        boolean sample;
+        synchronized (this) {
+            int trackedRound = roundTracker.getLastRound();
+            round = trackedRound > round ? trackedRound : round + 1; // signals that bypass the Listener: just count
+            sample = isBatching() && ((nodeId + round) % LAG_SAMPLE_EVERY == 0
+                    || roundTracker.getMissedRounds() > reportedMissedRounds);
+        }
+        flush(sample);
+    }
+
+    public void flush() {
+        flush(false);
+    }
+
+    // Flushes come from the worker, the Dispatcher and the timer thread: building and sending under
+    // sendLock keeps a later batch from overtaking an earlier one (e.g. a remotion before its infection)
+    private void flush(boolean evenIfEmpty) {
+        synchronized (sendLock) {
+            StatusBatchMsg batch;
+            synchronized (this) {
+                if (infections.isEmpty() && remotions.isEmpty() && !evenIfEmpty) {
+                    return;
+                }
+                long lagMs = roundTracker.getLastLagMs();
+                reportedMissedRounds = roundTracker.getMissedRounds();
+                batch = new StatusBatchMsg(
+                        Direction.node_to_supervisor.toString(),
+                        NodeToSupervisorMessageType.status_batch.toString(),
+                        nodeId, round, lagMs >= 0 ? lagMs : null, reportedMissedRounds, infections, remotions);
+                infections = new ArrayList<>();
+                remotions = new ArrayList<>();
+            }
+
+            try {
+                sender.accept(batch.encode());
+            } catch (IOException e) {
+                System.err.println("Error encoding StatusBatchMsg: " + e.getMessage());
+            }
+        }
+    }
+
+    // Called with the lock held
+    private void scheduleFlushIfNeeded() {
+        long delay = maxDelayMs;
+        if (flushScheduled || delay <= 0) {
+            return;
+        }
+        flushScheduled = true;
+        FLUSH_TIMER.schedule(() -> {
+            synchronized (this) {
+                flushScheduled = false;
+            }
+            flush();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,52 @@
+package epidemic_core.node.round_sync;
+
+import general.communication.utils.FrameCharset;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.util.function.Consumer;
+
+/**
+ * Joins the round-clock multicast group (MULTICAST round sync over UDP sockets) and hands every
+ * datagram to the sink. Every node has its own socket on the group port (SO_REUSEADDR), so the
+ * kernel delivers one copy per node; the supervisor sends a single datagram per round.
+ */
+public class MulticastRoundReceiver {
+
+    private static final int MAX_DATAGRAM_SIZE = 2048;
+
+    private final MulticastSocket socket;
+    private final Thread thread;
+
+    // group "ip:port"; localIp picks the interface to join on (the node's own UDP address)
+    public MulticastRoundReceiver(InetSocketAddress group, String localIp, Consumer<String> sink) throws IOException {
+        NetworkInterface networkInterface = NetworkInterface.getByInetAddress(InetAddress.getByName(localIp));
+        if (networkInterface == null) {
+            networkInterface = NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+        }
+        this.socket = new MulticastSocket(group.getPort());
+        socket.joinGroup(group, networkInterface);
+
+        this.thread = Thread.startVirtualThread(() -> {
+            byte[] buffer = new byte[MAX_DATAGRAM_SIZE];
+            while (!socket.isClosed()) {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                try {
+                    socket.receive(packet);
+                } catch (IOException e) {
+                    break; // closed
+                }
+                sink.accept(FrameCharset.fromBytes(packet.getData(), 0, packet.getLength()));
+            }
+        });
+    }
+
+    public void close() {
+        socket.close();
+        thread.interrupt();
+    }
+}
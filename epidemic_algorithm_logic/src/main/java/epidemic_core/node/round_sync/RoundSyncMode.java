@@ -0,0 +1,24 @@
+package epidemic_core.node.round_sync;
+
+// How the supervisor delivers StartRoundMsg to the nodes
+public enum RoundSyncMode
+{
+    UNICAST,   // one datagram per node from the supervisor (original behaviour)
+    MULTICAST, // one IP multicast datagram (in-memory fabric: one broadcast per node port)
+    TREE;      // the supervisor signals k roots, every node forwards to its k children
+
+    public static RoundSyncMode fromString(String input){
+
+        if (input == null) {
+            return UNICAST;
+        }
+
+        return switch(input.toLowerCase()){
+            case "unicast" -> UNICAST;
+            case "multicast" -> MULTICAST;
+            case "tree" -> TREE;
+
+            default -> throw new IllegalStateException("Unexpected value: " + input.toLowerCase());
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package epidemic_core.node.round_sync;
+
+import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
+import general.communication.Communication;
+import general.communication.utils.Address;
+import general.logging.ConsoleLog;
+
+import java.util.List;
+
+/**
+ * Node-side view of the round clock: last round seen, rounds missed (gaps in the round numbers)
+ * and the lag of the last signal (receive time - supervisor send time).
+ * In TREE mode it also forwards each new signal to the node's children before the node handles it.
+ */
+public class RoundTracker {
+
+    private final int nodeId;
+    private volatile List<Address> treeChildren = List.of();
+
+    private int lastRound = 0;
+    private long missedRounds = 0;
+    private long lastLagMs = -1; // -1 = unknown (no send time in the signal)
+
+    public RoundTracker(int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public void setTreeChildren(List<Address> treeChildren) {
+        this.treeChildren = List.copyOf(treeChildren);
+    }
+
+    // Called by the Listener for every StartRoundMsg before it is queued.
+    // Returns false for a stale or duplicate signal, which the node should drop
+    public boolean onRoundSignal(StartRoundMsg msg, String raw, Communication communication) {
+        Integer round = msg.getRound();
+        if (round == null) {
+            synchronized (this) {
+                lastRound++; // unnumbered signal (older supervisor / simulator): just count
+            }
+            return true;
+        }
+
+        long missed;
+        synchronized (this) {
+            if (round <= lastRound) {
+                return false;
+            }
+            missed = lastRound > 0 ? round - lastRound - 1 : 0;
+            missedRounds += missed;
+            lastRound = round;
+            lastLagMs = msg.getSentAtMs() != null ? Math.max(0, System.currentTimeMillis() - msg.getSentAtMs()) : -1;
+        }
+
+        for (Address child : treeChildren) {
+            communication.sendMessage(child, raw);
+        }
+        if (missed > 0) {
+            ConsoleLog.println("[Node " + nodeId + "] Missed " + missed + " round signal(s) before round " + round);
+        }
+        return true;
+    }
+
+    public synchronized int getLastRound() { return lastRound; }
+
+    public synchronized long getMissedRounds() { return missedRounds; }
+
+    public synchronized long getLastLagMs() { return lastLagMs; }
+}
@@ -0,0 +1,39 @@
+package epidemic_core.node.store;
+
+import epidemic_core.message.common.MessageId;
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.node.msg_related.StatusForMessage;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Storage of the messages held by a node.
+// Only the latest version (highest timestamp) of each topic (subject + sourceId) is kept.
+public interface MessageStore {
+
+    // Latest stored version of the topic (null if the node never received it)
+    StatusForMessage getLatest(MessageTopic topic);
+
+    // Most recent version among all topics with the given subject (any source)
+    StatusForMessage getLatestBySubject(String subject);
+
+    boolean containsSubject(String subject);
+
+    // Exact version lookup (null if the stored version has a different timestamp)
+    StatusForMessage get(MessageId messageId);
+
+    boolean contains(MessageId messageId);
+
+    // Stores the message as the latest version of its topic, replacing any previous version
+    void put(StatusForMessage status);
+
+    // Live, read-only view of the stored messages (one per topic)
+    Collection<StatusForMessage> values();
+
+    // Copy of the stored messages keyed by their MessageId
+    Map<MessageId, StatusForMessage> snapshot();
+
+    boolean isEmpty();
+
+    int size();
+}
@@ -0,0 +1,106 @@
+package epidemic_core.node.store.implementation;
+
+import epidemic_core.message.common.MessageId;
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.node.msg_related.StatusForMessage;
+import epidemic_core.node.store.MessageStore;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MessageStore keyed by MessageTopic with a secondary subject index.
+ * Topic lookups and replacements are O(1); subject lookups only visit the topics of that subject.
+ */
+public class IndexedMessageStore implements MessageStore {
+
+    private final Map<MessageTopic, StatusForMessage> byTopic;
+    private final Map<String, Set<MessageTopic>> topicsBySubject;
+
+    public IndexedMessageStore() {
+        this.byTopic = new ConcurrentHashMap<>();
+        this.topicsBySubject = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public StatusForMessage getLatest(MessageTopic topic) {
+        return byTopic.get(topic);
+    }
+
+    @Override
+    public StatusForMessage getLatestBySubject(String subject) {
+        Set<MessageTopic> topics = topicsBySubject.get(subject);
+        if (topics == null) {
+            return null;
+        }
+
+        StatusForMessage mostRecent = null;
+        long maxTimestamp = -1;
+
+        for (MessageTopic topic : topics) {
+            StatusForMessage status = byTopic.get(topic);
+            if (status != null && status.getMessage().getId().timestamp() > maxTimestamp) {
+                mostRecent = status;
+                maxTimestamp = status.getMessage().getId().timestamp();
+            }
+        }
+
+        return mostRecent;
+    }
+
+    @Override
+    public boolean containsSubject(String subject) {
+        Set<MessageTopic> topics = topicsBySubject.get(subject);
+        return topics != null && !topics.isEmpty();
+    }
+
+    @Override
+    public StatusForMessage get(MessageId messageId) {
+        StatusForMessage status = byTopic.get(messageId.topic());
+        if (status != null && status.getMessage().getId().timestamp() == messageId.timestamp()) {
+            return status;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(MessageId messageId) {
+        return get(messageId) != null;
+    }
+
+    @Override
+    public void put(StatusForMessage status) {
+        MessageTopic topic = status.getMessage().getId().topic();
+
+        // Replaces the previous version of the same topic (latest-version-per-topic)
+        byTopic.put(topic, status);
+        topicsBySubject.computeIfAbsent(topic.subject(), s -> ConcurrentHashMap.newKeySet()).add(topic);
+    }
+
+    @Override
+    public Collection<StatusForMessage> values() {
+        return Collections.unmodifiableCollection(byTopic.values());
+    }
+
+    @Override
+    public Map<MessageId, StatusForMessage> snapshot() {
+        Map<MessageId, StatusForMessage> copy = new ConcurrentHashMap<>();
+        for (StatusForMessage status : byTopic.values()) {
+            copy.put(status.getMessage().getId(), status);
+        }
+        return copy;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return byTopic.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return byTopic.size();
+    }
+}
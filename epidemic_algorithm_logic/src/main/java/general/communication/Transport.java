@@ -0,0 +1,24 @@
+package general.communication;
+
+// Which Communication implementation carries node traffic in a run
+public enum Transport
+{
+    UDP,        // java.net DatagramSocket (original implementation)
+    NIO_UDP,    // DatagramChannel with pooled direct buffers
+    IN_MEMORY;  // in-process fabric, local deployment only
+
+    public static Transport fromString(String input){
+
+        if (input == null) {
+            return UDP;
+        }
+
+        return switch(input.toLowerCase()){
+            case "udp" -> UDP;
+            case "nio_udp", "nio" -> NIO_UDP;
+            case "in_memory", "memory" -> IN_MEMORY;
+
+            default -> throw new IllegalStateException("Unexpected value: " + input.toLowerCase());
+        };
+    }
+}
@@ -0,0 +1,225 @@
+package general.communication.implementation;
+
+import general.communication.Communication;
+import general.communication.utils.Address;
+import general.communication.utils.FrameCharset;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * UDP transport on an NIO DatagramChannel. Drop-in replacement for UdpCommunication (same bytes on the wire).
+ *
+ * - sends encode straight into pooled direct buffers (no byte[] per datagram)
+ * - destinations are resolved once per Address and cached
+ * - receive drains every datagram already queued in the socket in one go (up to RECEIVE_BATCH)
+ *   and hands them out one per receiveMessage() call; it only blocks when the socket is empty
+ * - no per-datagram logging
+ * receiveMessage/receiveMessages expect a single receiving thread (the node/supervisor Listener).
+ */
+public class NioUdpCommunication implements Communication {
+
+    private static final int MAX_DATAGRAM_SIZE = 65_507;
+    private static final int RECEIVE_BATCH = 64;
+    private static final int MAX_POOLED_SEND_SLOTS = 32;
+
+    private DatagramChannel channel;
+    private Selector selector;
+
+    private final Map<Address, InetSocketAddress> resolvedAddresses = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<SendSlot> sendSlots = new ConcurrentLinkedQueue<>();
+
+    // Receiving side (single consumer)
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE);
+    private final byte[] receiveScratch = new byte[MAX_DATAGRAM_SIZE];
+    private final ArrayDeque<String> received = new ArrayDeque<>(RECEIVE_BATCH);
+
+    @Override
+    public void setupSocket(Address myAddress) {
+        try {
+            channel = DatagramChannel.open(StandardProtocolFamily.INET);
+            channel.bind(resolve(myAddress));
+            channel.configureBlocking(false);
+
+            selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
+
+            System.out.println("NIO UDP channel listening on " + myAddress.getIp() + ":" + myAddress.getPort());
+        } catch (IOException e) {
+            System.err.println("Error creating NIO UDP channel on " + myAddress.getIp() + ":" + myAddress.getPort() + ": " + e.getMessage());
+            closeSocket();
+        }
+    }
+
+    public boolean isSocketReady() {
+        return channel != null && channel.isOpen();
+    }
+
+    @Override
+    public void sendMessage(Address destination, String message) {
+        if (!isSocketReady() || destination == null || message == null) {
+            return;
+        }
+        send(resolve(destination), message);
+    }
+
+    public void sendBroadcastMessage(int port, String message) {
+        if (!isSocketReady() || message == null) {
+            return;
+        }
+
+        try {
+            channel.setOption(StandardSocketOptions.SO_BROADCAST, true);
+        } catch (IOException e) {
+            System.err.println("Error enabling UDP broadcast: " + e.getMessage());
+            return;
+        }
+        send(resolve(new Address("255.255.255.255", port)), message);
+    }
+
+    private void send(InetSocketAddress target, String message) {
+        SendSlot slot = sendSlots.poll();
+        if (slot == null) {
+            slot = new SendSlot();
+        }
+
+        try {
+            ByteBuffer buffer = slot.encode(message);
+            if (buffer == null) {
+                System.err.println("Dropping UDP message larger than " + MAX_DATAGRAM_SIZE + " bytes");
+                return;
+            }
+            channel.send(buffer, target);
+        } catch (ClosedChannelException e) {
+            // socket closed while sending (node stopping)
+        } catch (IOException e) {
+            System.err.println("Error sending UDP message to " + target + ": " + e.getMessage());
+        } finally {
+            if (sendSlots.size() < MAX_POOLED_SEND_SLOTS) {
+                sendSlots.offer(slot);
+            }
+        }
+    }
+
+    @Override
+    public String receiveMessage() {
+        if (received.isEmpty() && fillBatch() == 0) {
+            return null;
+        }
+        return received.poll();
+    }
+
+    // Batched variant: moves up to maxMessages received datagrams into sink (blocks until at least one)
+    public int receiveMessages(Collection<String> sink, int maxMessages) {
+        if (received.isEmpty() && fillBatch() == 0) {
+            return 0;
+        }
+        int moved = 0;
+        while (moved < maxMessages && !received.isEmpty()) {
+            sink.add(received.poll());
+            moved++;
+        }
+        return moved;
+    }
+
+    // Blocks until the socket has data, then drains what is already there; 0 if the channel is closed
+    private int fillBatch() {
+        while (isSocketReady()) {
+            try {
+                int count = drainReady();
+                if (count > 0) {
+                    return count;
+                }
+                selector.select();
+                selector.selectedKeys().clear();
+            } catch (ClosedChannelException | ClosedSelectorException e) {
+                return 0;
+            } catch (IOException e) {
+                System.err.println("Error receiving UDP message: " + e.getMessage());
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private int drainReady() throws IOException {
+        int count = 0;
+        while (count < RECEIVE_BATCH) {
+            receiveBuffer.clear();
+            SocketAddress from = channel.receive(receiveBuffer);
+            if (from == null) {
+                break;
+            }
+            receiveBuffer.flip();
+            int length = receiveBuffer.remaining();
+            receiveBuffer.get(receiveScratch, 0, length);
+            received.add(FrameCharset.fromBytes(receiveScratch, 0, length));
+            count++;
+        }
+        return count;
+    }
+
+    private InetSocketAddress resolve(Address address) {
+        return resolvedAddresses.computeIfAbsent(address, a -> new InetSocketAddress(a.getIp(), a.getPort()));
+    }
+
+    @Override
+    public void closeSocket() {
+        try {
+            if (selector != null) {
+                selector.close();
+            }
+            if (channel != null && channel.isOpen()) {
+                channel.close();
+                System.out.println("NIO UDP channel closed");
+            }
+        } catch (IOException e) {
+            System.err.println("Error closing NIO UDP channel: " + e.getMessage());
+        }
+    }
+
+    // Direct buffer + encoders owned by one sender at a time
+    private static final class SendSlot {
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE);
+        private final CharsetEncoder utf8 = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharsetEncoder latin1 = StandardCharsets.ISO_8859_1.newEncoder();
+
+        // Same charset choice as FrameCharset.toBytes; null if the message doesn't fit in one datagram
+        ByteBuffer encode(String message) {
+            CharsetEncoder encoder = FrameCharset.forMessage(message) == StandardCharsets.ISO_8859_1 ? latin1 : utf8;
+            encoder.reset();
+            buffer.clear();
+
+            CoderResult result = encoder.encode(CharBuffer.wrap(message), buffer, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(buffer);
+            }
+            if (!result.isUnderflow()) {
+                return null;
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
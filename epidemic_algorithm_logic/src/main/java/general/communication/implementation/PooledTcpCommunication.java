@@ -0,0 +1,185 @@
+package general.communication.implementation;
+
+import general.communication.utils.Address;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TcpCommunication with long-lived outgoing connections.
+ *
+ * Receiving side is unchanged (the server already reads every line of a connection until it closes).
+ * Sending keeps one connection per peer, opened lazily, and a writer thread per peer that drains
+ * everything queued since its last write and flushes once (pipelined, one line per message).
+ * If the connection breaks, the pending batch is kept and resent after reconnecting with
+ * exponential backoff + jitter. sendMessage never blocks on the network.
+ * There are no application-level acks: lines the kernel accepted just before the peer went away
+ * are lost, as with the one-shot sender.
+ * closeSocket gives queued messages (e.g. a KillNodeMsg fan-out) up to CLOSE_FLUSH_TIMEOUT_MS to go out.
+ */
+public class PooledTcpCommunication extends TcpCommunication {
+
+    private static final int CONNECT_TIMEOUT_MS = 2000;
+    private static final long BACKOFF_INITIAL_MS = 50;
+    private static final long BACKOFF_MAX_MS = 5000;
+    private static final int MAX_PENDING_PER_PEER = 100_000;
+    private static final int MAX_BATCH = 1024;
+    private static final long IDLE_POLL_MS = 200;
+    private static final long CLOSE_FLUSH_TIMEOUT_MS = 2000;
+
+    private final Map<Address, PeerConnection> peers = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    @Override
+    public void sendMessage(Address destination, String message) {
+        if (closed || destination == null || message == null) {
+            return;
+        }
+        peers.computeIfAbsent(destination, PeerConnection::new).enqueue(message);
+    }
+
+    @Override
+    public void closeSocket() {
+        closed = true;
+
+        long deadline = System.currentTimeMillis() + CLOSE_FLUSH_TIMEOUT_MS;
+        for (PeerConnection peer : peers.values()) {
+            peer.awaitFlushed(deadline);
+        }
+        for (PeerConnection peer : peers.values()) {
+            peer.close();
+        }
+        peers.clear();
+        super.closeSocket();
+    }
+
+    public int getOpenPeerCount() { return peers.size(); }
+
+    // ---------------------------------- One peer ----------------------------------
+    private final class PeerConnection {
+
+        private final Address destination;
+        private final BlockingQueue<String> pending = new LinkedBlockingQueue<>(MAX_PENDING_PER_PEER);
+        private final Thread writerThread;
+        private volatile Socket socket;
+        private BufferedWriter writer;
+        private volatile boolean overflowReported = false;
+
+        PeerConnection(Address destination) {
+            this.destination = destination;
+            this.writerThread = Thread.startVirtualThread(this::writingLoop);
+        }
+
+        void enqueue(String message) {
+            if (!pending.offer(message) && !overflowReported) {
+                overflowReported = true;
+                System.err.println("[PooledTcpCommunication] Backlog full for " + destination + ", dropping messages");
+            }
+        }
+
+        private void writingLoop() {
+            List<String> batch = new ArrayList<>(MAX_BATCH);
+            long backoffMs = BACKOFF_INITIAL_MS;
+
+            while (true) {
+                try {
+                    if (batch.isEmpty()) {
+                        String first = pending.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                        if (first == null) {
+                            if (closed) {
+                                break; // nothing left to flush
+                            }
+                            continue;
+                        }
+                        batch.add(first);
+                        pending.drainTo(batch, MAX_BATCH - 1);
+                    }
+
+                    ensureConnected();
+                    for (String message : batch) {
+                        writer.write(message);
+                        writer.write('\n');
+                    }
+                    writer.flush();
+
+                    batch.clear();
+                    backoffMs = BACKOFF_INITIAL_MS;
+                    overflowReported = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (IOException e) {
+                    // Keep the batch; the server treats a resent line like any other message
+                    disconnect();
+                    if (closed) {
+                        break;
+                    }
+                    System.err.println("[PooledTcpCommunication] Connection to " + destination + " failed (" + e.getMessage()
+                            + "), retrying in " + backoffMs + " ms");
+                    try {
+                        Thread.sleep(backoffMs + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1));
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    backoffMs = Math.min(BACKOFF_MAX_MS, backoffMs * 2);
+                }
+            }
+            disconnect();
+        }
+
+        private void ensureConnected() throws IOException {
+            if (socket != null && socket.isConnected() && !socket.isClosed()) {
+                return;
+            }
+            Socket s = new Socket();
+            s.setTcpNoDelay(true);
+            s.setKeepAlive(true);
+            s.connect(new InetSocketAddress(destination.getIp(), destination.getPort()), CONNECT_TIMEOUT_MS);
+            writer = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8));
+            socket = s;
+        }
+
+        private void disconnect() {
+            Socket s = socket;
+            socket = null;
+            writer = null;
+            if (s != null) {
+                try {
+                    s.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }
+
+        void awaitFlushed(long deadline) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return;
+            }
+            try {
+                writerThread.join(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void close() {
+            writerThread.interrupt();
+            disconnect();
+        }
+    }
+}
@@ -2,17 +2,21 @@ package general.communication.implementation;
 
 import general.communication.Communication;
 import general.communication.utils.Address;
+import general.communication.utils.FrameCharset;
 
 import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.SocketException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class UdpCommunication implements Communication {
 
     private DatagramSocket socket;
     private static final int BUFFER_SIZE = 1024;
+    private final Map<String, InetAddress> resolvedIps = new ConcurrentHashMap<>(); // destinations resolved once
 
     @Override
     public void setupSocket(Address myAddress) {
@@ -45,9 +49,13 @@ public class UdpCommunication implements Communication {
         }
 
         try {
-            byte[] messageBytes = message.getBytes();
+            byte[] messageBytes = FrameCharset.toBytes(message);
 
-            InetAddress destAddress = InetAddress.getByName(destination.getIp());
+            InetAddress destAddress = resolvedIps.get(destination.getIp());
+            if (destAddress == null) {
+                destAddress = InetAddress.getByName(destination.getIp());
+                resolvedIps.put(destination.getIp(), destAddress);
+            }
             DatagramPacket packet = new DatagramPacket(
                 messageBytes, 
                 messageBytes.length, 
@@ -71,7 +79,7 @@ public class UdpCommunication implements Communication {
         try {
             socket.setBroadcast(true);
 
-            byte[] messageBytes = message.getBytes();
+            byte[] messageBytes = FrameCharset.toBytes(message);
 
             InetAddress broadcastAddress = InetAddress.getByName("255.255.255.255");
             DatagramPacket packet = new DatagramPacket(
@@ -101,7 +109,7 @@ public class UdpCommunication implements Communication {
 
             socket.receive(packet);
 
-            String receivedMessage = new String(packet.getData(), 0, packet.getLength());
+            String receivedMessage = FrameCharset.fromBytes(packet.getData(), 0, packet.getLength());
             System.out.println("UDP message received from " + packet.getAddress().getHostAddress() + ":" + packet.getPort());
             
             return receivedMessage;
@@ -0,0 +1,76 @@
+package general.communication.implementation.in_memory;
+
+import general.communication.Communication;
+import general.communication.utils.Address;
+
+/**
+ * Communication endpoint on an InMemoryFabric.
+ * Same contract as the socket implementations: setupSocket binds the address, receiveMessage blocks.
+ */
+public class InMemoryCommunication implements Communication {
+
+    private final InMemoryFabric fabric;
+    private final boolean reliable;
+    private volatile Address myAddress;
+    private volatile Mailbox mailbox;
+
+    InMemoryCommunication(InMemoryFabric fabric, boolean reliable) {
+        this.fabric = fabric;
+        this.reliable = reliable;
+    }
+
+    @Override
+    public void setupSocket(Address myAddress) {
+        try {
+            this.mailbox = fabric.bind(myAddress);
+            this.myAddress = myAddress;
+        } catch (IllegalStateException e) {
+            System.err.println("Error binding in-memory endpoint " + myAddress + ": " + e.getMessage());
+        }
+    }
+
+    public boolean isSocketReady() {
+        return mailbox != null;
+    }
+
+    // Sending doesn't require a bound address (send-only endpoints, e.g. node -> supervisor reports)
+    @Override
+    public void sendMessage(Address destination, String message) {
+        if (destination == null || message == null) {
+            return;
+        }
+        fabric.send(myAddress, destination, message, reliable);
+    }
+
+    public void sendBroadcastMessage(int port, String message) {
+        if (message == null) {
+            return;
+        }
+        fabric.broadcast(myAddress, port, message, reliable);
+    }
+
+    @Override
+    public String receiveMessage() {
+        Mailbox m = mailbox;
+        return m != null ? m.take() : null;
+    }
+
+    // Non-blocking variant (null when empty)
+    public String pollMessage() {
+        Mailbox m = mailbox;
+        return m != null ? m.poll() : null;
+    }
+
+    @Override
+    public void closeSocket() {
+        Mailbox m = mailbox;
+        if (m != null) {
+            fabric.unbind(myAddress, m);
+            mailbox = null;
+        }
+    }
+
+    public Address getAddress() { return myAddress; }
+
+    public InMemoryFabric getFabric() { return fabric; }
+}
@@ -0,0 +1,224 @@
+package general.communication.implementation.in_memory;
+
+import general.communication.utils.Address;
+import general.communication.utils.FrameCharset;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process network shared by every InMemoryCommunication of a run.
+ *
+ * Messages go straight into the destination's mailbox (no sockets, ports or file descriptors).
+ * The link model is applied per message:
+ * - drop probability: datagram endpoints only (reliable endpoints stand in for TCP)
+ * - bandwidth cap: per-sender link, messages are serialized one after the other (bytes/s, 0 = unlimited)
+ * - latency: sampled from the LatencyDistribution and added after serialization
+ * - ordering: datagram endpoints may reorder; reliable ones keep every (source, destination) stream FIFO,
+ *   a message is never released before the previous one of its stream
+ * Delayed messages are released by a single delivery thread; with no delay they're delivered inline.
+ */
+public class InMemoryFabric {
+
+    private final LatencyDistribution latency;
+    private final double dropProbability;
+    private final long bandwidthBytesPerSec;
+
+    private final Map<Address, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final Map<Address, AtomicLong> linkFreeAtNanos = new ConcurrentHashMap<>();
+    private final Map<Stream, AtomicLong> streamLastDeliveryNanos = new ConcurrentHashMap<>(); // reliable streams only
+    private final DelayQueue<InFlight> inFlight = new DelayQueue<>();
+    private volatile Thread deliveryThread;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder undeliverable = new LongAdder();
+
+    // Ideal fabric: no latency, no loss, unlimited bandwidth
+    public InMemoryFabric() {
+        this(LatencyDistribution.none(), 0.0, 0L);
+    }
+
+    public InMemoryFabric(LatencyDistribution latency, double dropProbability, long bandwidthBytesPerSec) {
+        if (dropProbability < 0.0 || dropProbability > 1.0) {
+            throw new IllegalArgumentException("dropProbability must be in [0, 1]: " + dropProbability);
+        }
+        this.latency = latency != null ? latency : LatencyDistribution.none();
+        this.dropProbability = dropProbability;
+        this.bandwidthBytesPerSec = Math.max(0L, bandwidthBytesPerSec);
+    }
+
+    // Datagram endpoint (UDP stand-in): subject to loss
+    public InMemoryCommunication newCommunication() {
+        return new InMemoryCommunication(this, false);
+    }
+
+    // Reliable endpoint (TCP stand-in): latency and bandwidth apply, never dropped
+    public InMemoryCommunication newReliableCommunication() {
+        return new InMemoryCommunication(this, true);
+    }
+
+    // ---------------------------------- Endpoint plumbing ----------------------------------
+    Mailbox bind(Address address) {
+        Mailbox mailbox = new Mailbox();
+        Mailbox previous = mailboxes.putIfAbsent(address, mailbox);
+        if (previous != null) {
+            throw new IllegalStateException("Address already in use on in-memory fabric: " + address);
+        }
+        return mailbox;
+    }
+
+    void unbind(Address address, Mailbox mailbox) {
+        mailboxes.remove(address, mailbox);
+        mailbox.close();
+    }
+
+    void send(Address source, Address destination, String message, boolean reliable) {
+        sent.increment();
+
+        if (!reliable && dropProbability > 0.0 && ThreadLocalRandom.current().nextDouble() < dropProbability) {
+            dropped.increment();
+            return;
+        }
+
+        long delayNanos = latency.sampleNanos(ThreadLocalRandom.current());
+        if (bandwidthBytesPerSec > 0 && source != null) {
+            delayNanos += reserveLink(source, FrameCharset.toBytes(message).length);
+        }
+
+        long deliverAtNanos = System.nanoTime() + delayNanos;
+        boolean delayed = delayNanos > 0;
+        if (reliable && source != null) {
+            AtomicLong last = delayed
+                    ? streamLastDeliveryNanos.computeIfAbsent(new Stream(source, destination), k -> new AtomicLong(Long.MIN_VALUE))
+                    : streamLastDeliveryNanos.get(new Stream(source, destination));
+            if (last != null) {
+                // the stream already had a message in flight: queue behind it, even with no delay of its own
+                deliverAtNanos = afterPrevious(last, deliverAtNanos);
+                delayed = true;
+            }
+        }
+
+        if (!delayed) {
+            deliver(destination, message);
+        } else {
+            inFlight.put(new InFlight(deliverAtNanos, destination, message));
+            ensureDeliveryThread();
+        }
+    }
+
+    // Strictly after the stream's previous message, so the delivery thread releases them in send order
+    private static long afterPrevious(AtomicLong lastDeliveryNanos, long deliverAtNanos) {
+        while (true) {
+            long previous = lastDeliveryNanos.get();
+            long at = previous == Long.MIN_VALUE ? deliverAtNanos : Math.max(deliverAtNanos, previous + 1);
+            if (lastDeliveryNanos.compareAndSet(previous, at)) {
+                return at;
+            }
+        }
+    }
+
+    // Broadcast to every bound endpoint listening on the port (like 255.255.255.255:port on loopback)
+    void broadcast(Address source, int port, String message, boolean reliable) {
+        for (Address address : mailboxes.keySet()) {
+            if (address.getPort() == port && !address.equals(source)) {
+                send(source, address, message, reliable);
+            }
+        }
+    }
+
+    // Time until this message has left the sender's link (serialization behind earlier sends)
+    private long reserveLink(Address source, int sizeBytes) {
+        long transmitNanos = sizeBytes * 1_000_000_000L / bandwidthBytesPerSec;
+        AtomicLong freeAt = linkFreeAtNanos.computeIfAbsent(source, a -> new AtomicLong());
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = freeAt.get();
+            long start = Math.max(now, current);
+            long done = start + transmitNanos;
+            if (freeAt.compareAndSet(current, done)) {
+                return done - now;
+            }
+        }
+    }
+
+    private void deliver(Address destination, String message) {
+        Mailbox mailbox = mailboxes.get(destination);
+        if (mailbox == null) {
+            undeliverable.increment();
+            return;
+        }
+        mailbox.offer(message);
+        delivered.increment();
+    }
+
+    private void ensureDeliveryThread() {
+        if (deliveryThread != null) {
+            return;
+        }
+        synchronized (this) {
+            if (deliveryThread == null) {
+                deliveryThread = Thread.ofPlatform().daemon().name("in-memory-fabric-delivery").start(this::deliveryLoop);
+            }
+        }
+    }
+
+    private void deliveryLoop() {
+        while (true) {
+            try {
+                InFlight next = inFlight.take();
+                deliver(next.destination(), next.message());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    // Stops the delivery thread and closes every mailbox
+    public void shutdown() {
+        Thread t = deliveryThread;
+        if (t != null) {
+            t.interrupt();
+        }
+        inFlight.clear();
+        streamLastDeliveryNanos.clear();
+        mailboxes.values().forEach(Mailbox::close);
+        mailboxes.clear();
+    }
+
+    // ---------------------------------- Stats ----------------------------------
+    public long getSentCount() { return sent.sum(); }
+    public long getDeliveredCount() { return delivered.sum(); }
+    public long getDroppedCount() { return dropped.sum(); }
+    public long getUndeliverableCount() { return undeliverable.sum(); }
+    public int getBoundEndpoints() { return mailboxes.size(); }
+
+    public LatencyDistribution getLatency() { return latency; }
+    public double getDropProbability() { return dropProbability; }
+    public long getBandwidthBytesPerSec() { return bandwidthBytesPerSec; }
+
+    // ---------------------------------- In-flight message ----------------------------------
+    private record Stream(Address source, Address destination) {}
+
+    private record InFlight(long deliverAtNanos, Address destination, String message) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deliverAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deliverAtNanos, ((InFlight) other).deliverAtNanos);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package general.communication.implementation.in_memory;
+
+import java.util.Random;
+
+/**
+ * One-way link latency model for the in-memory fabric (samples are in nanoseconds).
+ *
+ * Spec strings (used by StartMsg "linkLatency"):
+ *   "none" | "fixed:<ms>" | "uniform:<minMs>:<maxMs>" | "exponential:<meanMs>" | "normal:<meanMs>:<stdDevMs>"
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long NANOS_PER_MS = 1_000_000L;
+
+    long sampleNanos(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    static LatencyDistribution fixed(double ms) {
+        long nanos = toNanos(ms);
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(double minMs, double maxMs) {
+        long min = toNanos(minMs);
+        long span = Math.max(0L, toNanos(maxMs) - min);
+        return random -> span == 0 ? min : min + (long) (random.nextDouble() * span);
+    }
+
+    static LatencyDistribution exponential(double meanMs) {
+        double mean = meanMs * NANOS_PER_MS;
+        return random -> (long) (-mean * Math.log(1.0 - random.nextDouble()));
+    }
+
+    // Truncated at 0 (a link can't deliver before the send)
+    static LatencyDistribution normal(double meanMs, double stdDevMs) {
+        double mean = meanMs * NANOS_PER_MS;
+        double stdDev = stdDevMs * NANOS_PER_MS;
+        return random -> Math.max(0L, (long) (mean + stdDev * random.nextGaussian()));
+    }
+
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.equalsIgnoreCase("none")) {
+            return none();
+        }
+
+        String[] parts = spec.trim().toLowerCase().split(":");
+        try {
+            return switch (parts[0]) {
+                case "fixed" -> fixed(Double.parseDouble(parts[1]));
+                case "uniform" -> uniform(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                case "exponential", "exp" -> exponential(Double.parseDouble(parts[1]));
+                case "normal", "gaussian" -> normal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed latency distribution: " + spec, e);
+        }
+    }
+
+    private static long toNanos(double ms) {
+        return (long) (ms * NANOS_PER_MS);
+    }
+}
@@ -0,0 +1,65 @@
+package general.communication.implementation.in_memory;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single-consumer mailbox: lock-free queue, the receiver parks only when it is empty.
+ */
+final class Mailbox {
+
+    private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+    private volatile Thread waiter;
+    private volatile boolean closed = false;
+
+    void offer(String message) {
+        if (closed) {
+            return;
+        }
+        queue.offer(message);
+        Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    // Blocks until a message arrives; null once closed or if the receiving thread is interrupted
+    String take() {
+        while (true) {
+            String message = queue.poll();
+            if (message != null) {
+                return message;
+            }
+            if (closed) {
+                return null;
+            }
+
+            waiter = Thread.currentThread();
+            // Re-check after publishing the waiter so a concurrent offer can't be missed
+            message = queue.poll();
+            if (message == null && !closed) {
+                LockSupport.park(this);
+            }
+            waiter = null;
+
+            if (message != null) {
+                return message;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+        }
+    }
+
+    String poll() {
+        return queue.poll();
+    }
+
+    void close() {
+        closed = true;
+        Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+    }
+}
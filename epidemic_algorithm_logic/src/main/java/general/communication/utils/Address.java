@@ -1,5 +1,7 @@
 package general.communication.utils;
 
+import java.util.Objects;
+
 public class Address {
 
     private final String ip;
@@ -22,4 +24,22 @@ public class Address {
     public String getIp() { return ip; }
     public int getPort() { return port; }
 
+    // Value semantics so addresses can be used as map keys (caches, in-memory transports)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Address other)) return false;
+        return port == other.port && Objects.equals(ip, other.ip);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(ip) + port;
+    }
+
+    @Override
+    public String toString() {
+        return ip + ":" + port;
+    }
+
 }
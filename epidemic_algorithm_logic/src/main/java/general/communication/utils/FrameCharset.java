@@ -0,0 +1,35 @@
+package general.communication.utils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// Binary node_to_node frames travel as ISO-8859-1 strings (one char per byte) and
+// start with a control-range tag byte; everything else (JSON) is UTF-8.
+public final class FrameCharset {
+
+    private static final int MAX_BINARY_TAG = 0x1F;
+
+    private FrameCharset() {}
+
+    public static boolean isBinaryTag(int firstByte) {
+        return firstByte > 0 && firstByte <= MAX_BINARY_TAG && firstByte != '\t' && firstByte != '\n' && firstByte != '\r';
+    }
+
+    public static Charset forMessage(String message) {
+        if (!message.isEmpty() && isBinaryTag(message.charAt(0))) {
+            return StandardCharsets.ISO_8859_1;
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    public static byte[] toBytes(String message) {
+        return message.getBytes(forMessage(message));
+    }
+
+    public static String fromBytes(byte[] data, int offset, int length) {
+        if (length > 0 && isBinaryTag(data[offset] & 0xFF)) {
+            return new String(data, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(data, offset, length, StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,7 @@
 package general.fsm;
 
+import general.logging.ConsoleLog;
+
 import java.time.Duration;
 import java.time.Instant;
 
@@ -21,7 +23,7 @@ public class FiniteStateMachine<T extends Enum<T>> {
         this.tis = Duration.between(this.tes, Instant.now());
         this.done = false;
 
-        System.out.println("Fsm instance created.");
+        ConsoleLog.println("Fsm instance created.");
     }
 
     public void resetTimes() {
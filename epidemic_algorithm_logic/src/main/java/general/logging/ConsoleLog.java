@@ -0,0 +1,26 @@
+package general.logging;
+
+/**
+ * stdout logging of the node code (nodes, workers, FSMs) that can be silenced per thread.
+ * Normally everything is printed; the discrete-event simulator runs its nodes on one thread and
+ * silences that thread only, so other threads and parallel runs keep their output and System.out
+ * is never replaced. Thread-local for the same reason as NodeRandom's run seed.
+ */
+public final class ConsoleLog {
+
+    private static final ThreadLocal<Boolean> quiet = new ThreadLocal<>();
+
+    private ConsoleLog() {}
+
+    public static void setQuiet(boolean value) { quiet.set(value); }
+
+    public static void clearQuiet() { quiet.remove(); }
+
+    public static boolean isQuiet() { return Boolean.TRUE.equals(quiet.get()); }
+
+    public static void println(String line) {
+        if (!isQuiet()) {
+            System.out.println(line);
+        }
+    }
+}
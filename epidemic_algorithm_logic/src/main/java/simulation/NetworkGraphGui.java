@@ -1,58 +1,113 @@
 package simulation;
 
 import epidemic_core.message.supervisor_to_ui.structural_infos.StructuralInfosMsg;
+import simulation.graph_view.BarnesHutLayout;
+import simulation.graph_view.GraphLayouts;
+import simulation.graph_view.PointQuadTree;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
 import java.util.*;
 import java.util.List;
 
 /**
  * GUI for visualizing the network topology as a graph.
  * Nodes change color when infected.
+ *
+ * Rendering: edges and nodes are drawn once into an offscreen base layer (redrawn only when the
+ * topology, layout or panel size changes); an infection repaints just that node into the layer, and
+ * flashing edges are the only thing drawn on top each animation frame. Hit-testing uses a quadtree,
+ * and node size, outlines, labels and edge opacity scale down with the graph (level of detail).
+ *
+ * Layout: rings and stars are placed directly; any other topology gets a Barnes-Hut force-directed
+ * layout computed on a background thread, whose intermediate positions are streamed to the panel.
  */
 public class NetworkGraphGui extends JFrame {
     
     private GraphPanel graphPanel;
     private JLabel statusLabel;
-    private Map<Integer, NodePosition> nodes;
     private Map<Integer, Set<Integer>> edges;
-    private Map<Integer, Boolean> infectedNodes;
     private Map<Integer, String> sourceNodes; // nodeId -> subject
 
-    private Map<EdgeKey, Long> flashingEdges;
+    // Dense node storage: index i <-> nodeIds[i]
+    private int[] nodeIds = new int[0];
+    private Map<Integer, Integer> nodeIndex = new HashMap<>();
+    private double[] layoutX = new double[0]; // layout coordinates in [-1, 1], scaled to the panel when drawn
+    private double[] layoutY = new double[0];
+    private boolean circularLayout = true; // nodes on one circle (node size follows the circumference)
+    private BarnesHutLayout runningLayout; // background force-directed layout, if any
+    private int layoutGeneration = 0; // drops positions streamed for a previous topology
+    private static final long LAYOUT_TIME_BUDGET_MS = 900;
+    private boolean[] infected = new boolean[0];
+    private int[] edgeFrom = new int[0]; // each undirected edge once, as node indexes
+    private int[] edgeTo = new int[0];
+
+    private Map<Long, Long> flashingEdges; // edge key -> flash start
     private static final long ANIMATION_DURATION_MS = 500;
     
     private Runnable onStartCallback;
     private Runnable onEndCallback;
     
-    private static final int NODE_RADIUS = 15;
+    private static final int NODE_RADIUS = 15; // largest radius, shrinks with the node count
+    private static final int MIN_NODE_RADIUS = 2;
+    private static final int LAYOUT_MARGIN = 40;
     private static final Color COLOR_SUSCEPTIBLE = Color.LIGHT_GRAY;
     private static final Color COLOR_INFECTED = Color.RED;
     private static final Color COLOR_SOURCE = Color.BLUE;
     private static final Color COLOR_FLASHING_EDGE = Color.ORANGE;
+
+    // Cached drawing objects (nothing is allocated per element while painting)
+    private static final Color COLOR_EDGE = Color.GRAY;
+    private static final Color COLOR_EDGE_DENSE = new Color(128, 128, 128, 40);
+    private static final Color[] FLASH_COLORS = new Color[256]; // by alpha
+    private static final BasicStroke EDGE_STROKE = new BasicStroke(1.0f);
+    private static final BasicStroke FLASH_STROKE = new BasicStroke(3.0f); // Thicker line for flashing edges
+    private static final BasicStroke NODE_OUTLINE_STROKE = new BasicStroke(2.0f);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 10);
+    private static final Font LEGEND_FONT = new Font("Arial", Font.PLAIN, 12);
+    private static final Font BUTTON_FONT = new Font("Arial", Font.BOLD, 14);
+
+    // Level of detail thresholds
+    private static final int LABEL_MIN_RADIUS = 8;
+    private static final int OUTLINE_MIN_RADIUS = 4;
+    private static final int DENSE_EDGE_COUNT = 5000; // above this edges are translucent and not antialiased
+    private static final int MAX_DRAWN_EDGES = 300000; // above this only an even sample of the edges is drawn
+
+    static {
+        for (int alpha = 0; alpha < FLASH_COLORS.length; alpha++) {
+            FLASH_COLORS[alpha] = new Color(COLOR_FLASHING_EDGE.getRed(), COLOR_FLASHING_EDGE.getGreen(),
+                    COLOR_FLASHING_EDGE.getBlue(), alpha);
+        }
+    }
     
     public NetworkGraphGui() {
         super("Network Topology Visualization");
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setSize(1400, 900);
         
-        nodes = new HashMap<>();
         edges = new HashMap<>();
-        infectedNodes = new HashMap<>();
         sourceNodes = new HashMap<>();
         flashingEdges = new HashMap<>();
 
+        // Repaints only the area of the edges that are (or just stopped) flashing
         javax.swing.Timer animationTimer = new javax.swing.Timer(50, e -> {
+            if (flashingEdges.isEmpty()) {
+                return;
+            }
             long currentTime = System.currentTimeMillis();
+            Rectangle dirty = graphPanel.flashingEdgesBounds();
             flashingEdges.entrySet().removeIf(entry -> 
                 currentTime - entry.getValue() > ANIMATION_DURATION_MS
             );
-            graphPanel.repaint();
+            if (dirty != null) {
+                graphPanel.repaint(dirty);
+            }
         });
         animationTimer.start();
 
@@ -61,7 +116,7 @@ public class NetworkGraphGui extends JFrame {
         statusLabel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
         JButton startButton = new JButton("Start Network");
-        startButton.setFont(new Font("Arial", Font.BOLD, 14));
+        startButton.setFont(BUTTON_FONT);
         startButton.setBackground(new Color(76, 175, 80));
         startButton.setForeground(Color.WHITE);
         startButton.addActionListener(e -> {
@@ -71,7 +126,7 @@ public class NetworkGraphGui extends JFrame {
         });
         
         JButton endButton = new JButton("End Network");
-        endButton.setFont(new Font("Arial", Font.BOLD, 14));
+        endButton.setFont(BUTTON_FONT);
         endButton.setBackground(new Color(244, 67, 54));
         endButton.setForeground(Color.WHITE);
         endButton.addActionListener(e -> {
@@ -103,48 +158,60 @@ public class NetworkGraphGui extends JFrame {
 
     public void updateTopology(StructuralInfosMsg structuralMsg) {
         SwingUtilities.invokeLater(() -> {
-            nodes.clear();
             edges.clear();
             sourceNodes.clear();
+            flashingEdges.clear();
             
             List<StructuralInfosMsg.NodeInfo> nodeInfos = structuralMsg.getNodes();
 
+            int nodeCount = nodeInfos.size();
+            nodeIds = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                nodeIds[i] = nodeInfos.get(i).getId();
+            }
+            Arrays.sort(nodeIds);
+            nodeIndex = new HashMap<>(nodeCount * 2);
+            for (int i = 0; i < nodeCount; i++) {
+                nodeIndex.put(nodeIds[i], i);
+            }
+            infected = new boolean[nodeCount];
+
             for (StructuralInfosMsg.NodeInfo nodeInfo : nodeInfos) {
                 int nodeId = nodeInfo.getId();
                 List<Integer> neighbors = nodeInfo.getNeighbors();
                 String subject = nodeInfo.getSubject();
 
-                nodes.put(nodeId, new NodePosition(0, 0)); // Position will be calculated
-
                 edges.put(nodeId, new HashSet<>(neighbors));
 
                 if (subject != null) {
                     sourceNodes.put(nodeId, subject);
-                    infectedNodes.put(nodeId, true); // Source nodes start infected
-                } else {
-                    infectedNodes.put(nodeId, false);
+                    infected[nodeIndex.get(nodeId)] = true; // Source nodes start infected
                 }
             }
 
-            calculateCircularLayout();
+            buildEdgeList();
+            startLayout();
             
-            statusLabel.setText("Network: " + nodes.size() + " nodes, " + countEdges() + " edges");
-            graphPanel.repaint();
+            statusLabel.setText("Network: " + nodeCount + " nodes, " + edgeFrom.length + " edges");
+            graphPanel.invalidateBaseLayer();
         });
     }
 
-    public void updateNodeInfection(int nodeId, boolean infected) {
+    public void updateNodeInfection(int nodeId, boolean isInfected) {
         SwingUtilities.invokeLater(() -> {
-            if (nodes.containsKey(nodeId)) {
-                infectedNodes.put(nodeId, infected);
-                graphPanel.repaint();
+            Integer index = nodeIndex.get(nodeId);
+            if (index != null && infected[index] != isInfected) {
+                infected[index] = isInfected;
+                graphPanel.nodeChanged(index);
             }
         });
     }
 
     public void flashEdge(int fromNodeId, int toNodeId) {
         SwingUtilities.invokeLater(() -> {
-            if (!nodes.containsKey(fromNodeId) || !nodes.containsKey(toNodeId)) {
+            Integer fromIndex = nodeIndex.get(fromNodeId);
+            Integer toIndex = nodeIndex.get(toNodeId);
+            if (fromIndex == null || toIndex == null) {
                 return;
             }
 
@@ -160,49 +227,106 @@ public class NetworkGraphGui extends JFrame {
             }
             
             if (edgeExists) {
-                EdgeKey edge = new EdgeKey(
-                    Math.min(fromNodeId, toNodeId),
-                    Math.max(fromNodeId, toNodeId)
-                );
-
-                flashingEdges.put(edge, System.currentTimeMillis());
-                System.out.println("Flashing edge: " + fromNodeId + " -> " + toNodeId);
-                graphPanel.repaint();
+                flashingEdges.put(edgeKey(fromIndex, toIndex), System.currentTimeMillis());
+                graphPanel.repaint(graphPanel.edgeBounds(fromIndex, toIndex));
             } else {
                 System.out.println("Edge not found: " + fromNodeId + " -> " + toNodeId);
             }
         });
     }
 
-    private void calculateCircularLayout() {
-        if (nodes.isEmpty()) return;
-        
-        int nodeCount = nodes.size();
-        int centerX = 600;
-        int centerY = 350;
-        int radius = Math.max(300, nodeCount * 30);
-        
-        List<Integer> nodeIds = new ArrayList<>(nodes.keySet());
-        Collections.sort(nodeIds);
-        
-        for (int i = 0; i < nodeIds.size(); i++) {
-            int nodeId = nodeIds.get(i);
-            double angle = 2 * Math.PI * i / nodeCount;
-            int x = (int) (centerX + radius * Math.cos(angle));
-            int y = (int) (centerY + radius * Math.sin(angle));
-            nodes.put(nodeId, new NodePosition(x, y));
+    // Undirected edge between two node indexes, smaller index in the high half
+    private static long edgeKey(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+
+    private void buildEdgeList() {
+        int edgeCount = 0;
+        for (Map.Entry<Integer, Set<Integer>> entry : edges.entrySet()) {
+            for (int neighbor : entry.getValue()) {
+                if (entry.getKey() < neighbor || !edges.getOrDefault(neighbor, Collections.emptySet()).contains(entry.getKey())) {
+                    edgeCount++;
+                }
+            }
+        }
+        edgeFrom = new int[edgeCount];
+        edgeTo = new int[edgeCount];
+        int e = 0;
+        for (Map.Entry<Integer, Set<Integer>> entry : edges.entrySet()) {
+            Integer fromIndex = nodeIndex.get(entry.getKey());
+            for (int neighbor : entry.getValue()) {
+                Integer toIndex = nodeIndex.get(neighbor);
+                if (toIndex == null) {
+                    continue;
+                }
+                // Draw each edge once (also one-directional neighbour entries)
+                if (entry.getKey() < neighbor || !edges.getOrDefault(neighbor, Collections.emptySet()).contains(entry.getKey())) {
+                    edgeFrom[e] = fromIndex;
+                    edgeTo[e] = toIndex;
+                    e++;
+                }
+            }
+        }
+        if (e < edgeCount) {
+            edgeFrom = Arrays.copyOf(edgeFrom, e);
+            edgeTo = Arrays.copyOf(edgeTo, e);
         }
     }
-    
-    private int countEdges() {
-        int count = 0;
-        for (Set<Integer> neighbors : edges.values()) {
-            count += neighbors.size();
+
+    // Picks the layout for the new topology: direct placement for rings and stars, force-directed otherwise
+    private void startLayout() {
+        if (runningLayout != null) {
+            runningLayout.cancel();
+            runningLayout = null;
+        }
+        layoutGeneration++;
+
+        int nodeCount = nodeIds.length;
+        layoutX = new double[nodeCount];
+        layoutY = new double[nodeCount];
+
+        int hub = GraphLayouts.starHub(nodeCount, edgeFrom, edgeTo);
+        if (hub >= 0) {
+            GraphLayouts.star(nodeCount, hub, layoutX, layoutY);
+            circularLayout = true;
+            return;
         }
-        return count / 2; // Each edge counted twice
+        if (nodeCount <= 3 || GraphLayouts.isRing(nodeCount, edgeFrom, edgeTo)) {
+            GraphLayouts.ring(nodeCount, edgeFrom, edgeTo, layoutX, layoutY);
+            circularLayout = true;
+            return;
+        }
+
+        // Shown right away, then refined by the force-directed layout as it streams positions
+        GraphLayouts.spiral(nodeCount, layoutX, layoutY);
+        circularLayout = false;
+
+        int generation = layoutGeneration;
+        BarnesHutLayout layout = new BarnesHutLayout(nodeCount, edgeFrom, edgeTo, layoutX, layoutY, LAYOUT_TIME_BUDGET_MS,
+                (x, y) -> SwingUtilities.invokeLater(() -> applyLayout(generation, x, y)));
+        runningLayout = layout;
+        Thread.ofPlatform().daemon().name("graph-layout").start(layout);
+    }
+
+    // EDT: positions streamed by the background layout
+    private void applyLayout(int generation, double[] x, double[] y) {
+        if (generation != layoutGeneration) {
+            return; // topology changed since this layout started
+        }
+        layoutX = x;
+        layoutY = y;
+        graphPanel.invalidateBaseLayer();
     }
 
     private class GraphPanel extends JPanel {
+
+        private BufferedImage baseLayer; // edges + nodes, without flashing edges
+        private boolean baseLayerValid = false;
+        private int[] screenX = new int[0];
+        private int[] screenY = new int[0];
+        private int nodeRadius = NODE_RADIUS;
+        private PointQuadTree hitIndex;
+        private final Line2D.Double line = new Line2D.Double(); // reused for every edge
         
         public GraphPanel() {
             setBackground(Color.WHITE);
@@ -211,95 +335,197 @@ public class NetworkGraphGui extends JFrame {
             addMouseListener(new MouseAdapter() {
                 @Override
                 public void mouseClicked(MouseEvent e) {
-                    int x = e.getX();
-                    int y = e.getY();
-                    
+                    if (hitIndex == null) {
+                        return;
+                    }
                     // Find clicked node
-                    for (Map.Entry<Integer, NodePosition> entry : nodes.entrySet()) {
-                        int nodeId = entry.getKey();
-                        NodePosition pos = entry.getValue();
-                        
-                        double dx = x - pos.x;
-                        double dy = y - pos.y;
-                        double distance = Math.sqrt(dx * dx + dy * dy);
-                        
-                        if (distance <= NODE_RADIUS) {
-                            showNodeInfo(nodeId);
-                            break;
-                        }
+                    int index = hitIndex.nearest(e.getX(), e.getY(), Math.max(nodeRadius, 4));
+                    if (index >= 0) {
+                        showNodeInfo(nodeIds[index]);
                     }
                 }
             });
-        }
-        
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            Graphics2D g2 = (Graphics2D) g;
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-            long currentTime = System.currentTimeMillis();
-            for (Map.Entry<Integer, Set<Integer>> entry : edges.entrySet()) {
-                int fromNode = entry.getKey();
-                NodePosition fromPos = nodes.get(fromNode);
-                if (fromPos == null) continue;
-                
-                for (int toNode : entry.getValue()) {
-                    NodePosition toPos = nodes.get(toNode);
-                    if (toPos == null || toNode < fromNode) continue; // Draw each edge once
-
-                    EdgeKey edge = new EdgeKey(Math.min(fromNode, toNode), Math.max(fromNode, toNode));
-                    Long flashStartTime = flashingEdges.get(edge);
-                    
-                    if (flashStartTime != null && (currentTime - flashStartTime) < ANIMATION_DURATION_MS) {
-                        double progress = (double)(currentTime - flashStartTime) / ANIMATION_DURATION_MS;
-
-                        int alpha = (int)(255 * (1.0 - Math.abs(progress - 0.5) * 2));
-                        alpha = Math.max(50, Math.min(255, alpha));
-
-                        g2.setColor(new Color(COLOR_FLASHING_EDGE.getRed(), 
-                                            COLOR_FLASHING_EDGE.getGreen(), 
-                                            COLOR_FLASHING_EDGE.getBlue(), 
-                                            alpha));
-                        g2.setStroke(new BasicStroke(3.0f)); // Thicker line for flashing edges
-                    } else {
-                        g2.setColor(Color.GRAY);
-                        g2.setStroke(new BasicStroke(1.0f));
-                    }
-                    
-                    g2.draw(new Line2D.Double(fromPos.x, fromPos.y, toPos.x, toPos.y));
+            addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentResized(ComponentEvent e) {
+                    invalidateBaseLayer();
                 }
+            });
+        }
+
+        void invalidateBaseLayer() {
+            baseLayerValid = false;
+            repaint();
+        }
+
+        // Redraws one node into the base layer and repaints just its area
+        void nodeChanged(int index) {
+            if (!baseLayerValid || baseLayer == null) {
+                repaint();
+                return;
             }
+            Graphics2D g2 = baseLayer.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            drawNode(g2, index);
+            g2.dispose();
+            repaint(nodeBounds(index));
+        }
 
-            for (Map.Entry<Integer, NodePosition> entry : nodes.entrySet()) {
-                int nodeId = entry.getKey();
-                NodePosition pos = entry.getValue();
+        Rectangle edgeBounds(int a, int b) {
+            if (a >= screenX.length || b >= screenX.length) {
+                return new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            Rectangle bounds = nodeBounds(a);
+            bounds.add(nodeBounds(b));
+            return bounds;
+        }
 
-                Color nodeColor;
-                if (sourceNodes.containsKey(nodeId)) {
-                    nodeColor = COLOR_SOURCE;
-                } else if (infectedNodes.getOrDefault(nodeId, false)) {
-                    nodeColor = COLOR_INFECTED;
+        Rectangle flashingEdgesBounds() {
+            Rectangle bounds = null;
+            for (long key : flashingEdges.keySet()) {
+                Rectangle edge = edgeBounds((int) (key >>> 32), (int) key);
+                if (bounds == null) {
+                    bounds = edge;
                 } else {
-                    nodeColor = COLOR_SUSCEPTIBLE;
+                    bounds.add(edge);
                 }
+            }
+            return bounds;
+        }
+
+        private Rectangle nodeBounds(int index) {
+            int pad = 3; // outline stroke + antialiasing
+            return new Rectangle(screenX[index] - nodeRadius - pad, screenY[index] - nodeRadius - pad,
+                    2 * (nodeRadius + pad), 2 * (nodeRadius + pad));
+        }
+
+        // Fits the layout to the panel, picks the node size, rebuilds the hit index and redraws the base layer
+        private void rebuildBaseLayer() {
+            int width = Math.max(1, getWidth());
+            int height = Math.max(1, getHeight());
+            int nodeCount = nodeIds.length;
+
+            double radius = Math.max(1, Math.min(width, height) / 2.0 - LAYOUT_MARGIN);
+            double centerX = width / 2.0;
+            double centerY = height / 2.0;
+            screenX = new int[nodeCount];
+            screenY = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                screenX[i] = (int) Math.round(centerX + radius * layoutX[i]);
+                screenY[i] = (int) Math.round(centerY + radius * layoutY[i]);
+            }
+
+            // Level of detail: nodes shrink so that neighbours do not overlap
+            // (on a circle they are 2*pi*r/N apart, in a 2D layout roughly sqrt(area/N))
+            double spacing = nodeCount <= 1 ? 2 * NODE_RADIUS
+                    : circularLayout ? 2 * Math.PI * radius / nodeCount
+                    : Math.sqrt(Math.PI * radius * radius / nodeCount);
+            nodeRadius = (int) Math.max(MIN_NODE_RADIUS, Math.min(NODE_RADIUS, spacing / 2.5));
+
+            hitIndex = new PointQuadTree(screenX, screenY, nodeCount);
+
+            if (baseLayer == null || baseLayer.getWidth() != width || baseLayer.getHeight() != height) {
+                baseLayer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            }
+            Graphics2D g2 = baseLayer.createGraphics();
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, width, height);
+            drawEdges(g2);
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            for (int i = 0; i < nodeCount; i++) {
+                drawNode(g2, i);
+            }
+            g2.dispose();
+            baseLayerValid = true;
+        }
 
-                g2.setColor(nodeColor);
-                g2.fill(new Ellipse2D.Double(pos.x - NODE_RADIUS, pos.y - NODE_RADIUS, 
-                                             NODE_RADIUS * 2, NODE_RADIUS * 2));
+        private void drawEdges(Graphics2D g2) {
+            int edgeCount = edgeFrom.length;
+            boolean dense = edgeCount > DENSE_EDGE_COUNT;
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    dense ? RenderingHints.VALUE_ANTIALIAS_OFF : RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setColor(dense ? COLOR_EDGE_DENSE : COLOR_EDGE);
+            g2.setStroke(EDGE_STROKE);
+
+            int step = Math.max(1, (edgeCount + MAX_DRAWN_EDGES - 1) / MAX_DRAWN_EDGES);
+            for (int e = 0; e < edgeCount; e += step) {
+                g2.drawLine(screenX[edgeFrom[e]], screenY[edgeFrom[e]], screenX[edgeTo[e]], screenY[edgeTo[e]]);
+            }
+        }
 
+        private void drawNode(Graphics2D g2, int index) {
+            int nodeId = nodeIds[index];
+            Color nodeColor;
+            if (sourceNodes.containsKey(nodeId)) {
+                nodeColor = COLOR_SOURCE;
+            } else if (infected[index]) {
+                nodeColor = COLOR_INFECTED;
+            } else {
+                nodeColor = COLOR_SUSCEPTIBLE;
+            }
+
+            int x = screenX[index] - nodeRadius;
+            int y = screenY[index] - nodeRadius;
+            int diameter = nodeRadius * 2;
+
+            g2.setColor(nodeColor);
+            g2.fillOval(x, y, diameter, diameter);
+
+            if (nodeRadius >= OUTLINE_MIN_RADIUS) {
                 g2.setColor(Color.BLACK);
-                g2.setStroke(new BasicStroke(2.0f));
-                g2.draw(new Ellipse2D.Double(pos.x - NODE_RADIUS, pos.y - NODE_RADIUS, 
-                                             NODE_RADIUS * 2, NODE_RADIUS * 2));
+                g2.setStroke(NODE_OUTLINE_STROKE);
+                g2.drawOval(x, y, diameter, diameter);
+            }
 
+            if (nodeRadius >= LABEL_MIN_RADIUS) {
                 g2.setColor(Color.BLACK);
-                g2.setFont(new Font("Arial", Font.BOLD, 10));
+                g2.setFont(LABEL_FONT);
                 String label = String.valueOf(nodeId);
                 FontMetrics fm = g2.getFontMetrics();
-                int labelWidth = fm.stringWidth(label);
-                int labelHeight = fm.getHeight();
-                g2.drawString(label, pos.x - labelWidth / 2, pos.y + labelHeight / 4);
+                g2.drawString(label, screenX[index] - fm.stringWidth(label) / 2, screenY[index] + fm.getHeight() / 4);
+            }
+        }
+        
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (!baseLayerValid || baseLayer == null || baseLayer.getWidth() != getWidth() || baseLayer.getHeight() != getHeight()) {
+                rebuildBaseLayer();
+            }
+            Graphics2D g2 = (Graphics2D) g;
+            g2.drawImage(baseLayer, 0, 0, null);
+
+            if (!flashingEdges.isEmpty()) {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setStroke(FLASH_STROKE);
+                long currentTime = System.currentTimeMillis();
+                for (Map.Entry<Long, Long> entry : flashingEdges.entrySet()) {
+                    long elapsed = currentTime - entry.getValue();
+                    if (elapsed >= ANIMATION_DURATION_MS) {
+                        continue;
+                    }
+                    int from = (int) (entry.getKey() >>> 32);
+                    int to = (int) (long) entry.getKey();
+                    if (from >= screenX.length || to >= screenX.length) {
+                        continue;
+                    }
+                    double progress = (double) elapsed / ANIMATION_DURATION_MS;
+                    int alpha = (int)(255 * (1.0 - Math.abs(progress - 0.5) * 2));
+                    alpha = Math.max(50, Math.min(255, alpha));
+
+                    g2.setColor(FLASH_COLORS[alpha]);
+                    line.setLine(screenX[from], screenY[from], screenX[to], screenY[to]);
+                    g2.draw(line);
+                }
+                // endpoints stay on top of the flash, as in the base layer
+                for (long key : flashingEdges.keySet()) {
+                    int from = (int) (key >>> 32);
+                    int to = (int) key;
+                    if (from < screenX.length && to < screenX.length) {
+                        drawNode(g2, from);
+                        drawNode(g2, to);
+                    }
+                }
             }
 
             drawLegend(g2);
@@ -311,7 +537,7 @@ public class NetworkGraphGui extends JFrame {
             int boxSize = 15;
             int spacing = 25;
             
-            g2.setFont(new Font("Arial", Font.PLAIN, 12));
+            g2.setFont(LEGEND_FONT);
 
             g2.setColor(COLOR_SUSCEPTIBLE);
             g2.fillRect(x, y, boxSize, boxSize);
@@ -340,7 +566,8 @@ public class NetworkGraphGui extends JFrame {
                 info.append(" (SOURCE: ").append(sourceNodes.get(nodeId)).append(")");
             }
             
-            if (infectedNodes.getOrDefault(nodeId, false)) {
+            Integer index = nodeIndex.get(nodeId);
+            if (index != null && infected[index]) {
                 info.append(" - INFECTED");
             } else {
                 info.append(" - SUSCEPTIBLE");
@@ -354,36 +581,4 @@ public class NetworkGraphGui extends JFrame {
             statusLabel.setText(info.toString());
         }
     }
-
-    private static class NodePosition {
-        int x, y;
-        
-        NodePosition(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-    }
-
-    private static class EdgeKey {
-        final int from;
-        final int to;
-        
-        EdgeKey(int from, int to) {
-            this.from = from;
-            this.to = to;
-        }
-        
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            EdgeKey edgeKey = (EdgeKey) o;
-            return from == edgeKey.from && to == edgeKey.to;
-        }
-        
-        @Override
-        public int hashCode() {
-            return from * 31 + to;
-        }
-    }
 }
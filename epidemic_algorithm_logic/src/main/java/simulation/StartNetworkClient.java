@@ -1,6 +1,7 @@
 package simulation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import epidemic_core.message.common.MessageMappers;
 import general.communication.implementation.TcpCommunication;
 import general.communication.utils.Address;
 
@@ -26,6 +27,7 @@ public class StartNetworkClient {
         String topology = "full mesh";       // Topology type: "full mesh", "ring", "star", etc.
         String protocol = "anti_entropy";    // Protocol type: "anti_entropy", "blind_coin", "feedback_coin"
         String mode = "push";                // Node mode: "push", "pull", "pushpull"
+        String topologyFile = null;          // Optional edge-list file replacing the generated topology
 
         if (args.length >= 1) {supervisorHost = args[0];}
         if (args.length >= 2) {supervisorPort = Integer.parseInt(args[1]);}
@@ -36,10 +38,11 @@ public class StartNetworkClient {
         if (args.length >= 7) {topology = args[6];}
         if (args.length >= 8) {protocol = args[7];}
         if (args.length >= 9) {mode = args[8]; }
+        if (args.length >= 10) {topologyFile = args[9]; }
         
         try {
             // Create StartMsg JSON
-            ObjectMapper objectMapper = new ObjectMapper();
+            ObjectMapper objectMapper = MessageMappers.mapper();
             Map<String, Object> startMsgMap = new HashMap<>();
             startMsgMap.put("direction", "ui_to_supervisor");
             startMsgMap.put("messageType", "start_system");
@@ -49,6 +52,9 @@ public class StartNetworkClient {
             startMsgMap.put("topology", topology);
             startMsgMap.put("protocol", protocol);
             startMsgMap.put("mode", mode);
+            if (topologyFile != null) {
+                startMsgMap.put("topologyFile", topologyFile);
+            }
             
             String jsonMessage = objectMapper.writeValueAsString(startMsgMap);
             
@@ -58,7 +64,7 @@ public class StartNetworkClient {
             System.out.println("  UI Address (for responses): " + uiHost + ":" + uiPort);
             System.out.println("  Number of Nodes: " + numberOfNodes);
             System.out.println("  Source Nodes: " + numberOfSourceNodes);
-            System.out.println("  Topology: " + topology);
+            System.out.println("  Topology: " + (topologyFile != null ? "file " + topologyFile : topology));
             System.out.println("  Protocol: " + protocol);
             System.out.println("  Mode: " + mode);
             System.out.println("  JSON Message: " + jsonMessage);
@@ -3,6 +3,7 @@ package simulation;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import epidemic_core.message.common.MessageMappers;
 import epidemic_core.message.supervisor_to_ui.infection_update.InfectionUpdateMsg;
 import epidemic_core.message.supervisor_to_ui.structural_infos.StructuralInfosMsg;
 import general.communication.implementation.TcpCommunication;
@@ -33,6 +34,15 @@ public class UiClient {
     private static String protocol = "anti_entropy";
     private static String mode = "push";
     private static String deployment = "local"; // "local" or "distributed"
+    private static String wireFormat = "binary"; // "binary" or "json" (readable datagrams, for debugging)
+    private static String workerMode = "polling"; // "polling" or "event_driven"
+    private static long workerTickMs = 0; // optional tick for event_driven workers (0 = none)
+    private static String transport = "udp"; // "udp", "nio_udp" or "in_memory" (local deployment only)
+    private static String linkLatency = "none"; // in_memory only: "fixed:2", "uniform:1:5", "exponential:3", ...
+    private static double dropProbability = 0.0; // in_memory only
+    private static long bandwidthBytesPerSec = 0; // in_memory only (0 = unlimited)
+    private static int reportBatchSize = 256; // node status reports per batch (1 = one message per update)
+    private static long reportFlushMs = 100; // max time a status report waits in a node's batch
 
     private static NetworkGraphGui graphGui;
     private static TcpCommunication tcpServer;
@@ -122,21 +132,20 @@ public class UiClient {
 
     private static void processSupervisorMessage(String jsonMessage) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(jsonMessage);
+            JsonNode jsonNode = MessageMappers.treeReader().readTree(jsonMessage);
             
             String direction = jsonNode.has("direction") ? jsonNode.get("direction").asText() : null;
             String messageType = jsonNode.has("messageType") ? jsonNode.get("messageType").asText() : null;
             
             if ("supervisor_to_ui".equals(direction)) {
                 if ("structural_infos".equals(messageType)) {
-                    StructuralInfosMsg structuralMsg = StructuralInfosMsg.decodeMessage(jsonMessage);
+                    StructuralInfosMsg structuralMsg = MessageMappers.readerFor(StructuralInfosMsg.class).readValue(jsonNode);
                     if (graphGui != null) {
                         graphGui.updateTopology(structuralMsg);
                         System.out.println("Received structural information: " + structuralMsg.getNodes().size() + " nodes");
                     }
                 } else if ("infection_update".equals(messageType)) {
-                    InfectionUpdateMsg infectionMsg = InfectionUpdateMsg.decodeMessage(jsonMessage);
+                    InfectionUpdateMsg infectionMsg = MessageMappers.readerFor(InfectionUpdateMsg.class).readValue(jsonNode);
                     if (graphGui != null) {
                         int updatedNodeId = infectionMsg.getUpdatedNodeId();
                         int infectingNodeId = infectionMsg.getInfectingNodeId();
@@ -160,7 +169,7 @@ public class UiClient {
     private static void sendStartMessage() {
         try {
             // Create StartMsg JSON
-            ObjectMapper objectMapper = new ObjectMapper();
+            ObjectMapper objectMapper = MessageMappers.mapper();
             Map<String, Object> startMsgMap = new HashMap<>();
             startMsgMap.put("direction", "ui_to_supervisor");
             startMsgMap.put("messageType", "start_system");
@@ -171,6 +180,15 @@ public class UiClient {
             startMsgMap.put("protocol", protocol);
             startMsgMap.put("mode", mode);
             startMsgMap.put("deployment", deployment);
+            startMsgMap.put("wireFormat", wireFormat);
+            startMsgMap.put("workerMode", workerMode);
+            startMsgMap.put("workerTickMs", workerTickMs);
+            startMsgMap.put("transport", transport);
+            startMsgMap.put("linkLatency", linkLatency);
+            startMsgMap.put("dropProbability", dropProbability);
+            startMsgMap.put("bandwidthBytesPerSec", bandwidthBytesPerSec);
+            startMsgMap.put("reportBatchSize", reportBatchSize);
+            startMsgMap.put("reportFlushMs", reportFlushMs);
             
             String jsonMessage;
             try {
@@ -189,6 +207,10 @@ public class UiClient {
             System.out.println("  Protocol: " + protocol);
             System.out.println("  Mode: " + mode);
             System.out.println("  Deployment: " + deployment);
+            System.out.println("  Wire Format: " + wireFormat);
+            System.out.println("  Worker Mode: " + workerMode + (workerTickMs > 0 ? " (tick " + workerTickMs + " ms)" : ""));
+            System.out.println("  Transport: " + transport + ("in_memory".equals(transport)
+                    ? " (latency " + linkLatency + ", drop " + dropProbability + ", bandwidth " + bandwidthBytesPerSec + " B/s)" : ""));
             System.out.println("================================================");
             
             // Send message via TCP
@@ -209,7 +231,7 @@ public class UiClient {
     private static void sendEndMessage() {
         try {
             // Create EndMsg JSON
-            ObjectMapper objectMapper = new ObjectMapper();
+            ObjectMapper objectMapper = MessageMappers.mapper();
             Map<String, Object> endMsgMap = new HashMap<>();
             endMsgMap.put("direction", "ui_to_supervisor");
             endMsgMap.put("messageType", "end_system");
@@ -0,0 +1,191 @@
+package simulation.discrete_event;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.Envelope;
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.message.node_to_node.codec.NodeToNodeCodec;
+import epidemic_core.message.node_to_node.codec.WireFormat;
+import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
+import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
+import epidemic_core.node.Node;
+import epidemic_core.node.NodeFactory;
+import epidemic_core.node.NodeRandom;
+import general.communication.utils.Address;
+import general.logging.ConsoleLog;
+import supervisor.network_emulation.neighbors_and_subject.NetworkStructureManager;
+import supervisor.network_emulation.topology_creation.Topology;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Single-process discrete-event simulator.
+ *
+ * Builds the real nodes (same workers/FSMs as DistributedNodeStub) over a SimulatedNetwork and
+ * drives them from a priority queue of events on a virtual clock: no sockets, no threads, and
+ * identical results for identical (config, seed).
+ *
+ * Usage:
+ *   java simulation.discrete_event.DiscreteEventSimulator [N] [mode] [protocol] [topology] [maxRounds] [seed] [topologyFile]
+ */
+public class DiscreteEventSimulator {
+
+    private static final String SIM_NODE_IP = "sim.node";
+    private static final Address SIM_SUPERVISOR_ADDRESS = new Address("sim.supervisor", 0);
+
+    private final SimulationConfig config;
+    private final List<SimulationObserver> extraObservers = new ArrayList<>();
+
+    private SimulatedNetwork network;
+    private Node[] nodes;
+    private List<MessageTopic> topics;
+    private int currentRound = 0;
+    private boolean stopRequested = false;
+
+    public DiscreteEventSimulator(SimulationConfig config) {
+        this.config = config;
+    }
+
+    public void addObserver(SimulationObserver observer) { extraObservers.add(observer); }
+
+    // Request the run to end after the current event (e.g. from an observer);
+    // requested from onRoundStart, that round is not delivered
+    public void requestStop() { stopRequested = true; }
+
+    public int getCurrentRound() { return currentRound; }
+
+    public SimulationResult run() {
+        // nodes run on this thread only: silence their logging here, not System.out for the whole JVM
+        ConsoleLog.setQuiet(config.isQuiet());
+
+        try {
+            long wallStart = System.currentTimeMillis();
+            InfectionTally tally = new InfectionTally(config.getN());
+
+            build(tally);
+            scheduleRounds(tally);
+
+            while (!stopRequested && network.hasPendingEvents()) {
+                SimulationEvent event = network.nextEvent();
+                network.getClock().advanceTo(event.timeMs());
+                event.action().run();
+            }
+            network.clearPendingEvents();
+
+            long wallTimeMs = System.currentTimeMillis() - wallStart;
+            return new SimulationResult(config.getN(), currentRound, network.getClock().nowMs(), wallTimeMs,
+                    network.getNodeToNodeMessages(), tally.infectedCounts(), tally.removedCounts(),
+                    tally.fullInfectionRound(), tally.fullInfectionTimeMs());
+        } finally {
+            NodeRandom.clearRunSeed();
+            for (Node node : nodes != null ? nodes : new Node[0]) {
+                if (node != null) node.stop();
+            }
+            ConsoleLog.clearQuiet();
+        }
+    }
+
+    // ---------------------------------- Setup ----------------------------------
+    private void build(InfectionTally tally) {
+        int N = config.getN();
+        long seed = config.getSeed();
+
+        // Topology + sources/subjects, reproducible from the seed
+        Topology topology = new Topology();
+        Map<Integer, List<Integer>> adjMap = topology.createTopology(
+                config.getTopology(), config.getTopologyFile(), N, NodeRandom.forStream(seed, -1));
+        if (config.getTopologyExportFile() != null) {
+            topology.exportGraph(Path.of(config.getTopologyExportFile()));
+        }
+        NetworkStructureManager nsm = new NetworkStructureManager(
+                adjMap, config.getSourceNodes(), N, NodeRandom.forStream(seed, -2));
+
+        topics = new ArrayList<>();
+        for (Integer sourceId : new TreeSet<>(nsm.getSourceNodesId())) {
+            topics.add(new MessageTopic(nsm.getSubjectForNode(sourceId), sourceId));
+        }
+        List<String> subjectCodes = topics.stream().map(MessageTopic::subject).distinct().sorted().toList();
+
+        // One address table shared by every node
+        Map<Integer, Address> addressTable = new HashMap<>(N * 2);
+        Map<Address, Integer> addressToNodeId = new HashMap<>(N * 2);
+        for (int id = 0; id < N; id++) {
+            Address address = new Address(SIM_NODE_IP, id);
+            addressTable.put(id, address);
+            addressToNodeId.put(address, id);
+        }
+
+        network = new SimulatedNetwork(new VirtualClock(), addressToNodeId, SIM_SUPERVISOR_ADDRESS, config.getLinkLatencyMs());
+        network.addObserver(tally);
+        extraObservers.forEach(network::addObserver);
+
+        NodeToNodeCodec codec = NodeToNodeCodec.create(WireFormat.fromString(config.getWireFormat()), subjectCodes);
+
+        // Node randomness (neighbour choice, coin tosses) derives from the run seed
+        NodeRandom.setRunSeed(seed);
+        nodes = new Node[N];
+        network.setNodes(nodes);
+        for (int id = 0; id < N; id++) {
+            Node node = NodeFactory.createNode(id, nsm.getNeighbors(id), nsm.getSubjectForNode(id),
+                    addressTable, topics, SIM_SUPERVISOR_ADDRESS,
+                    config.getMode(), config.getProtocol(), config.getK(),
+                    new SimulatedCommunication(network, id));
+            node.setCodec(codec);
+            nodes[id] = node;
+        }
+    }
+
+    private void scheduleRounds(InfectionTally tally) {
+        Envelope startRound = Envelope.of(new StartRoundMsg(
+                Direction.supervisor_to_node.toString(),
+                SupervisorToNodeMessageType.start_round.toString()));
+
+        for (int round = 1; round <= config.getMaxRounds(); round++) {
+            final int thisRound = round;
+            network.schedule(round * config.getRoundIntervalMs(), () -> startRound(thisRound, startRound, tally));
+        }
+    }
+
+    private void startRound(int round, Envelope startRound, InfectionTally tally) {
+        if (config.isStopWhenFullyInfected() && tally.allTopicsFullyInfected(topics.size())) {
+            stopRequested = true;
+            return;
+        }
+
+        long now = network.getClock().nowMs();
+        for (SimulationObserver observer : network.getObservers()) {
+            observer.onRoundStart(round, now);
+        }
+        if (stopRequested) {
+            return; // an observer ended the run: this round is neither counted nor delivered
+        }
+        currentRound = round;
+
+        for (Node node : nodes) {
+            network.deliver(node, startRound);
+        }
+    }
+
+    // ---------------------------------- CLI ----------------------------------
+    public static void main(String[] args) {
+        int N = args.length >= 1 ? Integer.parseInt(args[0]) : 1000;
+        String mode = args.length >= 2 ? args[1] : "push";
+        String protocol = args.length >= 3 ? args[2] : "anti_entropy";
+        String topology = args.length >= 4 ? args[3] : "ring";
+        int maxRounds = args.length >= 5 ? Integer.parseInt(args[4]) : 100;
+        long seed = args.length >= 6 ? Long.parseLong(args[5]) : 1L;
+        String topologyFile = args.length >= 7 ? args[6] : null;
+
+        SimulationConfig config = new SimulationConfig(N, 1, topology, protocol, mode);
+        config.setMaxRounds(maxRounds);
+        config.setSeed(seed);
+        config.setTopologyFile(topologyFile);
+
+        System.out.println("Running discrete-event simulation: " + config);
+        new DiscreteEventSimulator(config).run().print();
+    }
+}
@@ -0,0 +1,62 @@
+package simulation.discrete_event;
+
+import epidemic_core.message.common.MessageTopic;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Per-topic infected/removed node sets kept by the simulator itself (feeds SimulationResult)
+class InfectionTally implements SimulationObserver {
+
+    private final int N;
+    private final Map<MessageTopic, BitSet> infected = new LinkedHashMap<>();
+    private final Map<MessageTopic, BitSet> removed = new LinkedHashMap<>();
+    private final Map<MessageTopic, Integer> fullInfectionRound = new LinkedHashMap<>();
+    private final Map<MessageTopic, Long> fullInfectionTimeMs = new LinkedHashMap<>();
+    private int currentRound = 0;
+
+    InfectionTally(int N) {
+        this.N = N;
+    }
+
+    @Override
+    public void onRoundStart(int round, long timeMs) {
+        currentRound = round;
+    }
+
+    @Override
+    public void onInfection(int nodeId, int infectingNodeId, MessageTopic topic, long timeMs) {
+        BitSet nodes = infected.computeIfAbsent(topic, t -> new BitSet(N));
+        nodes.set(nodeId);
+        if (nodes.cardinality() == N && !fullInfectionRound.containsKey(topic)) {
+            fullInfectionRound.put(topic, currentRound);
+            fullInfectionTimeMs.put(topic, timeMs);
+        }
+    }
+
+    @Override
+    public void onRemotion(int nodeId, MessageTopic topic, long timeMs) {
+        removed.computeIfAbsent(topic, t -> new BitSet(N)).set(nodeId);
+    }
+
+    boolean allTopicsFullyInfected(int expectedTopics) {
+        return expectedTopics > 0 && fullInfectionRound.size() >= expectedTopics;
+    }
+
+    Map<MessageTopic, Integer> infectedCounts() {
+        Map<MessageTopic, Integer> counts = new LinkedHashMap<>();
+        infected.forEach((topic, nodes) -> counts.put(topic, nodes.cardinality()));
+        return counts;
+    }
+
+    Map<MessageTopic, Integer> removedCounts() {
+        Map<MessageTopic, Integer> counts = new LinkedHashMap<>();
+        removed.forEach((topic, nodes) -> counts.put(topic, nodes.cardinality()));
+        return counts;
+    }
+
+    Map<MessageTopic, Integer> fullInfectionRound() { return fullInfectionRound; }
+
+    Map<MessageTopic, Long> fullInfectionTimeMs() { return fullInfectionTimeMs; }
+}
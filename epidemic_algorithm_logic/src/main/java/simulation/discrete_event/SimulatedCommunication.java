@@ -0,0 +1,33 @@
+package simulation.discrete_event;
+
+import general.communication.Communication;
+import general.communication.utils.Address;
+
+// Communication of one simulated node: sends go to the SimulatedNetwork, nothing is ever received
+// through here (the simulator hands decoded messages straight to Node.deliver)
+public class SimulatedCommunication implements Communication {
+
+    private final SimulatedNetwork network;
+    private final int nodeId;
+
+    public SimulatedCommunication(SimulatedNetwork network, int nodeId) {
+        this.network = network;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void setupSocket(Address myAddress) {}
+
+    @Override
+    public void sendMessage(Address destination, String message) {
+        network.send(nodeId, destination, message);
+    }
+
+    @Override
+    public String receiveMessage() {
+        return null;
+    }
+
+    @Override
+    public void closeSocket() {}
+}
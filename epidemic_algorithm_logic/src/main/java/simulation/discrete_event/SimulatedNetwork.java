@@ -0,0 +1,136 @@
+package simulation.discrete_event;
+
+import epidemic_core.message.common.Envelope;
+import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
+import epidemic_core.message.node_to_supervisor.infection_update.InfectionUpdateMsg;
+import epidemic_core.message.node_to_supervisor.remotion_update.RemotionUpdateMsg;
+import epidemic_core.node.Node;
+import epidemic_core.node.pacing.WorkerLoop;
+import general.communication.utils.Address;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory network of the discrete-event simulator.
+ * Node-to-node sends become delivery events (now + link latency); messages addressed to the
+ * supervisor are consumed immediately and reported to the observers.
+ */
+public class SimulatedNetwork {
+
+    private final VirtualClock clock;
+    private final PriorityQueue<SimulationEvent> events;
+    private final Map<Address, Integer> addressToNodeId;
+    private final Address supervisorAddress;
+    private final long linkLatencyMs;
+    private final List<SimulationObserver> observers;
+
+    private Node[] nodes;
+    private long sequence = 0;
+    private long nodeToNodeMessages = 0;
+    private long droppedMessages = 0;
+
+    public SimulatedNetwork(VirtualClock clock, Map<Address, Integer> addressToNodeId, Address supervisorAddress, long linkLatencyMs) {
+        this.clock = clock;
+        this.events = new PriorityQueue<>();
+        this.addressToNodeId = addressToNodeId;
+        this.supervisorAddress = supervisorAddress;
+        this.linkLatencyMs = linkLatencyMs;
+        this.observers = new ArrayList<>();
+    }
+
+    public void addObserver(SimulationObserver observer) { observers.add(observer); }
+
+    List<SimulationObserver> getObservers() { return observers; }
+
+    void setNodes(Node[] nodes) { this.nodes = nodes; }
+
+    public VirtualClock getClock() { return clock; }
+
+    public long getNodeToNodeMessages() { return nodeToNodeMessages; }
+
+    public long getDroppedMessages() { return droppedMessages; }
+
+    // ---------------------------------- Scheduling ----------------------------------
+    public void schedule(long timeMs, Runnable action) {
+        events.add(new SimulationEvent(timeMs, sequence++, action));
+    }
+
+    boolean hasPendingEvents() { return !events.isEmpty(); }
+
+    SimulationEvent nextEvent() { return events.poll(); }
+
+    void clearPendingEvents() { events.clear(); }
+
+    // ---------------------------------- Sending ----------------------------------
+    void send(int fromNodeId, Address destination, String message) {
+        if (supervisorAddress.equals(destination)) {
+            handleSupervisorMessage(message);
+            return;
+        }
+
+        Integer toNodeId = addressToNodeId.get(destination);
+        if (toNodeId == null) {
+            droppedMessages++;
+            return;
+        }
+
+        nodeToNodeMessages++;
+        long now = clock.nowMs();
+        for (SimulationObserver observer : observers) {
+            observer.onNodeToNodeMessage(fromNodeId, toNodeId, now);
+        }
+
+        schedule(now + linkLatencyMs, () -> deliver(toNodeId, message));
+    }
+
+    // Decode once (same as the node Listener) and let the node's worker settle on it
+    private void deliver(int nodeId, String message) {
+        Node node = nodes[nodeId];
+        Envelope envelope;
+        try {
+            envelope = Envelope.of(node.getCodec().decode(message));
+        } catch (Exception e) {
+            System.err.println("[Simulator] Dropped undecodable message for node " + nodeId + ": " + e.getMessage());
+            droppedMessages++;
+            return;
+        }
+        deliver(node, envelope);
+    }
+
+    void deliver(Node node, Envelope envelope) {
+        node.deliver(envelope);
+        for (int i = 0; i < WorkerLoop.SETTLE_STEPS; i++) {
+            node.workingStep();
+        }
+    }
+
+    // ---------------------------------- Supervisor side ----------------------------------
+    private void handleSupervisorMessage(String message) {
+        String messageType = MessageDispatcher.getMessageType(message);
+        long now = clock.nowMs();
+
+        try {
+            if (NodeToSupervisorMessageType.infection_update.toString().equals(messageType)) {
+                InfectionUpdateMsg msg = InfectionUpdateMsg.decodeMessage(message);
+                MessageTopic topic = new MessageTopic(msg.getSubject(), msg.getSourceId());
+                for (SimulationObserver observer : observers) {
+                    observer.onInfection(msg.getUpdatedNodeId(), msg.getInfectingNodeId(), topic, now);
+                }
+            } else if (NodeToSupervisorMessageType.remotion_update.toString().equals(messageType)) {
+                RemotionUpdateMsg msg = RemotionUpdateMsg.decodeMessage(message);
+                MessageTopic topic = new MessageTopic(msg.getSubject(), msg.getSourceId());
+                for (SimulationObserver observer : observers) {
+                    observer.onRemotion(msg.getUpdatedNodeId(), topic, now);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[Simulator] Error decoding supervisor message: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package simulation.discrete_event;
+
+/**
+ * Parameters of one simulated run (same vocabulary as StartMsg).
+ */
+public class SimulationConfig {
+
+    // Network
+    private final int N;
+    private final int sourceNodes;
+    private final String topology;
+    private final String protocol;
+    private final String mode;
+    private Double k = 2.0;
+    private String topologyFile; // edge list replacing the generated topology (null = generate)
+    private String topologyExportFile; // write the topology used (null = don't)
+
+    // Run
+    private long seed = 1L;
+    private int maxRounds = 100;
+    private long roundIntervalMs = 1000;
+    private long linkLatencyMs = 1;
+    private String wireFormat = "binary";
+    private boolean stopWhenFullyInfected = true;
+    private boolean quiet = true; // silence node/FSM stdout logging on the run's thread (unusable at 100k+ nodes)
+
+    public SimulationConfig(int N, int sourceNodes, String topology, String protocol, String mode) {
+        this.N = N;
+        this.sourceNodes = sourceNodes;
+        this.topology = topology;
+        this.protocol = protocol;
+        this.mode = mode;
+    }
+
+    // Getters
+    public int getN() { return N; }
+    public int getSourceNodes() { return sourceNodes; }
+    public String getTopology() { return topology; }
+    public String getProtocol() { return protocol; }
+    public String getMode() { return mode; }
+    public Double getK() { return k; }
+    public String getTopologyFile() { return topologyFile; }
+    public String getTopologyExportFile() { return topologyExportFile; }
+    public long getSeed() { return seed; }
+    public int getMaxRounds() { return maxRounds; }
+    public long getRoundIntervalMs() { return roundIntervalMs; }
+    public long getLinkLatencyMs() { return linkLatencyMs; }
+    public String getWireFormat() { return wireFormat; }
+    public boolean isStopWhenFullyInfected() { return stopWhenFullyInfected; }
+    public boolean isQuiet() { return quiet; }
+
+    // Setters (optional parameters)
+    public void setK(Double k) { this.k = k; }
+    public void setTopologyFile(String topologyFile) { this.topologyFile = topologyFile; }
+    public void setTopologyExportFile(String topologyExportFile) { this.topologyExportFile = topologyExportFile; }
+    public void setSeed(long seed) { this.seed = seed; }
+    public void setMaxRounds(int maxRounds) { this.maxRounds = maxRounds; }
+    public void setRoundIntervalMs(long roundIntervalMs) { this.roundIntervalMs = roundIntervalMs; }
+    public void setLinkLatencyMs(long linkLatencyMs) { this.linkLatencyMs = linkLatencyMs; }
+    public void setWireFormat(String wireFormat) { this.wireFormat = wireFormat; }
+    public void setStopWhenFullyInfected(boolean stopWhenFullyInfected) { this.stopWhenFullyInfected = stopWhenFullyInfected; }
+    public void setQuiet(boolean quiet) { this.quiet = quiet; }
+
+    @Override
+    public String toString() {
+        return "N=" + N + ", sources=" + sourceNodes + ", topology=" + topology + ", protocol=" + protocol +
+                ", mode=" + mode + ", k=" + k + ", seed=" + seed;
+    }
+}
@@ -0,0 +1,13 @@
+package simulation.discrete_event;
+
+// Scheduled action; ties on time are broken by insertion order, which keeps runs deterministic
+record SimulationEvent(long timeMs,
+                       long sequence,
+                       Runnable action) implements Comparable<SimulationEvent>
+{
+    @Override
+    public int compareTo(SimulationEvent other) {
+        int byTime = Long.compare(timeMs, other.timeMs);
+        return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+    }
+}
@@ -0,0 +1,15 @@
+package simulation.discrete_event;
+
+import epidemic_core.message.common.MessageTopic;
+
+// Callbacks fired by the simulator, in virtual time order
+public interface SimulationObserver {
+
+    default void onRoundStart(int round, long timeMs) {}
+
+    default void onInfection(int nodeId, int infectingNodeId, MessageTopic topic, long timeMs) {}
+
+    default void onRemotion(int nodeId, MessageTopic topic, long timeMs) {}
+
+    default void onNodeToNodeMessage(int fromNodeId, int toNodeId, long timeMs) {}
+}
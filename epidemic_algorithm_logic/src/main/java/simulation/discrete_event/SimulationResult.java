@@ -0,0 +1,48 @@
+package simulation.discrete_event;
+
+import epidemic_core.message.common.MessageTopic;
+
+import java.util.Map;
+
+/**
+ * Outcome of one simulated run.
+ *
+ * @param rounds              rounds started
+ * @param virtualTimeMs       simulated time at the end of the run
+ * @param wallTimeMs          real time spent simulating
+ * @param nodeToNodeMessages  node_to_node messages sent
+ * @param infectedCounts      nodes that stored each topic
+ * @param removedCounts       nodes that removed each topic (gossip protocols)
+ * @param fullInfectionRound  round in which each topic reached all N nodes (absent if it never did)
+ * @param fullInfectionTimeMs virtual time at which each topic reached all N nodes
+ */
+public record SimulationResult(int N,
+                               int rounds,
+                               long virtualTimeMs,
+                               long wallTimeMs,
+                               long nodeToNodeMessages,
+                               Map<MessageTopic, Integer> infectedCounts,
+                               Map<MessageTopic, Integer> removedCounts,
+                               Map<MessageTopic, Integer> fullInfectionRound,
+                               Map<MessageTopic, Long> fullInfectionTimeMs)
+{
+    public boolean isFullyInfected() {
+        return !infectedCounts.isEmpty() && fullInfectionRound.size() == infectedCounts.size();
+    }
+
+    public void print() {
+        System.out.println("================================================");
+        System.out.println("Simulation finished");
+        System.out.println("  Nodes: " + N + " | Rounds: " + rounds + " | Virtual time: " + virtualTimeMs + " ms" +
+                " | Wall time: " + wallTimeMs + " ms");
+        System.out.println("  Node-to-node messages: " + nodeToNodeMessages);
+        for (Map.Entry<MessageTopic, Integer> entry : infectedCounts.entrySet()) {
+            MessageTopic topic = entry.getKey();
+            Integer fullRound = fullInfectionRound.get(topic);
+            System.out.println("  - Subject '" + topic.subject() + "' (source " + topic.sourceId() + "): infected " +
+                    entry.getValue() + "/" + N + ", removed " + removedCounts.getOrDefault(topic, 0) +
+                    (fullRound != null ? ", full infection in round " + fullRound + " (" + fullInfectionTimeMs.get(topic) + " ms)" : ""));
+        }
+        System.out.println("================================================");
+    }
+}
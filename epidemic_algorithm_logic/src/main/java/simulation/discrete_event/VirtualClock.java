@@ -0,0 +1,16 @@
+package simulation.discrete_event;
+
+// Simulated time in milliseconds (only moves forward when the simulator pops an event)
+public class VirtualClock {
+
+    private long nowMs = 0;
+
+    public long nowMs() { return nowMs; }
+
+    void advanceTo(long timeMs) {
+        if (timeMs < nowMs) {
+            throw new IllegalStateException("Virtual clock cannot go back: " + timeMs + " < " + nowMs);
+        }
+        nowMs = timeMs;
+    }
+}
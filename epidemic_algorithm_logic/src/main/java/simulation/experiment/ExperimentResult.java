@@ -0,0 +1,70 @@
+package simulation.experiment;
+
+import simulation.discrete_event.SimulationConfig;
+import simulation.discrete_event.SimulationResult;
+
+import java.util.Locale;
+
+/**
+ * One row of the sweep results file.
+ *
+ * @param fullInfectionRound round in which the last topic reached all N nodes (-1 if one never did)
+ * @param lastChangeRound    last round in which any node got or removed a topic
+ * @param residue            fraction of (node, topic) pairs never reached, in [0, 1]
+ * @param latency*Ms         virtual delivery latency percentiles (round 1 signal -> first copy), over all non-source nodes and topics
+ * @param endReason          full_infection, converged, gossip_ended, quiescent or max_rounds
+ */
+public record ExperimentResult(String mode, String protocol, String topology, int N, double k, long seed,
+                               int rounds, int fullInfectionRound, int lastChangeRound,
+                               long nodeToNodeMessages, double residue,
+                               long latencyP50Ms, long latencyP90Ms, long latencyP99Ms, long latencyMaxMs,
+                               long virtualTimeMs, long wallTimeMs, String endReason)
+{
+    static final String CSV_HEADER = "mode,protocol,topology,N,k,seed,rounds,full_infection_round,last_change_round,"
+            + "node_to_node_messages,messages_per_node,residue,latency_p50_ms,latency_p90_ms,latency_p99_ms,"
+            + "latency_max_ms,virtual_time_ms,wall_time_ms,end_reason";
+
+    static ExperimentResult of(SimulationConfig config, SimulationResult result, RunObserver observer, int topicCount) {
+        int fullRound = -1;
+        if (result.isFullyInfected() && result.fullInfectionRound().size() >= topicCount) {
+            fullRound = result.fullInfectionRound().values().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        }
+
+        long reached = result.infectedCounts().values().stream().mapToLong(Integer::longValue).sum();
+        long expected = (long) config.getN() * topicCount;
+        double residue = expected == 0 ? 0 : 1.0 - (double) reached / expected;
+
+        String endReason = observer.getEndReason();
+        if (fullRound >= 0 && config.isStopWhenFullyInfected() && result.rounds() < config.getMaxRounds()) {
+            endReason = "full_infection";
+        }
+
+        long[] latencies = observer.sortedLatencies();
+        return new ExperimentResult(config.getMode(), config.getProtocol(), config.getTopology(), config.getN(),
+                config.getK(), config.getSeed(), result.rounds(), fullRound, observer.getLastChangeRound(),
+                result.nodeToNodeMessages(), Math.max(0, residue),
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                percentile(latencies, 1.0), result.virtualTimeMs(), result.wallTimeMs(), endReason);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return -1;
+        }
+        return sorted[(int) Math.ceil(p * sorted.length) - (p == 0 ? 0 : 1)];
+    }
+
+    String toCsvRow() {
+        return String.join(",", mode, protocol, csvText(topology), Integer.toString(N),
+                String.format(Locale.ROOT, "%s", k), Long.toString(seed), Integer.toString(rounds),
+                Integer.toString(fullInfectionRound), Integer.toString(lastChangeRound), Long.toString(nodeToNodeMessages),
+                String.format(Locale.ROOT, "%.3f", (double) nodeToNodeMessages / N),
+                String.format(Locale.ROOT, "%.6f", residue),
+                Long.toString(latencyP50Ms), Long.toString(latencyP90Ms), Long.toString(latencyP99Ms),
+                Long.toString(latencyMaxMs), Long.toString(virtualTimeMs), Long.toString(wallTimeMs), endReason);
+    }
+
+    private static String csvText(String value) {
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
@@ -0,0 +1,101 @@
+package simulation.experiment;
+
+import simulation.discrete_event.DiscreteEventSimulator;
+import simulation.discrete_event.SimulationConfig;
+import simulation.discrete_event.SimulationResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless batch runner: expands a SweepSpec and runs every configuration in-process with the
+ * discrete-event simulator (no sockets, no GUI), independent runs in parallel on a fixed pool.
+ * Rows are written to the CSV in sweep order, as soon as every earlier row is done.
+ *
+ * Each run is deterministic for its seed (NodeRandom is per thread, message counts come from the
+ * run's own SimulatedNetwork rather than the process-wide NodeToNodeMessageCounter).
+ *
+ * Usage:
+ *   java simulation.experiment.ExperimentRunner <sweep.properties> <results.csv> [threads]
+ */
+public class ExperimentRunner {
+
+    private final SweepSpec spec;
+    private final int threads;
+
+    public ExperimentRunner(SweepSpec spec, int threads) {
+        this.spec = spec;
+        this.threads = Math.max(1, threads);
+    }
+
+    public List<ExperimentResult> run(Path csvFile, PrintStream progress) throws IOException, InterruptedException {
+        List<SimulationConfig> configs = spec.configurations();
+        progress.println("[Experiment] " + configs.size() + " runs on " + threads + " threads -> " + csvFile);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<ExperimentResult> results = new ArrayList<>(configs.size());
+        long sweepStart = System.currentTimeMillis();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile)) {
+            writer.write(ExperimentResult.CSV_HEADER);
+            writer.newLine();
+
+            List<Future<ExperimentResult>> futures = new ArrayList<>(configs.size());
+            for (SimulationConfig config : configs) {
+                futures.add(pool.submit(() -> runOne(config)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                ExperimentResult result;
+                try {
+                    result = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    progress.println("[Experiment] run " + (i + 1) + " failed (" + configs.get(i) + "): " + e.getCause());
+                    continue;
+                }
+                results.add(result);
+                writer.write(result.toCsvRow());
+                writer.newLine();
+                writer.flush();
+                progress.println("[Experiment] " + (i + 1) + "/" + configs.size() + " " + configs.get(i)
+                        + " -> rounds " + result.rounds() + ", messages " + result.nodeToNodeMessages()
+                        + ", residue " + String.format("%.4f", result.residue()) + " (" + result.endReason() + ")");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        progress.println("[Experiment] " + results.size() + "/" + configs.size() + " runs done in "
+                + (System.currentTimeMillis() - sweepStart) + " ms");
+        return results;
+    }
+
+    private ExperimentResult runOne(SimulationConfig config) {
+        config.setQuiet(true); // per run thread, the progress lines still go to stdout
+        DiscreteEventSimulator simulator = new DiscreteEventSimulator(config);
+        RunObserver observer = new RunObserver(config.getN(), SweepSpec.isPushGossip(config.getMode(), config.getProtocol()),
+                spec.getQuietRounds(), simulator);
+        simulator.addObserver(observer);
+        SimulationResult result = simulator.run();
+        return ExperimentResult.of(config, result, observer, Math.min(config.getSourceNodes(), config.getN()));
+    }
+
+    // ---------------------------------- CLI ----------------------------------
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ExperimentRunner <sweep.properties> <results.csv> [threads]");
+            System.exit(1);
+        }
+        int threads = args.length >= 3 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        SweepSpec spec = SweepSpec.load(Path.of(args[0]));
+        new ExperimentRunner(spec, threads).run(Path.of(args[1]), System.out);
+    }
+}
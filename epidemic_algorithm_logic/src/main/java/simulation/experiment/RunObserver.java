@@ -0,0 +1,76 @@
+package simulation.experiment;
+
+import epidemic_core.message.common.MessageTopic;
+import simulation.discrete_event.DiscreteEventSimulator;
+import simulation.discrete_event.SimulationObserver;
+import supervisor.convergence.ConvergenceTracker;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Collects what a sweep row needs that SimulationResult does not carry, and ends runs early:
+ * - delivery latency: virtual time from the round 1 signal to each node's first copy of each topic
+ *   (the sources' own copies are not deliveries and are left out)
+ * - end of run: the live supervisor's ConvergenceTracker, checked at the start of every round for the
+ *   rounds already delivered; once it reports an outcome the run stops before that round is delivered
+ */
+class RunObserver implements SimulationObserver {
+
+    private final ConvergenceTracker tracker;
+    private final DiscreteEventSimulator simulator;
+
+    private long[] latencies = new long[64];
+    private int latencyCount = 0;
+    private long firstRoundMs = -1;
+    private String endReason = "max_rounds";
+
+    RunObserver(int N, boolean pushGossip, int quietRounds, DiscreteEventSimulator simulator) {
+        this.tracker = new ConvergenceTracker(N, pushGossip, quietRounds);
+        this.simulator = simulator;
+    }
+
+    @Override
+    public void onRoundStart(int round, long timeMs) {
+        ConvergenceTracker.Outcome outcome = tracker.check(); // the tracker is still on the previous round
+        if (outcome != ConvergenceTracker.Outcome.RUNNING) {
+            endReason = outcome.toString().toLowerCase(Locale.ROOT);
+            simulator.requestStop();
+            return;
+        }
+        if (round == 1) {
+            firstRoundMs = timeMs;
+        }
+        tracker.onRoundStart(round);
+    }
+
+    // The simulator carries no version timestamps: every topic has a single version (0)
+    @Override
+    public void onInfection(int nodeId, int infectingNodeId, MessageTopic topic, long timeMs) {
+        int holders = tracker.getHolderCount(topic);
+        tracker.onInfection(nodeId, topic.subject(), topic.sourceId(), 0);
+        if (tracker.getHolderCount(topic) == holders || nodeId == topic.sourceId() || firstRoundMs < 0) {
+            return;
+        }
+        if (latencyCount == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencyCount * 2);
+        }
+        latencies[latencyCount++] = Math.max(0, timeMs - firstRoundMs);
+    }
+
+    @Override
+    public void onRemotion(int nodeId, MessageTopic topic, long timeMs) {
+        tracker.onRemotion(nodeId, topic.subject(), topic.sourceId(), 0);
+    }
+
+    int getLastChangeRound() { return tracker.getLastChangeRound(); }
+
+    String getEndReason() { return endReason; }
+
+    // Sorted delivery latencies (one per non-source node and topic reached)
+    long[] sortedLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
@@ -0,0 +1,132 @@
+package simulation.experiment;
+
+import simulation.discrete_event.SimulationConfig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Parameter sweep read from a properties file, one comma-separated list per dimension:
+ *
+ *   mode = push, pull, pushpull
+ *   protocol = anti_entropy, blind_coin, feedback_coin
+ *   topology = ring, full mesh, small world
+ *   N = 100, 1000
+ *   k = 1, 2, 4          # gossip protocols only (anti_entropy runs once per combination)
+ *   seeds = 5            # seeds 1..5, or an explicit list: seed = 7, 11, 13
+ *   sourceNodes = 1
+ *   maxRounds = 200
+ *   quietRounds = 10     # stop a run after this many rounds without any infection/remotion
+ *   roundIntervalMs = 1000
+ *   linkLatencyMs = 1
+ *
+ * Every missing key falls back to the default below. configurations() is the cartesian product,
+ * in file order (mode outermost, seed innermost).
+ */
+public class SweepSpec {
+
+    private final List<String> modes;
+    private final List<String> protocols;
+    private final List<String> topologies;
+    private final List<Integer> nodeCounts;
+    private final List<Double> ks;
+    private final List<Long> seeds;
+    private final int sourceNodes;
+    private final int maxRounds;
+    private final int quietRounds;
+    private final long roundIntervalMs;
+    private final long linkLatencyMs;
+
+    public SweepSpec(Properties properties) {
+        this.modes = strings(properties, "mode", "push");
+        this.protocols = strings(properties, "protocol", "anti_entropy");
+        this.topologies = strings(properties, "topology", "full mesh");
+        this.nodeCounts = strings(properties, "N", "100").stream().map(Integer::parseInt).toList();
+        this.ks = strings(properties, "k", "2").stream().map(Double::parseDouble).toList();
+        if (properties.containsKey("seed")) {
+            this.seeds = strings(properties, "seed", "1").stream().map(Long::parseLong).toList();
+        } else {
+            int count = Integer.parseInt(properties.getProperty("seeds", "1").trim());
+            List<Long> generated = new ArrayList<>();
+            for (long seed = 1; seed <= count; seed++) {
+                generated.add(seed);
+            }
+            this.seeds = generated;
+        }
+        this.sourceNodes = Integer.parseInt(properties.getProperty("sourceNodes", "1").trim());
+        this.maxRounds = Integer.parseInt(properties.getProperty("maxRounds", "200").trim());
+        this.quietRounds = Integer.parseInt(properties.getProperty("quietRounds", "10").trim());
+        this.roundIntervalMs = Long.parseLong(properties.getProperty("roundIntervalMs", "1000").trim());
+        this.linkLatencyMs = Long.parseLong(properties.getProperty("linkLatencyMs", "1").trim());
+
+        if (nodeCounts.stream().anyMatch(n -> n < 1) || seeds.isEmpty() || maxRounds < 1) {
+            throw new IllegalArgumentException("Sweep needs N >= 1, at least one seed and maxRounds >= 1");
+        }
+    }
+
+    public static SweepSpec load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return new SweepSpec(properties);
+    }
+
+    public List<SimulationConfig> configurations() {
+        List<SimulationConfig> configs = new ArrayList<>();
+        for (String mode : modes) {
+            for (String protocol : protocols) {
+                boolean gossip = isGossip(protocol);
+                boolean pushGossip = isPushGossip(mode, protocol);
+                for (String topology : topologies) {
+                    for (int N : nodeCounts) {
+                        // k only changes gossip runs
+                        for (Double k : gossip ? ks : ks.subList(0, 1)) {
+                            for (long seed : seeds) {
+                                SimulationConfig config = new SimulationConfig(N, Math.min(sourceNodes, N), topology, protocol, mode);
+                                config.setK(k);
+                                config.setSeed(seed);
+                                config.setMaxRounds(maxRounds);
+                                config.setRoundIntervalMs(roundIntervalMs);
+                                config.setLinkLatencyMs(linkLatencyMs);
+                                // push gossip runs until nobody spreads (messages after full infection count),
+                                // the other runs are done at full infection
+                                config.setStopWhenFullyInfected(!pushGossip);
+                                configs.add(config);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return configs;
+    }
+
+    public int getQuietRounds() { return quietRounds; }
+
+    static boolean isGossip(String protocol) {
+        return protocol != null && !"anti_entropy".equalsIgnoreCase(protocol);
+    }
+
+    // Only in push mode does a REMOVED node stop spreading; pull/pushpull nodes still answer pulls
+    static boolean isPushGossip(String mode, String protocol) {
+        return isGossip(protocol) && "push".equalsIgnoreCase(mode);
+    }
+
+    private static List<String> strings(Properties properties, String key, String defaultValue) {
+        String value = properties.getProperty(key, defaultValue);
+        LinkedHashSet<String> values = new LinkedHashSet<>();
+        Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).forEach(values::add);
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Empty sweep dimension: " + key);
+        }
+        return new ArrayList<>(values);
+    }
+}
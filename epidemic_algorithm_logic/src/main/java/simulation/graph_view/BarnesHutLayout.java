@@ -0,0 +1,280 @@
+package simulation.graph_view;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Force-directed (Fruchterman-Reingold) layout with Barnes-Hut approximated repulsion.
+ *
+ * Each iteration rebuilds a quadtree over the current positions (O(N log N)), lets every node feel the
+ * far-away clusters as single masses (opening angle THETA), pulls edge endpoints together and moves
+ * nodes by at most the current temperature, which cools down every iteration.
+ *
+ * run() iterates until the layout cools down, the time budget is used or cancel() is called, handing a
+ * normalized copy of the positions ([-1, 1]) to the publisher every PUBLISH_INTERVAL_MS and at the end.
+ * It is meant to run on its own thread; the publisher is called from that thread.
+ */
+public class BarnesHutLayout implements Runnable {
+
+    private static final double THETA = 0.9;
+    private static final double IDEAL_EDGE_LENGTH = 1.0;
+    private static final double GRAVITY = 0.02;
+    private static final double COOLING = 0.96;
+    private static final double MIN_TEMPERATURE = 0.005;
+    private static final int MAX_ITERATIONS = 400;
+    private static final long PUBLISH_INTERVAL_MS = 100;
+
+    private final int nodeCount;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final double[] x;
+    private final double[] y;
+    private final double[] dispX;
+    private final double[] dispY;
+    private final long timeBudgetMs;
+    private final BiConsumer<double[], double[]> publisher;
+    private volatile boolean cancelled = false;
+
+    // Quadtree, stored in flat arrays (cell 0 = root)
+    private int cellCount;
+    private double[] cellCenterX, cellCenterY, cellHalf;
+    private double[] cellMass, cellMassX, cellMassY; // mass and mass-weighted position sums
+    private int[] cellChildren; // 4 per cell, -1 = none
+    private int[] cellBody; // -1 empty, >= 0 the single body of a leaf, INTERNAL otherwise
+    private static final int INTERNAL = -2;
+    private int[] stack;
+
+    // startX/startY: initial positions in any scale (copied); publisher gets normalized positions
+    public BarnesHutLayout(int nodeCount, int[] edgeFrom, int[] edgeTo, double[] startX, double[] startY,
+                           long timeBudgetMs, BiConsumer<double[], double[]> publisher) {
+        this.nodeCount = nodeCount;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.timeBudgetMs = timeBudgetMs;
+        this.publisher = publisher;
+
+        // spread the start over the area the final layout needs (~ sqrt(N) ideal lengths wide)
+        double spread = Math.sqrt(Math.max(1, nodeCount)) * IDEAL_EDGE_LENGTH;
+        this.x = new double[nodeCount];
+        this.y = new double[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            x[i] = startX[i] * spread;
+            y[i] = startY[i] * spread;
+        }
+        this.dispX = new double[nodeCount];
+        this.dispY = new double[nodeCount];
+
+        int maxCells = Math.max(16, nodeCount * 8);
+        this.cellCenterX = new double[maxCells];
+        this.cellCenterY = new double[maxCells];
+        this.cellHalf = new double[maxCells];
+        this.cellMass = new double[maxCells];
+        this.cellMassX = new double[maxCells];
+        this.cellMassY = new double[maxCells];
+        this.cellChildren = new int[maxCells * 4];
+        this.cellBody = new int[maxCells];
+        this.stack = new int[256];
+    }
+
+    public void cancel() { cancelled = true; }
+
+    @Override
+    public void run() {
+        long start = System.currentTimeMillis();
+        long lastPublish = start;
+        double temperature = Math.sqrt(Math.max(1, nodeCount)) * IDEAL_EDGE_LENGTH / 2;
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS && temperature > MIN_TEMPERATURE; iteration++) {
+            if (cancelled) {
+                return;
+            }
+            step(temperature);
+            temperature *= COOLING;
+
+            long now = System.currentTimeMillis();
+            if (now - start > timeBudgetMs) {
+                break;
+            }
+            if (now - lastPublish >= PUBLISH_INTERVAL_MS) {
+                publish();
+                lastPublish = now;
+            }
+        }
+        if (!cancelled) {
+            publish();
+        }
+    }
+
+    private void publish() {
+        double[] outX = new double[nodeCount];
+        double[] outY = new double[nodeCount];
+        GraphLayouts.normalize(nodeCount, x, y, outX, outY);
+        publisher.accept(outX, outY);
+    }
+
+    // One iteration: repulsion (Barnes-Hut), edge attraction, gravity, then move limited by temperature
+    void step(double temperature) {
+        buildTree();
+        double k2 = IDEAL_EDGE_LENGTH * IDEAL_EDGE_LENGTH;
+
+        for (int i = 0; i < nodeCount; i++) {
+            dispX[i] = 0;
+            dispY[i] = 0;
+            accumulateRepulsion(i, k2);
+            dispX[i] -= GRAVITY * x[i];
+            dispY[i] -= GRAVITY * y[i];
+        }
+
+        for (int e = 0; e < edgeFrom.length; e++) {
+            int a = edgeFrom[e];
+            int b = edgeTo[e];
+            double dx = x[a] - x[b];
+            double dy = y[a] - y[b];
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            if (distance == 0) {
+                continue;
+            }
+            double pull = distance / IDEAL_EDGE_LENGTH; // |F| = d^2 / k, along the unit vector dx/d
+            dispX[a] -= dx * pull;
+            dispY[a] -= dy * pull;
+            dispX[b] += dx * pull;
+            dispY[b] += dy * pull;
+        }
+
+        for (int i = 0; i < nodeCount; i++) {
+            double length = Math.sqrt(dispX[i] * dispX[i] + dispY[i] * dispY[i]);
+            if (length > 0) {
+                double move = Math.min(length, temperature) / length;
+                x[i] += dispX[i] * move;
+                y[i] += dispY[i] * move;
+            }
+        }
+    }
+
+    private void accumulateRepulsion(int i, double k2) {
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int cell = stack[--top];
+            if (cellMass[cell] == 0 || cellBody[cell] == i) {
+                continue;
+            }
+            double mass = cellMass[cell];
+            double dx = x[i] - cellMassX[cell] / mass;
+            double dy = y[i] - cellMassY[cell] / mass;
+            double distance2 = dx * dx + dy * dy;
+            double size = 2 * cellHalf[cell];
+
+            if (cellBody[cell] != INTERNAL || size * size < THETA * THETA * distance2) {
+                if (distance2 < 1e-12) {
+                    // coincident positions: nudge deterministically apart
+                    dx = 1e-3 * ((i & 1) == 0 ? 1 : -1);
+                    dy = 1e-3 * ((i & 2) == 0 ? 1 : -1);
+                    distance2 = dx * dx + dy * dy;
+                }
+                double push = k2 * mass / distance2; // |F| = k^2 / d per unit mass, along dx/d
+                dispX[i] += dx * push;
+                dispY[i] += dy * push;
+                continue;
+            }
+            if (top + 4 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            for (int q = 0; q < 4; q++) {
+                int child = cellChildren[cell * 4 + q];
+                if (child >= 0) {
+                    stack[top++] = child;
+                }
+            }
+        }
+    }
+
+    private void buildTree() {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < nodeCount; i++) {
+            minX = Math.min(minX, x[i]);
+            maxX = Math.max(maxX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        cellCount = 0;
+        newCell((minX + maxX) / 2, (minY + maxY) / 2, Math.max(maxX - minX, maxY - minY) / 2 + 1e-9);
+        for (int i = 0; i < nodeCount; i++) {
+            insert(i);
+        }
+    }
+
+    private void insert(int i) {
+        int cell = 0;
+        while (true) {
+            if (cellBody[cell] == -1) {
+                cellBody[cell] = i;
+                addMass(cell, x[i], y[i]);
+                return;
+            }
+            if (cellBody[cell] >= 0) {
+                int other = cellBody[cell];
+                if (cellHalf[cell] < 1e-9) {
+                    addMass(cell, x[i], y[i]); // (nearly) coincident with the body already here
+                    return;
+                }
+                // leaf becomes internal: push the resident body one level down
+                cellBody[cell] = INTERNAL;
+                int otherChild = childFor(cell, x[other], y[other]);
+                cellBody[otherChild] = other;
+                addMass(otherChild, x[other], y[other]);
+            }
+            addMass(cell, x[i], y[i]);
+            cell = childFor(cell, x[i], y[i]);
+        }
+    }
+
+    private void addMass(int cell, double px, double py) {
+        cellMass[cell] += 1;
+        cellMassX[cell] += px;
+        cellMassY[cell] += py;
+    }
+
+    // Child quadrant of the cell containing (px, py), created if needed
+    private int childFor(int cell, double px, double py) {
+        int quadrant = (px >= cellCenterX[cell] ? 1 : 0) + (py >= cellCenterY[cell] ? 2 : 0);
+        int slot = cell * 4 + quadrant;
+        if (cellChildren[slot] < 0) {
+            double half = cellHalf[cell] / 2;
+            double childX = cellCenterX[cell] + ((quadrant & 1) != 0 ? half : -half);
+            double childY = cellCenterY[cell] + ((quadrant & 2) != 0 ? half : -half);
+            cellChildren[slot] = newCell(childX, childY, half);
+        }
+        return cellChildren[slot];
+    }
+
+    private int newCell(double centerX, double centerY, double half) {
+        if (cellCount == cellBody.length) {
+            growCells();
+        }
+        int cell = cellCount++;
+        cellCenterX[cell] = centerX;
+        cellCenterY[cell] = centerY;
+        cellHalf[cell] = half;
+        cellMass[cell] = 0;
+        cellMassX[cell] = 0;
+        cellMassY[cell] = 0;
+        cellBody[cell] = -1;
+        for (int q = 0; q < 4; q++) {
+            cellChildren[cell * 4 + q] = -1;
+        }
+        return cell;
+    }
+
+    private void growCells() {
+        int capacity = cellBody.length * 2;
+        cellCenterX = Arrays.copyOf(cellCenterX, capacity);
+        cellCenterY = Arrays.copyOf(cellCenterY, capacity);
+        cellHalf = Arrays.copyOf(cellHalf, capacity);
+        cellMass = Arrays.copyOf(cellMass, capacity);
+        cellMassX = Arrays.copyOf(cellMassX, capacity);
+        cellMassY = Arrays.copyOf(cellMassY, capacity);
+        cellChildren = Arrays.copyOf(cellChildren, capacity * 4);
+        cellBody = Arrays.copyOf(cellBody, capacity);
+    }
+}
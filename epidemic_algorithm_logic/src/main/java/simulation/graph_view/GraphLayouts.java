@@ -0,0 +1,149 @@
+package simulation.graph_view;
+
+import java.util.Arrays;
+
+/**
+ * Closed-form layouts for topologies whose shape is known, plus the helpers the layouts share.
+ * All layouts write coordinates in [-1, 1] (x[i], y[i] for node index i).
+ */
+public final class GraphLayouts {
+
+    private GraphLayouts() {}
+
+    // Ring: every node has degree 2 and the edges form one cycle; nodes are placed in cycle order
+    public static boolean isRing(int nodeCount, int[] edgeFrom, int[] edgeTo) {
+        if (nodeCount < 3 || edgeFrom.length != nodeCount) {
+            return false;
+        }
+        int[] degree = degrees(nodeCount, edgeFrom, edgeTo);
+        for (int d : degree) {
+            if (d != 2) {
+                return false;
+            }
+        }
+        return cycleOrder(nodeCount, edgeFrom, edgeTo) != null;
+    }
+
+    // Star: one hub connected to every other node, no other edges. Returns the hub index or -1
+    public static int starHub(int nodeCount, int[] edgeFrom, int[] edgeTo) {
+        if (nodeCount < 3 || edgeFrom.length != nodeCount - 1) {
+            return -1;
+        }
+        int[] degree = degrees(nodeCount, edgeFrom, edgeTo);
+        int hub = -1;
+        for (int i = 0; i < nodeCount; i++) {
+            if (degree[i] == nodeCount - 1) {
+                hub = i;
+            } else if (degree[i] != 1) {
+                return -1;
+            }
+        }
+        return hub;
+    }
+
+    public static void ring(int nodeCount, int[] edgeFrom, int[] edgeTo, double[] x, double[] y) {
+        int[] order = cycleOrder(nodeCount, edgeFrom, edgeTo);
+        for (int k = 0; k < nodeCount; k++) {
+            int i = order != null ? order[k] : k;
+            double angle = 2 * Math.PI * k / nodeCount;
+            x[i] = Math.cos(angle);
+            y[i] = Math.sin(angle);
+        }
+    }
+
+    public static void star(int nodeCount, int hub, double[] x, double[] y) {
+        int leaves = nodeCount - 1;
+        int k = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            if (i == hub) {
+                x[i] = 0;
+                y[i] = 0;
+                continue;
+            }
+            double angle = 2 * Math.PI * k++ / leaves;
+            x[i] = Math.cos(angle);
+            y[i] = Math.sin(angle);
+        }
+    }
+
+    // Sunflower (phyllotaxis) spiral: evenly spread, deterministic start for force-directed layouts
+    public static void spiral(int nodeCount, double[] x, double[] y) {
+        double goldenAngle = Math.PI * (3 - Math.sqrt(5));
+        for (int i = 0; i < nodeCount; i++) {
+            double r = Math.sqrt((i + 0.5) / nodeCount);
+            x[i] = r * Math.cos(i * goldenAngle);
+            y[i] = r * Math.sin(i * goldenAngle);
+        }
+    }
+
+    // Scales and centers the positions into [-1, 1] keeping the aspect ratio; writes into outX/outY
+    public static void normalize(int nodeCount, double[] x, double[] y, double[] outX, double[] outY) {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < nodeCount; i++) {
+            minX = Math.min(minX, x[i]);
+            maxX = Math.max(maxX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        double span = Math.max(maxX - minX, maxY - minY);
+        double scale = span > 0 ? 2 / span : 1;
+        double centerX = (minX + maxX) / 2;
+        double centerY = (minY + maxY) / 2;
+        for (int i = 0; i < nodeCount; i++) {
+            outX[i] = (x[i] - centerX) * scale;
+            outY[i] = (y[i] - centerY) * scale;
+        }
+    }
+
+    private static int[] degrees(int nodeCount, int[] edgeFrom, int[] edgeTo) {
+        int[] degree = new int[nodeCount];
+        for (int e = 0; e < edgeFrom.length; e++) {
+            degree[edgeFrom[e]]++;
+            degree[edgeTo[e]]++;
+        }
+        return degree;
+    }
+
+    // Node indexes in cycle order, or null if the degree-2 graph is not a single cycle
+    private static int[] cycleOrder(int nodeCount, int[] edgeFrom, int[] edgeTo) {
+        int[] first = new int[nodeCount];
+        int[] second = new int[nodeCount];
+        Arrays.fill(first, -1);
+        Arrays.fill(second, -1);
+        for (int e = 0; e < edgeFrom.length; e++) {
+            if (!link(first, second, edgeFrom[e], edgeTo[e]) || !link(first, second, edgeTo[e], edgeFrom[e])) {
+                return null;
+            }
+        }
+
+        int[] order = new int[nodeCount];
+        boolean[] visited = new boolean[nodeCount];
+        int previous = -1;
+        int current = 0;
+        for (int k = 0; k < nodeCount; k++) {
+            if (visited[current]) {
+                return null; // closed a shorter cycle: more than one component
+            }
+            visited[current] = true;
+            order[k] = current;
+            int next = first[current] != previous ? first[current] : second[current];
+            previous = current;
+            current = next;
+            if (current < 0) {
+                return null;
+            }
+        }
+        return current == 0 ? order : null;
+    }
+
+    private static boolean link(int[] first, int[] second, int node, int neighbor) {
+        if (first[node] == -1) {
+            first[node] = neighbor;
+        } else if (second[node] == -1) {
+            second[node] = neighbor;
+        } else {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,122 @@
+package simulation.graph_view;
+
+import java.util.Arrays;
+
+/**
+ * Static point quadtree over node screen positions, rebuilt whenever the layout or the panel size changes.
+ * Used for mouse hit-testing: nearest(x, y, maxDistance) visits only the cells within maxDistance.
+ */
+public class PointQuadTree {
+
+    private static final int BUCKET_SIZE = 8;
+    private static final int MAX_DEPTH = 16;
+
+    private final int[] xs;
+    private final int[] ys;
+    private final Cell root;
+
+    private static final class Cell {
+        final int minX, minY, maxX, maxY;
+        int[] points = new int[BUCKET_SIZE]; // point indexes while this is a leaf
+        int count = 0;
+        Cell[] children; // NW, NE, SW, SE once split
+
+        Cell(int minX, int minY, int maxX, int maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+    }
+
+    // xs[i], ys[i] = position of point i (only the first count entries are indexed)
+    public PointQuadTree(int[] xs, int[] ys, int count) {
+        this.xs = xs;
+        this.ys = ys;
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        if (count == 0) {
+            minX = minY = maxX = maxY = 0;
+        }
+        this.root = new Cell(minX, minY, maxX, maxY);
+        for (int i = 0; i < count; i++) {
+            insert(root, i, 0);
+        }
+    }
+
+    // Index of the point closest to (x, y) within maxDistance, or -1
+    public int nearest(int x, int y, int maxDistance) {
+        long[] best = { -1, (long) maxDistance * maxDistance };
+        nearest(root, x, y, best);
+        return (int) best[0];
+    }
+
+    private void nearest(Cell cell, int x, int y, long[] best) {
+        long dx = Math.max(0, Math.max(cell.minX - x, x - cell.maxX));
+        long dy = Math.max(0, Math.max(cell.minY - y, y - cell.maxY));
+        if (dx * dx + dy * dy > best[1]) {
+            return; // whole cell is farther than the best candidate
+        }
+        if (cell.children == null) {
+            for (int k = 0; k < cell.count; k++) {
+                int i = cell.points[k];
+                long px = xs[i] - x;
+                long py = ys[i] - y;
+                long distance = px * px + py * py;
+                if (distance <= best[1]) {
+                    best[0] = i;
+                    best[1] = distance;
+                }
+            }
+            return;
+        }
+        for (Cell child : cell.children) {
+            nearest(child, x, y, best);
+        }
+    }
+
+    private void insert(Cell cell, int i, int depth) {
+        while (cell.children != null) {
+            cell = childFor(cell, xs[i], ys[i]);
+            depth++;
+        }
+        if (cell.count == cell.points.length) {
+            if (depth < MAX_DEPTH && (cell.maxX > cell.minX || cell.maxY > cell.minY)) {
+                split(cell, depth);
+                insert(childFor(cell, xs[i], ys[i]), i, depth + 1);
+                return;
+            }
+            cell.points = Arrays.copyOf(cell.points, cell.points.length * 2); // coincident points
+        }
+        cell.points[cell.count++] = i;
+    }
+
+    private void split(Cell cell, int depth) {
+        int midX = (cell.minX + cell.maxX) >> 1;
+        int midY = (cell.minY + cell.maxY) >> 1;
+        cell.children = new Cell[] {
+            new Cell(cell.minX, cell.minY, midX, midY),
+            new Cell(midX + 1, cell.minY, cell.maxX, midY),
+            new Cell(cell.minX, midY + 1, midX, cell.maxY),
+            new Cell(midX + 1, midY + 1, cell.maxX, cell.maxY)
+        };
+        for (int k = 0; k < cell.count; k++) {
+            int i = cell.points[k];
+            insert(childFor(cell, xs[i], ys[i]), i, depth + 1);
+        }
+        cell.points = null;
+        cell.count = 0;
+    }
+
+    private static Cell childFor(Cell cell, int x, int y) {
+        int midX = (cell.minX + cell.maxX) >> 1;
+        int midY = (cell.minY + cell.maxY) >> 1;
+        return cell.children[(x > midX ? 1 : 0) + (y > midY ? 2 : 0)];
+    }
+}
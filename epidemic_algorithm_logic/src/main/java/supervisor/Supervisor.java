@@ -10,22 +10,34 @@ import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
 import epidemic_core.message.supervisor_to_ui.structural_infos.StructuralInfosMsg;
 import epidemic_core.message.ui_to_supervisor.end_system.EndMsg;
 import epidemic_core.message.ui_to_supervisor.start_system.StartMsg;
+import epidemic_core.node.round_sync.RoundSyncMode;
 import supervisor.network_emulation.neighbors_and_subject.NetworkStructureManager;
 import supervisor.network_emulation.topology_creation.Topology;
-import supervisor.network_emulation.topology_creation.TopologyType;
-import supervisor.network_emulation.utils.NodeIdToAddressTable;
 import general.communication.Communication;
+import general.communication.Transport;
 import general.communication.implementation.TcpCommunication;
-import general.communication.implementation.UdpCommunication;
+import general.communication.implementation.NioUdpCommunication;
+import general.communication.implementation.PooledTcpCommunication;
+import general.communication.implementation.in_memory.InMemoryCommunication;
+import general.communication.implementation.in_memory.InMemoryFabric;
+import general.communication.implementation.in_memory.LatencyDistribution;
 import general.communication.utils.Address;
 import supervisor.communication.Dispatcher;
 import supervisor.communication.Listener;
 import supervisor.communication.Worker;
+import supervisor.communication.pipeline.IngestPipeline;
+import supervisor.communication.pipeline.MeteredQueue;
 import supervisor.network_emulation.NetworkEmulator;
+import supervisor.convergence.ConvergenceTracker;
+import supervisor.round_sync.RoundClock;
+import supervisor.round_sync.RoundPacer;
+import supervisor.round_sync.RoundPacingMode;
+import supervisor.round_sync.RoundSkewTracker;
 import supervisor.ui.SupervisorGui;
 import supervisor.server.WebSocketServerImpl;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -45,10 +57,12 @@ public class Supervisor {
     private Worker worker;
     private NetworkEmulator system;
 
-    private BlockingQueue<String> udpMsgsQueue; // Messages from UDP (nodes)
+    private MeteredQueue<String> udpMsgsQueue; // Messages from nodes (UDP, TCP or in-memory) - bounded, fills up under backpressure
     private BlockingQueue<String> tcpMsgsQueue; // Messages from TCP (UI)
-    private BlockingQueue<String> nodeQueue;
     private BlockingQueue<String> uiQueue;
+    private IngestPipeline ingestPipeline; // parse/route -> apply (partitioned by node id) -> UI fan-out
+
+    private static final int INGEST_QUEUE_CAPACITY = 8192;
 
     private Thread listenerThread;
     private Thread dispatcherThread;
@@ -57,16 +71,21 @@ public class Supervisor {
 
     private StartMsg startMessage;
     private volatile boolean isNetworkRunning = false;
-    private final long roundInterval = 5;
+    private volatile long roundsStartedAtMs = -1; // round 1 signal
+    private volatile long timeToFullInfectionMs = -1;
+    private volatile int fullInfectionRound = -1;
+    private volatile ConvergenceTracker convergenceTracker; // fed by the ingest apply threads
+    private boolean convergenceReported = false; // round thread only
     private int supervisorPort = 7000; // Default port, updated in initialize()
     private int supervisorTcpPort = 7001; // TCP port for node communication (fixed port)
     private WebSocketServerImpl webSocketServer;
-    private SupervisorGui gui;
+    private volatile SupervisorGui gui; // replaced once searching ends if fewer nodes answered
     private int currentRound = 0;
+    private final RoundSkewTracker roundSkewTracker = new RoundSkewTracker(); // round-start lag/skew reported by nodes
     private volatile boolean externalUiAvailable = true;
 
     // Distributed deployment mode fields
-    private TcpCommunication nodeTcpCommunication; // TCP server for nodes (distributed mode)
+    private Communication nodeTcpCommunication; // TCP server for nodes + pooled connections to them (StartNodeMsg/KillNodeMsg)
     private Map<String, Integer> addressToNodeId;  // for discovered nodes
     private Map<Integer, Address> discoveredNodeAddresses; // for StartRoundMsg
     private Map<Integer, Address> discoveredNodeTcpAddresses; // for StartNodeMsg
@@ -75,19 +94,27 @@ public class Supervisor {
     private static final int SEARCHING_TIMEOUT_MS = 20000;
     private volatile boolean isDistributedMode = false; // Flag to track deployment mode
 
+    // In-memory transport (local mode, transport = "in_memory")
+    private InMemoryFabric fabric;
+    private InMemoryCommunication fabricNodeCommunication; // stands in for nodeCommunication (hello in, start_round out)
+
     public Supervisor() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public Supervisor(int ingestWorkers) {
         // buffers:
-        this.udpMsgsQueue = new LinkedBlockingQueue<>();
+        this.udpMsgsQueue = new MeteredQueue<>("inbound", INGEST_QUEUE_CAPACITY);
         this.tcpMsgsQueue = new LinkedBlockingQueue<>();
-        this.nodeQueue = new LinkedBlockingQueue<>();
         this.uiQueue = new LinkedBlockingQueue<>();
 
-        this.nodeCommunication = new UdpCommunication();
+        this.nodeCommunication = new NioUdpCommunication(); // wire-compatible with nodes on either UDP transport
         this.uiCommunication = new TcpCommunication();
 
         this.listener = new Listener(this, udpMsgsQueue, tcpMsgsQueue);
-        this.dispatcher = new Dispatcher(udpMsgsQueue, tcpMsgsQueue, nodeQueue, uiQueue);
-        this.worker = new Worker(this, nodeQueue, uiQueue);
+        this.dispatcher = new Dispatcher(tcpMsgsQueue, uiQueue);
+        this.worker = new Worker(this, uiQueue);
+        this.ingestPipeline = new IngestPipeline(udpMsgsQueue, worker, this::sendToUi, ingestWorkers, INGEST_QUEUE_CAPACITY);
     }
 
     public Communication getNodeCommunication() {return nodeCommunication;}
@@ -103,7 +130,8 @@ public class Supervisor {
         this.startMessage = startMessage;
         NodeToNodeMessageCounter.getInstance().reset();
 
-        gui = new SupervisorGui(startMessage.getN());
+        gui = new SupervisorGui(startMessage.getN()); // resized once searching ends if fewer nodes answer
+        convergenceTracker = null; // created for the discovered nodes once searching ends
 
         // Check deployment mode
         String deployment = startMessage.getDeployment();
@@ -125,16 +153,35 @@ public class Supervisor {
     // Local mode: Create DistributedNodeStub locally, then enter SEARCHING mode
     private void startLocalNetwork(StartMsg startMessage) {
         Address supervisorAddress = new Address("127.0.0.1", supervisorPort);
+        Address supervisorTcpAddress = new Address("127.0.0.1", supervisorTcpPort);
+
+        Transport transport = Transport.fromString(startMessage.getTransport());
+        if (transport == Transport.IN_MEMORY) {
+            // Supervisor endpoints must be bound before the stubs start waving
+            fabric = new InMemoryFabric(LatencyDistribution.parse(startMessage.getLinkLatency()),
+                    startMessage.getDropProbability(), startMessage.getBandwidthBytesPerSec());
+
+            fabricNodeCommunication = fabric.newCommunication();
+            fabricNodeCommunication.setupSocket(supervisorAddress);
+            listener.startNodeFabricListening(fabricNodeCommunication);
+
+            nodeTcpCommunication = fabric.newReliableCommunication();
+            nodeTcpCommunication.setupSocket(supervisorTcpAddress);
+            System.out.println("[Supervisor] In-memory transport (latency " + startMessage.getLinkLatency()
+                    + ", drop " + startMessage.getDropProbability()
+                    + ", bandwidth " + startMessage.getBandwidthBytesPerSec() + " B/s)");
+        } else {
+            nodeTcpCommunication = new PooledTcpCommunication();
+            nodeTcpCommunication.setupSocket(supervisorTcpAddress);
+            System.out.println("[Supervisor] TCP server initialized for nodes on port " + supervisorTcpPort);
+        }
+
         system = new NetworkEmulator(startMessage.getN(), startMessage.getSourceNodes(), startMessage.getTopology(),
-                startMessage.getProtocol(), startMessage.getMode(), supervisorAddress);
+                startMessage.getProtocol(), startMessage.getMode(), supervisorAddress, transport, fabric);
+        system.setTopologyFiles(startMessage.getTopologyFile(), startMessage.getTopologyExportFile());
 
         system.initializeNetwork();
 
-        nodeTcpCommunication = new TcpCommunication();
-        Address supervisorTcpAddress = new Address("127.0.0.1", supervisorTcpPort);
-        nodeTcpCommunication.setupSocket(supervisorTcpAddress);
-        System.out.println("[Supervisor] TCP server initialized for nodes on port " + supervisorTcpPort);
-
         listener.startNodeTcpListening();
 
         addressToNodeId = new HashMap<>();
@@ -149,7 +196,7 @@ public class Supervisor {
     private void startDistributedNetwork(StartMsg startMessage) {
         System.out.println("[Supervisor] Starting distributed network discovery...");
 
-        nodeTcpCommunication = new TcpCommunication();
+        nodeTcpCommunication = new PooledTcpCommunication();
         Address supervisorTcpAddress = new Address("127.0.0.1", supervisorTcpPort);
         nodeTcpCommunication.setupSocket(supervisorTcpAddress);
         System.out.println("[Supervisor] TCP server initialized for nodes on port " + supervisorTcpPort);
@@ -179,6 +226,7 @@ public class Supervisor {
             String subject = nsm.getSubjectForNode(nodeId);
             if (subject != null) {
                 gui.recordInfection(nodeId, nodeId, subject, nodeId, 0, "SOURCE", 0);
+                convergenceTracker.onInfection(nodeId, subject, nodeId, 0);
                 System.out.println("Registered SOURCE node " + nodeId + " with subject '" + subject + "' in round 0");
             }
         }
@@ -265,6 +313,7 @@ public class Supervisor {
 
         try {
             int N = addressToNodeId.size();
+            sizeRunToDiscoveredNodes(N);
             int sourceNodes = Math.min(startMessage.getSourceNodes(), N);
             String topologyType = startMessage.getTopology();
             String protocolRaw = startMessage.getProtocol();
@@ -281,25 +330,42 @@ public class Supervisor {
                 nsm = system.getNetworkStructureManager();
                 System.out.println("[Supervisor] Using existing NetworkStructureManager (local mode)");
             } else {
-                TopologyType type = TopologyType.fromString(topologyType);
                 Topology topology = new Topology();
-                Map<Integer, List<Integer>> adjMap = topology.createTopology(type, N);
+                Map<Integer, List<Integer>> adjMap = topology.createTopology(topologyType,
+                        startMessage.getTopologyFile(), N, new Random());
+                if (startMessage.getTopologyExportFile() != null) {
+                    topology.exportGraph(Path.of(startMessage.getTopologyExportFile()));
+                }
 
                 nsm = new supervisor.network_emulation.neighbors_and_subject.NetworkStructureManager(adjMap,
                         sourceNodes, N);
                 System.out.println("[Supervisor] Created new NetworkStructureManager (distributed mode)");
             }
 
-            NodeIdToAddressTable nodeIdToAddressTable = new NodeIdToAddressTable(N);
-            Map<Integer, Address> addressTable = nodeIdToAddressTable.getAll();
-
+            // "ip:port" of every node rendered once; each node is only sent its own and its neighbours'
+            // (not the whole N-entry table, which made startup O(N^2) in bytes and string building)
+            String[] udpAddressById = new String[N];
             for (Map.Entry<Integer, Address> entry : discoveredNodeAddresses.entrySet()) {
-                int nodeId = entry.getKey();
                 Address udpAddress = entry.getValue();
-                addressTable.put(nodeId, udpAddress);
+                udpAddressById[entry.getKey()] = udpAddress.getIp() + ":" + udpAddress.getPort();
             }
 
             List<MessageTopic> subscribedTopics = generateSubscribedTopics(nsm);
+            List<Map<String, Object>> subscribedTopicsJson = new ArrayList<>();
+            for (MessageTopic topic : subscribedTopics) {
+                Map<String, Object> topicMap = new HashMap<>();
+                topicMap.put("subject", topic.subject());
+                topicMap.put("sourceId", topic.sourceId());
+                subscribedTopicsJson.add(topicMap);
+            }
+
+            // Subject table shared by every node so binary frames can carry a small code instead of the name
+            String wireFormat = startMessage.getWireFormat();
+            List<String> subjectCodes = subscribedTopics.stream()
+                    .map(MessageTopic::subject)
+                    .distinct()
+                    .sorted()
+                    .toList();
 
             Address supervisorTcpAddress = new Address("127.0.0.1", supervisorTcpPort);
             String supervisorTcpAddressStr = supervisorTcpAddress.getIp() + ":" + supervisorTcpAddress.getPort();
@@ -309,6 +375,11 @@ public class Supervisor {
                 k = 2.0; // Change here k value
             }
 
+            // Round clock: in TREE mode nodes forward round signals to their children (addresses included below)
+            RoundSyncMode roundSync = RoundSyncMode.fromString(startMessage.getRoundSync());
+            int roundTreeArity = Math.max(1, startMessage.getRoundTreeArity());
+            String roundMulticastGroup = roundSync == RoundSyncMode.MULTICAST ? RoundClock.MULTICAST_GROUP : null;
+
             for (Map.Entry<Integer, Address> entry : discoveredNodeTcpAddresses.entrySet()) {
                 int nodeId = entry.getKey();
                 Address nodeTcpAddress = entry.getValue();
@@ -317,18 +388,16 @@ public class Supervisor {
                 List<Integer> neighbors = nsm.getNeighbors(nodeId);
                 String assignedSubjectAsSource = nsm.getSubjectForNode(nodeId);
 
-                Map<String, String> nodeToAddressTableStr = new HashMap<>();
-                for (Map.Entry<Integer, Address> addrEntry : addressTable.entrySet()) {
-                    nodeToAddressTableStr.put(String.valueOf(addrEntry.getKey()),
-                            addrEntry.getValue().getIp() + ":" + addrEntry.getValue().getPort());
+                Map<String, String> nodeToAddressTableStr = new HashMap<>(2 * (neighbors.size() + 1));
+                putAddress(nodeToAddressTableStr, nodeId, udpAddressById);
+                for (Integer neighbor : neighbors) {
+                    putAddress(nodeToAddressTableStr, neighbor, udpAddressById);
                 }
-
-                List<Map<String, Object>> subscribedTopicsJson = new ArrayList<>();
-                for (MessageTopic topic : subscribedTopics) {
-                    Map<String, Object> topicMap = new HashMap<>();
-                    topicMap.put("subject", topic.subject());
-                    topicMap.put("sourceId", topic.sourceId());
-                    subscribedTopicsJson.add(topicMap);
+                List<Integer> roundChildren = roundSync == RoundSyncMode.TREE
+                        ? RoundClock.treeChildren(nodeId, roundTreeArity, N)
+                        : List.of();
+                for (Integer child : roundChildren) {
+                    putAddress(nodeToAddressTableStr, child, udpAddressById);
                 }
 
                 StartNodeMsg startNodeMsg = new StartNodeMsg(
@@ -342,7 +411,16 @@ public class Supervisor {
                         assignedSubjectAsSource,
                         mode,
                         protocol,
-                        k);
+                        k,
+                        wireFormat,
+                        subjectCodes,
+                        startMessage.getWorkerMode(),
+                        startMessage.getWorkerTickMs(),
+                        startMessage.getReportBatchSize(),
+                        startMessage.getReportFlushMs(),
+                        roundSync.name().toLowerCase(),
+                        roundChildren,
+                        roundMulticastGroup);
 
                 String encodedMsg = startNodeMsg.encode();
 
@@ -367,6 +445,10 @@ public class Supervisor {
             }
 
             currentRound = 0;
+            roundsStartedAtMs = -1;
+            timeToFullInfectionMs = -1;
+            fullInfectionRound = -1;
+            convergenceReported = false;
             if (gui != null) {
                 registerSourceNodesInRound0Distributed(nsm);
             }
@@ -380,6 +462,26 @@ public class Supervisor {
         }
     }
 
+    // Per-node run state is sized to the nodes that answered (the search may time out short of N), otherwise
+    // the missing ones would count as never reached: no CONVERGED, and a wrong residue
+    private void sizeRunToDiscoveredNodes(int N) {
+        boolean pushGossip = startMessage.getProtocol() != null && !"anti_entropy".equalsIgnoreCase(startMessage.getProtocol())
+                && "push".equalsIgnoreCase(startMessage.getMode());
+        convergenceTracker = new ConvergenceTracker(N, pushGossip, startMessage.getConvergenceQuietRounds());
+
+        if (gui != null && gui.getNumberOfNodes() != N) {
+            System.out.println("[Supervisor] Only " + N + " of " + startMessage.getN() + " nodes discovered, resizing the GUI");
+            gui = gui.resizedTo(N);
+        }
+    }
+
+    private static void putAddress(Map<String, String> table, int nodeId, String[] udpAddressById) {
+        String address = nodeId < udpAddressById.length ? udpAddressById[nodeId] : null;
+        if (address != null) {
+            table.put(String.valueOf(nodeId), address);
+        }
+    }
+
     // Generate subscribed topics for all nodes (all source topics)
     private List<MessageTopic> generateSubscribedTopics(NetworkStructureManager nsm) {
         List<MessageTopic> topics = new ArrayList<>();
@@ -427,6 +529,7 @@ public class Supervisor {
             String subject = nsm.getSubjectForNode(nodeId);
             if (subject != null) {
                 gui.recordInfection(nodeId, nodeId, subject, nodeId, 0, "SOURCE", 0);
+                convergenceTracker.onInfection(nodeId, subject, nodeId, 0);
                 System.out.println("Registered SOURCE node " + nodeId + " with subject '" + subject + "' in round 0");
             }
         }
@@ -449,6 +552,19 @@ public class Supervisor {
     }
 
     private void sendStartRoundPeriodically() {
+        Map<Integer, Address> nodeAddresses;
+        if (discoveredNodeAddresses != null && !discoveredNodeAddresses.isEmpty()) {
+            nodeAddresses = discoveredNodeAddresses;
+        } else {
+            nodeAddresses = system != null ? system.getNodeAddresses() : new HashMap<>();
+        }
+        Communication roundCommunication = fabricNodeCommunication != null ? fabricNodeCommunication : nodeCommunication;
+        RoundClock roundClock = new RoundClock(RoundSyncMode.fromString(startMessage.getRoundSync()),
+                startMessage.getRoundTreeArity(), roundCommunication, nodeAddresses, !isDistributedMode);
+        System.out.println("[RoundSync] " + roundClock.getMode() + " round signals for " + nodeAddresses.size() + " nodes");
+        RoundPacer roundPacer = createRoundPacer();
+        System.out.println("[RoundPacing] " + roundPacer.summary());
+
         try {
             // Loop continues while network is running (both local and distributed modes)
             while (isNetworkRunning && (system != null || isDistributedMode)) {
@@ -459,40 +575,31 @@ public class Supervisor {
                     gui.incrementRound();
                 }
 
-                StartRoundMsg startRoundMsg = new StartRoundMsg(
-                        epidemic_core.message.common.Direction.supervisor_to_node.toString(),
-                        epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType.start_round.toString());
-                String encodedMsg = startRoundMsg.encode();
-
-                Map<Integer, Address> nodeAddresses;
-
-                if (discoveredNodeAddresses != null && !discoveredNodeAddresses.isEmpty()) {
-                    nodeAddresses = discoveredNodeAddresses;
-                } else {
-                    nodeAddresses = system != null ? system.getNodeAddresses() : new HashMap<>();
+                convergenceTracker.onRoundStart(currentRound);
+                int datagrams = roundClock.signal(currentRound);
+                if (currentRound == 1) {
+                    roundsStartedAtMs = System.currentTimeMillis();
                 }
 
-                int nodesCount = nodeAddresses.size();
-                for (Map.Entry<Integer, Address> entry : nodeAddresses.entrySet()) {
-                    Address nodeAddress = entry.getValue();
-                    if (nodeAddress != null) {
-                        nodeCommunication.sendMessage(nodeAddress, encodedMsg);
-                    }
+                System.out.println("Round " + currentRound + " triggered for all " + nodeAddresses.size() + " nodes ("
+                        + datagrams + " datagram(s) from the supervisor)");
+                System.out.println("[Ingest] " + ingestPipeline.metricsSummary());
+                if (currentRound > 1) {
+                    System.out.println("[RoundSync] " + roundSkewTracker.summary(currentRound - 1));
                 }
 
-                System.out.println("Round " + currentRound + " triggered for all " + nodesCount + " nodes");
-
                 // Send StartRoundMsg to UI as well
                 if (gui != null) {
                     StartRoundMsg startRoundMsgUi = new StartRoundMsg(
                             epidemic_core.message.common.Direction.supervisor_to_ui.toString(),
                             epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType.start_round
-                                    .toString());
+                                    .toString(),
+                            currentRound, null);
                     sendToUi(startRoundMsgUi.encode());
                 }
 
                 try {
-                    Thread.sleep(roundInterval * 1000); // Sleep for 2 seconds
+                    roundPacer.awaitNextRound();
                 } catch (InterruptedException e) {
                     // Thread was interrupted (likely by endNetwork), exit the loop
                     Thread.currentThread().interrupt();
@@ -500,6 +607,15 @@ public class Supervisor {
                     break;
                 }
 
+                if (roundPacer.getMode() != RoundPacingMode.FIXED) {
+                    System.out.println("[RoundPacing] round " + currentRound + " " + roundPacer.summary());
+                }
+                checkFullInfection();
+                if (checkConvergence()) {
+                    System.out.println("[Convergence] Run is over, no more rounds (send EndMsg to tear the network down)");
+                    break;
+                }
+
                 if (!isNetworkRunning) {
                     System.out.println("Network stopped. Exiting round loop.");
                     break;
@@ -508,11 +624,61 @@ public class Supervisor {
         } catch (Exception e) {
             System.err.println("Error in start round message: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            roundClock.close();
+        }
+    }
+
+    // activity = messages seen so far; in flight = on the in-memory fabric's wire or waiting in the ingest queues
+    private RoundPacer createRoundPacer() {
+        InMemoryFabric roundFabric = fabric;
+        return new RoundPacer(RoundPacingMode.fromString(startMessage.getRoundPacing()),
+                startMessage.getRoundIntervalMs(), startMessage.getRoundMinIntervalMs(), startMessage.getRoundQuietMs(),
+                () -> NodeToNodeMessageCounter.getInstance().get() + udpMsgsQueue.getMetrics().getEnqueued(),
+                () -> ingestPipeline.getPendingNodeMessages() + (roundFabric == null ? 0 : roundFabric.getSentCount()
+                        - roundFabric.getDeliveredCount() - roundFabric.getDroppedCount() - roundFabric.getUndeliverableCount()));
+    }
+
+    // Time-to-full-infection: round 1 signal -> the last node receiving its first message
+    private void checkFullInfection() {
+        if (timeToFullInfectionMs >= 0 || gui == null || roundsStartedAtMs < 0) {
+            return;
+        }
+        long fullAt = gui.getFullInfectionAtMs();
+        if (fullAt >= 0) {
+            timeToFullInfectionMs = Math.max(0, fullAt - roundsStartedAtMs);
+            fullInfectionRound = currentRound;
+            System.out.println("[RoundPacing] full infection of " + gui.getInfectedNodeCount() + " nodes after "
+                    + timeToFullInfectionMs + " ms (round " + fullInfectionRound + ")");
         }
     }
 
+    // Prints the summary once the run converged or went quiescent; true if the round loop should stop
+    private boolean checkConvergence() {
+        if (convergenceReported) {
+            return false;
+        }
+        ConvergenceTracker.Outcome outcome = convergenceTracker.check();
+        if (outcome == ConvergenceTracker.Outcome.RUNNING) {
+            return false;
+        }
+        convergenceReported = true;
+        System.out.println("[Convergence] " + convergenceTracker.summary(roundsStartedAtMs,
+                NodeToNodeMessageCounter.getInstance().get()));
+        return startMessage.getStopOnConvergence();
+    }
+
     public SupervisorGui getGui() {return gui;}
 
+    public ConvergenceTracker getConvergenceTracker() {return convergenceTracker;}
+
+    // -1 until every node has received a message
+    public long getTimeToFullInfectionMs() {return timeToFullInfectionMs;}
+
+    public int getFullInfectionRound() {return fullInfectionRound;}
+
+    public RoundSkewTracker getRoundSkewTracker() {return roundSkewTracker;}
+
     public int getCurrentRound() {return currentRound; }
 
     public void sendToUi(String encodedMessage) {
@@ -573,6 +739,13 @@ public class Supervisor {
             nodeTcpCommunication.closeSocket();
             nodeTcpCommunication = null;
         }
+        if (fabric != null) {
+            System.out.println("[Supervisor] In-memory fabric: " + fabric.getDeliveredCount() + " delivered, "
+                    + fabric.getDroppedCount() + " dropped, " + fabric.getUndeliverableCount() + " undeliverable");
+            fabric.shutdown(); // also ends the fabric listener (closed mailbox)
+            fabric = null;
+            fabricNodeCommunication = null;
+        }
         // Clear discovered nodes
         if (addressToNodeId != null)
             addressToNodeId.clear();
@@ -590,8 +763,11 @@ public class Supervisor {
         System.out.println("[Supervisor] Dispatcher thread started");
         workerThread = Thread.startVirtualThread(worker::generalFsmLogic);
         System.out.println("[Supervisor] Worker thread started");
+        ingestPipeline.start();
     }
 
+    public IngestPipeline getIngestPipeline() {return ingestPipeline;}
+
     public void initialize(int supervisorPort) {
         this.supervisorPort = supervisorPort;
         Address supervisorAddress = new Address("127.0.0.1", supervisorPort);
@@ -620,7 +796,16 @@ public class Supervisor {
             }
         }
 
-        Supervisor supervisor = new Supervisor();
+        int ingestWorkers = Math.max(2, Runtime.getRuntime().availableProcessors());
+        if (args.length > 1) {
+            try {
+                ingestWorkers = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid ingest worker count: " + args[1] + ". Using " + ingestWorkers + ".");
+            }
+        }
+
+        Supervisor supervisor = new Supervisor(ingestWorkers);
         supervisor.initialize(supervisorPort);
 
         supervisor.startSystem();
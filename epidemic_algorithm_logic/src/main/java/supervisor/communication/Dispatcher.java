@@ -5,54 +5,36 @@ import epidemic_core.message.common.MessageDispatcher;
 
 import java.util.concurrent.BlockingQueue;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import epidemic_core.message.common.MessageMappers;
 
 /**	
- * Responsible for dispatching messages from the msgsQueue to the nodeQueue or uiQueue
+ * Responsible for dispatching UI messages from the tcpMsgsQueue to the uiQueue
+ * (node messages go through the IngestPipeline instead)
  */
 
 public class Dispatcher {
-    private BlockingQueue<String> udpMsgsQueue;  // Messages from UDP (nodes)
     private BlockingQueue<String> tcpMsgsQueue;  // Messages from TCP (UI)
-    private BlockingQueue<String> nodeQueue;
     private BlockingQueue<String> uiQueue;
-    private ObjectMapper objectMapper;
 
-    public Dispatcher(BlockingQueue<String> udpMsgsQueue, BlockingQueue<String> tcpMsgsQueue, 
-                      BlockingQueue<String> nodeQueue, BlockingQueue<String> uiQueue) {
-        this.udpMsgsQueue = udpMsgsQueue;
+    public Dispatcher(BlockingQueue<String> tcpMsgsQueue, BlockingQueue<String> uiQueue) {
         this.tcpMsgsQueue = tcpMsgsQueue;
-        this.nodeQueue = nodeQueue;
         this.uiQueue = uiQueue;
-        this.objectMapper = new ObjectMapper();
     }
 
     public void dispatchingLoop(){
         while(true) {
             try {
-                String consumedMsg = tcpMsgsQueue.poll();
+                String consumedMsg = tcpMsgsQueue.take(); // blocks until the UI sends something
 
-                if (consumedMsg == null) {
-                    consumedMsg = udpMsgsQueue.poll();
-                }
-
-                if (consumedMsg != null) {
-                    String direction = getDirection(consumedMsg);
-                    String messageType = getMessageType(consumedMsg);
+                String direction = getDirection(consumedMsg);
+                String messageType = getMessageType(consumedMsg);
 
-                    if(Direction.ui_to_supervisor.toString().equals(direction) && isUiMessageType(messageType)){
-                        System.out.println("[Dispatcher] Routing UI message to uiQueue: " + messageType);
-                        uiQueue.put(consumedMsg);
-                    }
-                    else if(Direction.node_to_supervisor.toString().equals(direction) && isNodeMessageType(messageType)){
-                        System.out.println("[Dispatcher] Routing node message to nodeQueue: " + messageType);
-                        nodeQueue.put(consumedMsg);
-                    }
-                    else {
-                        System.out.println("[Dispatcher] WARNING: Message not routed! direction=" + direction + ", messageType=" + messageType);
-                    }
-                } else {
-                    Thread.sleep(1);
+                if(Direction.ui_to_supervisor.toString().equals(direction) && isUiMessageType(messageType)){
+                    System.out.println("[Dispatcher] Routing UI message to uiQueue: " + messageType);
+                    uiQueue.put(consumedMsg);
+                }
+                else {
+                    System.out.println("[Dispatcher] WARNING: Message not routed! direction=" + direction + ", messageType=" + messageType);
                 }
 
             } catch (InterruptedException e) {
@@ -64,11 +46,10 @@ public class Dispatcher {
             }
         }
     }
-
     private String getDirection(String msg) {
         if (msg.trim().startsWith("{")) {
             try {
-                JsonNode jsonNode = objectMapper.readTree(msg);
+                JsonNode jsonNode = MessageMappers.treeReader().readTree(msg);
                 if (jsonNode.has("direction")) {
                     return jsonNode.get("direction").asText();
                 }
@@ -82,7 +63,7 @@ public class Dispatcher {
     private String getMessageType(String msg) {
         if (msg.trim().startsWith("{")) {
             try {
-                JsonNode jsonNode = objectMapper.readTree(msg);
+                JsonNode jsonNode = MessageMappers.treeReader().readTree(msg);
                 if (jsonNode.has("messageType")) {
                     return jsonNode.get("messageType").asText();
                 }
@@ -98,10 +79,11 @@ public class Dispatcher {
         return "start_system".equals(messageType) || "end_system".equals(messageType);
     }
 
-    private boolean isNodeMessageType(String messageType) {
+    public static boolean isNodeMessageType(String messageType) {
         if (messageType == null) return false;
         return "infection_update".equals(messageType) || 
                "remotion_update".equals(messageType) || 
+               "status_batch".equals(messageType) || 
                "hello".equals(messageType);
     }
 }
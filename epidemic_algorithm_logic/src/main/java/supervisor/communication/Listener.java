@@ -2,6 +2,7 @@ package supervisor.communication;
 
 import general.communication.Communication;
 import supervisor.Supervisor;
+import supervisor.communication.pipeline.MeteredQueue;
 
 import java.util.concurrent.BlockingQueue;
 
@@ -12,7 +13,7 @@ import java.util.concurrent.BlockingQueue;
  */
 
 public class Listener {
-    private BlockingQueue<String> udpMsgsQueue;  // Queue for UDP messages (from nodes)
+    private MeteredQueue<String> udpMsgsQueue;  // Queue for node messages (inbound stage of the ingest pipeline)
     private BlockingQueue<String> tcpMsgsQueue;  // Queue for TCP messages (from UI)
     private Communication nodeCommunication;  // UDP for nodes
     private Communication uiCommunication;     // TCP for UI
@@ -23,7 +24,7 @@ public class Listener {
 
     private Supervisor supervisor; // Keep reference to supervisor to get nodeTcpCommunication dynamically
     
-    public Listener(Supervisor supervisor, BlockingQueue<String> udpMsgsQueue, BlockingQueue<String> tcpMsgsQueue) {
+    public Listener(Supervisor supervisor, MeteredQueue<String> udpMsgsQueue, BlockingQueue<String> tcpMsgsQueue) {
         this.supervisor = supervisor;
         this.nodeCommunication = supervisor.getNodeCommunication();
         this.uiCommunication = supervisor.getUiCommunication();
@@ -42,6 +43,28 @@ public class Listener {
         System.out.println("[Listener] TCP listener thread started for UI");
     }
 
+    // Node messages arriving on an in-memory fabric endpoint (local mode, transport = "in_memory")
+    public void startNodeFabricListening(Communication fabricCommunication) {
+        Thread.startVirtualThread(() -> fabricListeningLoop(fabricCommunication));
+        System.out.println("[Listener] In-memory listener thread started for nodes");
+    }
+
+    private void fabricListeningLoop(Communication fabricCommunication) {
+        while (true) {
+            try {
+                String nodeMsg = fabricCommunication.receiveMessage();
+                if (nodeMsg == null) {
+                    break; // endpoint closed
+                }
+                udpMsgsQueue.put(nodeMsg);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        System.out.println("[Listener] In-memory listener thread stopped");
+    }
+
     private void udpListeningLoop() {
         System.out.println("[Listener] UDP listening loop started");
         while (true) {
@@ -109,10 +132,10 @@ public class Listener {
                 String nodeMsg = nodeTcpCommunication.receiveMessage();
                 if (nodeMsg != null) {
                     System.out.println("[Listener] Received message from Node (TCP)");
-                    udpMsgsQueue.put(nodeMsg); // Put in UDP queue - Dispatcher will route based on direction
+                    udpMsgsQueue.put(nodeMsg); // Put in node inbound queue - the ingest pipeline parses and routes it
+                } else {
+                    Thread.sleep(1); // only back off when there was nothing to read
                 }
-
-                Thread.sleep(1);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 System.out.println("[Listener] TCP listener thread interrupted (nodes)");
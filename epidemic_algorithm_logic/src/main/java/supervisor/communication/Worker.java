@@ -1,21 +1,23 @@
 package supervisor.communication;
 
 import epidemic_core.message.common.Direction;
-import epidemic_core.message.common.MessageDispatcher;
 import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
 import epidemic_core.message.node_to_supervisor.hello.HelloMsg;
 import epidemic_core.message.node_to_supervisor.infection_update.InfectionUpdateMsg;
 import epidemic_core.message.node_to_supervisor.remotion_update.RemotionUpdateMsg;
+import epidemic_core.message.node_to_supervisor.status_batch.StatusBatchMsg;
 import epidemic_core.message.supervisor_to_ui.SupervisorToUiMessageType;
 import epidemic_core.message.ui_to_supervisor.UiToSupervisorMessageType;
 import epidemic_core.message.ui_to_supervisor.end_system.EndMsg;
 import epidemic_core.message.ui_to_supervisor.start_system.StartMsg;
 import general.fsm.FiniteStateMachine;
 import supervisor.Supervisor;
+import supervisor.convergence.ConvergenceTracker;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import epidemic_core.message.common.MessageMappers;
 
 /**	
  * Processes messages from UI and node and delegates network control actions to the supervisor
@@ -23,155 +25,141 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class Worker {
     private FiniteStateMachine<CommsStates> generalFsm = new FiniteStateMachine<>(CommsStates.IDLE);
-    private BlockingQueue<String> nodeQueue;
     private BlockingQueue<String> uiQueue;
     private Supervisor supervisor;
+    private volatile Consumer<String> uiSink; // where node updates are forwarded for the external UI
 
-    public Worker(Supervisor supervisor, BlockingQueue<String> nodeQueue, BlockingQueue<String> uiQueue) {
+    public Worker(Supervisor supervisor, BlockingQueue<String> uiQueue) {
         this.supervisor = supervisor;
-        this.nodeQueue = nodeQueue;
         this.uiQueue = uiQueue;
+        this.uiSink = supervisor::sendToUi;
     }
 
+    public void setUiSink(Consumer<String> uiSink) { this.uiSink = uiSink; }
+
+    // Control lane: UI commands only. Node messages are applied by the IngestPipeline workers
     public void generalFsmLogic() {
         while(true) {
-            // Check for UI messages first (priority)
-            String uiMsg = uiQueue.poll();
-            
-            // Update time in state
+            String uiMsg;
+            try {
+                uiMsg = uiQueue.take(); // blocks until a command arrives
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
             generalFsm.updateTis();
-            CommsStates currState = generalFsm.getState();
-
-            // Transitions - UI messages have priority
-            if(uiMsg != null) {
-                generalFsm.setNewState(CommsStates.CONTROL);
-                generalFsm.setState();
-                manageUiMessages(uiMsg);
-                // Return to IDLE after processing UI message
-                generalFsm.setNewState(CommsStates.IDLE);
-                generalFsm.setState();
+            generalFsm.setNewState(CommsStates.CONTROL);
+            generalFsm.setState();
+            manageUiMessages(uiMsg);
+            // Return to IDLE after processing UI message
+            generalFsm.setNewState(CommsStates.IDLE);
+            generalFsm.setState();
+        }
+    }
+
+    // Applies an already parsed node -> supervisor message (safe to call from several threads
+    // as long as messages of the same node are applied by the same one)
+    public void applyNodeMessage(String messageType, JsonNode jsonNode) throws java.io.IOException {
+        // INFECTION_UPDATE
+        if (NodeToSupervisorMessageType.infection_update.toString().equals(messageType)) {
+            InfectionUpdateMsg nodeMsg = MessageMappers.readerFor(InfectionUpdateMsg.class).readValue(jsonNode);  // Decode InfectionUpdateMsg from node
+
+            applyInfection(nodeMsg.getUpdatedNodeId(), nodeMsg.getInfectingNodeId(), nodeMsg.getSubject(),
+                    nodeMsg.getSourceId(), nodeMsg.getTimestamp(), nodeMsg.getData());
+
+        // REMOVAL_UPDATE
+        } else if (NodeToSupervisorMessageType.remotion_update.toString().equals(messageType)) {
+            RemotionUpdateMsg nodeMsg = MessageMappers.readerFor(RemotionUpdateMsg.class).readValue(jsonNode); // Decode RemotionUpdateMsg from node
+
+            applyRemotion(nodeMsg.getUpdatedNodeId(), nodeMsg.getSubject(), nodeMsg.getSourceId(), nodeMsg.getTimestamp());
+
+        // STATUS_BATCH (every update a node buffered since its last flush, applied in one pass)
+        } else if (NodeToSupervisorMessageType.status_batch.toString().equals(messageType)) {
+            StatusBatchMsg batch = MessageMappers.readerFor(StatusBatchMsg.class).readValue(jsonNode);
+            int nodeId = batch.getUpdatedNodeId();
+
+            if (batch.getRoundLagMs() != null) {
+                supervisor.getRoundSkewTracker().record(batch.getRound(), batch.getRoundLagMs());
             }
-            else {
-                int processedCount = 0;
-                String nodeMsg;
-                while ((nodeMsg = nodeQueue.poll()) != null) {
-                    if (currState == CommsStates.IDLE) {
-                        generalFsm.setNewState(CommsStates.MONITOR);
-                        generalFsm.setState();
-                        currState = CommsStates.MONITOR;
-                    }
-                    
-                    manageNodeMessages(nodeMsg);
-                    processedCount++;
-                }
-                
-                if (processedCount > 0) {
-                    generalFsm.setNewState(CommsStates.IDLE);
-                    generalFsm.setState();
-                }
+            if (batch.getMissedRounds() != null) {
+                supervisor.getRoundSkewTracker().recordMissed(nodeId, batch.getMissedRounds());
             }
-            
-            Thread.onSpinWait();
+
+            for (StatusBatchMsg.InfectionEntry entry : batch.getInfections()) {
+                applyInfection(nodeId, entry.infectingNodeId(), entry.subject(), entry.sourceId(), entry.timestamp(), entry.data());
+            }
+            for (StatusBatchMsg.RemotionEntry entry : batch.getRemotions()) {
+                applyRemotion(nodeId, entry.subject(), entry.sourceId(), entry.timestamp());
+            }
+
+        // HELLO (for distributed deployment mode)
+        } else if (NodeToSupervisorMessageType.hello.toString().equals(messageType)) {
+            HelloMsg helloMsg = MessageMappers.readerFor(HelloMsg.class).readValue(jsonNode);
+            supervisor.handleHelloMsg(helloMsg);
         }
     }
 
-    public void manageNodeMessages(String msg){
-        if (msg == null) {
+    // Records an infection in the GUI and forwards it to the external UI
+    private void applyInfection(int updatedNodeId, int infectingNodeId, String subject, Integer sourceId, Long timestamp, String data)
+            throws java.io.IOException {
+        supervisor.ui.SupervisorGui gui = supervisor.getGui();
+        if (gui == null || timestamp == null) {
             return;
         }
-        
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(msg);
-            
-            String direction = jsonNode.has("direction") ? jsonNode.get("direction").asText() : null;
-            String messageType = jsonNode.has("messageType") ? jsonNode.get("messageType").asText() : null;
-            
-            // INFECTION_UPDATE
-            if (NodeToSupervisorMessageType.infection_update.toString().equals(messageType) &&
-                Direction.node_to_supervisor.toString().equals(direction)) {
-                InfectionUpdateMsg nodeMsg = InfectionUpdateMsg.decodeMessage(msg);  // Decode InfectionUpdateMsg from node
-
-                supervisor.ui.SupervisorGui gui = supervisor.getGui();
-                if (gui == null || nodeMsg.getTimestamp() == null) {
-                    return;
-                }
-                
-                gui.recordInfection(
-                    nodeMsg.getUpdatedNodeId(),
-                    nodeMsg.getInfectingNodeId(),
-                    nodeMsg.getSubject(),
-                    nodeMsg.getSourceId(),
-                    nodeMsg.getTimestamp().intValue(),
-                    nodeMsg.getData()
-                );
-
-                // Create InfectionUpdateMsg for external UI
-                epidemic_core.message.supervisor_to_ui.infection_update.InfectionUpdateMsg uiMsg = 
-                    new epidemic_core.message.supervisor_to_ui.infection_update.InfectionUpdateMsg(
-                        Direction.supervisor_to_ui.toString(),
-                        SupervisorToUiMessageType.infection_update.toString(),
-                        nodeMsg.getUpdatedNodeId(),
-                        nodeMsg.getInfectingNodeId(),
-                        nodeMsg.getSubject(),
-                        nodeMsg.getSourceId(),
-                        nodeMsg.getTimestamp(),
-                        nodeMsg.getData()
-                    );
-                
-                String encodedMsg = uiMsg.encode();
-                supervisor.sendToUi(encodedMsg);
-                
-            // REMOVAL_UPDATE
-            } else if (NodeToSupervisorMessageType.remotion_update.toString().equals(messageType) &&
-                       Direction.node_to_supervisor.toString().equals(direction)) {
-                
-                RemotionUpdateMsg nodeMsg = RemotionUpdateMsg.decodeMessage(msg); // Decode RemotionUpdateMsg from node
-
-                supervisor.ui.SupervisorGui gui = supervisor.getGui();
-                if (gui != null && nodeMsg.getTimestamp() != null) {
-                    gui.recordRemotion(
-                        nodeMsg.getUpdatedNodeId(),
-                        nodeMsg.getSubject(),
-                        nodeMsg.getSourceId(),
-                        nodeMsg.getTimestamp().intValue()
-                    );
-                }
-                
-                // Create RemotionUpdateMsg for external UI 
-                epidemic_core.message.supervisor_to_ui.remotion_update.RemotionUpdateMsg uiMsg = 
-                    new epidemic_core.message.supervisor_to_ui.remotion_update.RemotionUpdateMsg(
-                        Direction.supervisor_to_ui.toString(),
-                        SupervisorToUiMessageType.remotion_update.toString(),
-                        nodeMsg.getUpdatedNodeId(),
-                        nodeMsg.getSubject(),
-                        nodeMsg.getSourceId(),
-                        nodeMsg.getTimestamp()
-                    );
-                
-                String encodedMsg = uiMsg.encode();
-                supervisor.sendToUi(encodedMsg);
-            
-            // HELLO (for distributed deployment mode)
-            } else if (NodeToSupervisorMessageType.hello.toString().equals(messageType) &&
-                       Direction.node_to_supervisor.toString().equals(direction)) {
-                
-                HelloMsg helloMsg = HelloMsg.decodeMessage(msg);
-                supervisor.handleHelloMsg(helloMsg);
-            }
-            
-        } catch (Exception e) {
-            System.err.println("Error processing node message: " + e.getMessage());
-            e.printStackTrace();
+
+        gui.recordInfection(updatedNodeId, infectingNodeId, subject, sourceId, timestamp.intValue(), data);
+        ConvergenceTracker convergence = supervisor.getConvergenceTracker();
+        if (convergence != null && sourceId != null) {
+            convergence.onInfection(updatedNodeId, subject, sourceId, timestamp);
         }
+
+        // Create InfectionUpdateMsg for external UI
+        epidemic_core.message.supervisor_to_ui.infection_update.InfectionUpdateMsg uiMsg = 
+            new epidemic_core.message.supervisor_to_ui.infection_update.InfectionUpdateMsg(
+                Direction.supervisor_to_ui.toString(),
+                SupervisorToUiMessageType.infection_update.toString(),
+                updatedNodeId,
+                infectingNodeId,
+                subject,
+                sourceId,
+                timestamp,
+                data
+            );
+
+        uiSink.accept(uiMsg.encode());
+    }
+
+    // Records a remotion in the GUI and forwards it to the external UI
+    private void applyRemotion(int updatedNodeId, String subject, Integer sourceId, Long timestamp) throws java.io.IOException {
+        supervisor.ui.SupervisorGui gui = supervisor.getGui();
+        if (gui != null && timestamp != null) {
+            gui.recordRemotion(updatedNodeId, subject, sourceId, timestamp.intValue());
+        }
+        ConvergenceTracker convergence = supervisor.getConvergenceTracker();
+        if (convergence != null && sourceId != null && timestamp != null) {
+            convergence.onRemotion(updatedNodeId, subject, sourceId, timestamp);
+        }
+
+        // Create RemotionUpdateMsg for external UI 
+        epidemic_core.message.supervisor_to_ui.remotion_update.RemotionUpdateMsg uiMsg = 
+            new epidemic_core.message.supervisor_to_ui.remotion_update.RemotionUpdateMsg(
+                Direction.supervisor_to_ui.toString(),
+                SupervisorToUiMessageType.remotion_update.toString(),
+                updatedNodeId,
+                subject,
+                sourceId,
+                timestamp
+            );
+
+        uiSink.accept(uiMsg.encode());
     }
 
     public void manageUiMessages(String msg){
         if (msg == null) return;
         
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(msg);
+            JsonNode jsonNode = MessageMappers.treeReader().readTree(msg);
             
             String direction = jsonNode.has("direction") ? jsonNode.get("direction").asText() : null;
             String messageType = jsonNode.has("messageType") ? jsonNode.get("messageType").asText() : null;
@@ -180,14 +168,14 @@ public class Worker {
                 Direction.ui_to_supervisor.toString().equals(direction)) {
                 // START_SYSTEM
                 System.out.println("[Supervisor] Processing StartMsg - initializing network...");
-                StartMsg startMsg = StartMsg.decodeMessage(msg);
+                StartMsg startMsg = MessageMappers.readerFor(StartMsg.class).readValue(jsonNode);
                 supervisor.startNetwork(startMsg);
                 System.out.println("[Supervisor] Network initialized successfully!");
 
             } else if (UiToSupervisorMessageType.end_system.toString().equals(messageType) &&
                        Direction.ui_to_supervisor.toString().equals(direction)) {
                 // END_SYSTEM
-                EndMsg endMsg = EndMsg.decodeMessage(msg);
+                EndMsg endMsg = MessageMappers.readerFor(EndMsg.class).readValue(jsonNode);
                 supervisor.endNetwork(endMsg);
             }
             
@@ -0,0 +1,172 @@
+package supervisor.communication.pipeline;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageMappers;
+import supervisor.communication.Dispatcher;
+import supervisor.communication.Worker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Staged ingest of node -> supervisor messages:
+ *
+ *   node inbound (Listener) -> parse/route -> apply[0..P-1] -> UI fan-out
+ *
+ * - parse/route: one thread, parses each message once and routes it by updated_node_id
+ *   (hello messages always go to partition 0 so discovery stays serialized)
+ * - apply: P threads, each owning a partition of node ids, so updates from one node are applied in order
+ * - UI fan-out: one thread sending what the apply stage produced to the external UI
+ * Every handoff is a bounded blocking queue (MeteredQueue): a slow stage blocks the one before it,
+ * down to the Listener, and the time spent blocked is reported per stage.
+ */
+public class IngestPipeline {
+
+    private final MeteredQueue<String> inbound;
+    private final Worker worker;
+    private final Consumer<String> uiSender;
+
+    private final List<MeteredQueue<ParsedNodeMessage>> partitions = new ArrayList<>();
+    private final MeteredQueue<String> uiFanOut;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private record ParsedNodeMessage(String messageType, JsonNode json) {}
+
+    public IngestPipeline(MeteredQueue<String> inbound, Worker worker, Consumer<String> uiSender,
+                          int applyWorkers, int queueCapacity) {
+        this.inbound = inbound;
+        this.worker = worker;
+        this.uiSender = uiSender;
+
+        int workers = Math.max(1, applyWorkers);
+        for (int i = 0; i < workers; i++) {
+            partitions.add(new MeteredQueue<>("apply-" + i, queueCapacity));
+        }
+        this.uiFanOut = new MeteredQueue<>("ui-fanout", queueCapacity);
+    }
+
+    public void start() {
+        // The apply stage hands its UI messages to the fan-out queue instead of sending them itself
+        worker.setUiSink(this::enqueueForUi);
+
+        threads.add(Thread.startVirtualThread(this::parseAndRouteLoop));
+        for (MeteredQueue<ParsedNodeMessage> partition : partitions) {
+            threads.add(Thread.startVirtualThread(() -> applyLoop(partition)));
+        }
+        threads.add(Thread.startVirtualThread(this::uiFanOutLoop));
+
+        System.out.println("[IngestPipeline] Started with " + partitions.size() + " apply workers");
+    }
+
+    public void stop() {
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        threads.clear();
+    }
+
+    // ---------------------------------- Stages ----------------------------------
+    private void parseAndRouteLoop() {
+        while (true) {
+            String raw;
+            try {
+                raw = inbound.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            try {
+                JsonNode json = MessageMappers.treeReader().readTree(raw);
+                String direction = json.path("direction").asText(null);
+                String messageType = json.path("messageType").asText(null);
+
+                if (!Direction.node_to_supervisor.toString().equals(direction) || !Dispatcher.isNodeMessageType(messageType)) {
+                    System.out.println("[IngestPipeline] WARNING: Message not routed! direction=" + direction + ", messageType=" + messageType);
+                    continue;
+                }
+
+                partitions.get(partitionFor(json)).put(new ParsedNodeMessage(messageType, json));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                System.err.println("[IngestPipeline] Dropped unparseable node message: " + e.getMessage());
+            }
+        }
+    }
+
+    private int partitionFor(JsonNode json) {
+        JsonNode nodeId = json.get("updated_node_id");
+        if (nodeId == null || !nodeId.canConvertToInt()) {
+            return 0;
+        }
+        return Math.floorMod(nodeId.asInt(), partitions.size());
+    }
+
+    private void applyLoop(MeteredQueue<ParsedNodeMessage> partition) {
+        while (true) {
+            try {
+                ParsedNodeMessage msg = partition.take();
+                worker.applyNodeMessage(msg.messageType(), msg.json());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                System.err.println("[IngestPipeline] Error applying node message: " + e.getMessage());
+            }
+        }
+    }
+
+    private void enqueueForUi(String encodedMessage) {
+        try {
+            uiFanOut.put(encodedMessage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void uiFanOutLoop() {
+        while (true) {
+            try {
+                uiSender.accept(uiFanOut.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                System.err.println("[IngestPipeline] Error sending to UI: " + e.getMessage());
+            }
+        }
+    }
+
+    // ---------------------------------- Metrics ----------------------------------
+    public List<StageMetrics> getMetrics() {
+        List<StageMetrics> metrics = new ArrayList<>();
+        metrics.add(inbound.getMetrics());
+        for (MeteredQueue<ParsedNodeMessage> partition : partitions) {
+            metrics.add(partition.getMetrics());
+        }
+        metrics.add(uiFanOut.getMetrics());
+        return metrics;
+    }
+
+    // Node messages received but not yet applied (inbound + apply queues; the UI fan-out is not counted)
+    public long getPendingNodeMessages() {
+        long pending = inbound.getMetrics().getDepth();
+        for (MeteredQueue<ParsedNodeMessage> partition : partitions) {
+            pending += partition.getMetrics().getDepth();
+        }
+        return pending;
+    }
+
+    public String metricsSummary() {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (StageMetrics stage : getMetrics()) {
+            joiner.add(stage.toString());
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package supervisor.communication.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded blocking handoff between two stages; a full queue blocks the producer (backpressure).
+ */
+public class MeteredQueue<T> {
+
+    private final BlockingQueue<T> queue;
+    private final StageMetrics metrics;
+
+    public MeteredQueue(String name, int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.metrics = new StageMetrics(name, capacity, queue::size);
+    }
+
+    public void put(T item) throws InterruptedException {
+        if (!queue.offer(item)) {
+            long start = System.nanoTime();
+            queue.put(item);
+            metrics.recordBlocked(System.nanoTime() - start);
+        }
+        metrics.recordEnqueued(queue.size());
+    }
+
+    public T take() throws InterruptedException {
+        T item = queue.take();
+        metrics.recordProcessed();
+        return item;
+    }
+
+    public StageMetrics getMetrics() { return metrics; }
+}
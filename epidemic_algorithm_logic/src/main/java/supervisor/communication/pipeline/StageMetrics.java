@@ -0,0 +1,56 @@
+package supervisor.communication.pipeline;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Backpressure counters for one pipeline stage (its input queue).
+ * blockedMs = total time producers spent waiting on a full queue.
+ */
+public class StageMetrics {
+
+    private final String name;
+    private final int capacity; // -1 = unbounded
+    private final IntSupplier depth;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+
+    public StageMetrics(String name, int capacity, IntSupplier depth) {
+        this.name = name;
+        this.capacity = capacity;
+        this.depth = depth;
+    }
+
+    void recordEnqueued(int depthAfter) {
+        enqueued.increment();
+        highWaterMark.accumulateAndGet(depthAfter, Math::max);
+    }
+
+    void recordBlocked(long nanos) {
+        blockedNanos.add(nanos);
+    }
+
+    void recordProcessed() {
+        processed.increment();
+    }
+
+    public String getName() { return name; }
+    public int getCapacity() { return capacity; }
+    public int getDepth() { return depth.getAsInt(); }
+    public int getHighWaterMark() { return highWaterMark.get(); }
+    public long getEnqueued() { return enqueued.sum(); }
+    public long getProcessed() { return processed.sum(); }
+    public long getBlockedMs() { return blockedNanos.sum() / 1_000_000L; }
+
+    @Override
+    public String toString() {
+        return name + "[depth " + getDepth() + "/" + (capacity < 0 ? "inf" : capacity)
+                + ", max " + getHighWaterMark()
+                + ", in " + getEnqueued() + ", done " + getProcessed()
+                + ", blocked " + getBlockedMs() + " ms]";
+    }
+}
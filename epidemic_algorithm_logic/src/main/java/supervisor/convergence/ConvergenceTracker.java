@@ -0,0 +1,186 @@
+package supervisor.convergence;
+
+import epidemic_core.message.common.MessageTopic;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Incremental end-of-run detection, fed by every infection/remotion update the supervisor applies.
+ *
+ * Per topic (subject, source) it keeps which nodes hold the latest version seen so far and which of them
+ * are still spreading it (infected, not REMOVED), so every update is O(1):
+ * - CONVERGED: every node holds the latest version of every topic (and, for push gossip, nobody still spreads)
+ * - GOSSIP_ENDED: push gossip only, no node spreads any topic any more; nodes without it are the residue
+ *   (in pull/pushpull modes REMOVED nodes still answer pulls, so removal does not end the spreading there)
+ * - QUIESCENT: no update changed anything for quietRounds rounds (e.g. a disconnected topology or
+ *   pull gossip that died out)
+ * Updates come from the ingest apply threads, onRoundStart/check from the round thread.
+ */
+public class ConvergenceTracker {
+
+    public enum Outcome { RUNNING, CONVERGED, GOSSIP_ENDED, QUIESCENT }
+
+    private final int numberOfNodes;
+    private final boolean pushGossip;
+    private final int quietRounds;
+    private final Map<MessageTopic, TopicState> topics = new LinkedHashMap<>();
+
+    private int currentRound = 0;
+    private int lastChangeRound = 0;
+    private long lastChangeAtMs = -1;
+    private int fullyDeliveredTopics = 0;
+    private long activeSpreaders = 0; // sum over topics
+    private int convergedRound = -1; // round in which the last node got the latest version of the last topic
+    private long convergedAtMs = -1;
+    private Outcome outcome = Outcome.RUNNING;
+
+    private final class TopicState {
+        long latestTimestamp = Long.MIN_VALUE;
+        final BitSet holders = new BitSet(numberOfNodes); // hold latestTimestamp
+        final BitSet spreaders = new BitSet(numberOfNodes); // hold it and are not REMOVED
+        int holderCount = 0;
+        int spreaderCount = 0;
+    }
+
+    public ConvergenceTracker(int numberOfNodes, boolean pushGossip, int quietRounds) {
+        this.numberOfNodes = numberOfNodes;
+        this.pushGossip = pushGossip;
+        this.quietRounds = Math.max(1, quietRounds);
+    }
+
+    public synchronized void onInfection(int nodeId, String subject, int sourceId, long timestamp) {
+        if (nodeId < 0 || nodeId >= numberOfNodes) {
+            return;
+        }
+        TopicState topic = topics.computeIfAbsent(new MessageTopic(subject, sourceId), t -> new TopicState());
+        if (timestamp < topic.latestTimestamp) {
+            return; // stale version, the node still misses the latest one
+        }
+        if (timestamp > topic.latestTimestamp) {
+            // new version: nobody holds it yet apart from this node
+            if (topic.holderCount == numberOfNodes) {
+                fullyDeliveredTopics--;
+            }
+            activeSpreaders -= topic.spreaderCount;
+            topic.latestTimestamp = timestamp;
+            topic.holders.clear();
+            topic.spreaders.clear();
+            topic.holderCount = 0;
+            topic.spreaderCount = 0;
+            convergedRound = -1;
+            convergedAtMs = -1;
+        }
+        if (topic.holders.get(nodeId)) {
+            return;
+        }
+        topic.holders.set(nodeId);
+        topic.spreaders.set(nodeId);
+        topic.holderCount++;
+        topic.spreaderCount++;
+        activeSpreaders++;
+        lastChangeRound = currentRound;
+        lastChangeAtMs = System.currentTimeMillis();
+        if (topic.holderCount == numberOfNodes) {
+            fullyDeliveredTopics++;
+            if (fullyDeliveredTopics == topics.size()) {
+                convergedRound = currentRound;
+                convergedAtMs = System.currentTimeMillis();
+            }
+        }
+    }
+
+    public synchronized void onRemotion(int nodeId, String subject, int sourceId, long timestamp) {
+        TopicState topic = topics.get(new MessageTopic(subject, sourceId));
+        if (topic == null || nodeId < 0 || nodeId >= numberOfNodes || timestamp < topic.latestTimestamp
+                || !topic.spreaders.get(nodeId)) {
+            return;
+        }
+        topic.spreaders.clear(nodeId);
+        topic.spreaderCount--;
+        activeSpreaders--;
+        lastChangeRound = currentRound;
+        lastChangeAtMs = System.currentTimeMillis();
+    }
+
+    public synchronized void onRoundStart(int round) {
+        currentRound = round;
+    }
+
+    // Evaluated by the round thread once per round; the outcome sticks once the run is over
+    public synchronized Outcome check() {
+        if (outcome != Outcome.RUNNING || topics.isEmpty()) {
+            return outcome;
+        }
+        boolean allDelivered = fullyDeliveredTopics == topics.size();
+        if (allDelivered && (!pushGossip || activeSpreaders == 0)) {
+            outcome = Outcome.CONVERGED;
+        } else if (pushGossip && activeSpreaders == 0) {
+            outcome = Outcome.GOSSIP_ENDED;
+        } else if (currentRound - lastChangeRound >= quietRounds) {
+            outcome = Outcome.QUIESCENT;
+        }
+        return outcome;
+    }
+
+    // Fraction of (node, topic) pairs missing the latest version, in [0, 1]
+    public synchronized double getResidue() {
+        if (topics.isEmpty() || numberOfNodes == 0) {
+            return 0;
+        }
+        long missing = 0;
+        for (TopicState topic : topics.values()) {
+            missing += numberOfNodes - topic.holderCount;
+        }
+        return (double) missing / ((long) numberOfNodes * topics.size());
+    }
+
+    public synchronized int getHolderCount(MessageTopic topic) {
+        TopicState state = topics.get(topic);
+        return state == null ? 0 : state.holderCount;
+    }
+
+    public synchronized int getTopicCount() { return topics.size(); }
+    public synchronized int getFullyDeliveredTopics() { return fullyDeliveredTopics; }
+    public synchronized long getActiveSpreaders() { return activeSpreaders; }
+    public synchronized int getConvergedRound() { return convergedRound; }
+    public synchronized long getConvergedAtMs() { return convergedAtMs; }
+    public synchronized int getLastChangeRound() { return lastChangeRound; }
+    public synchronized long getLastChangeAtMs() { return lastChangeAtMs; }
+    public synchronized Outcome getOutcome() { return outcome; }
+
+    // startMs: wall clock of the round 1 signal; messages: node-to-node messages sent during the run
+    public synchronized String summary(long startMs, long messages) {
+        StringBuilder sb = new StringBuilder(outcome.toString());
+        sb.append(": last change in round ").append(lastChangeRound);
+        if (lastChangeAtMs >= 0 && startMs >= 0) {
+            sb.append(" after ").append(Math.max(0, lastChangeAtMs - startMs)).append(" ms");
+        }
+        if (convergedRound >= 0) {
+            sb.append(", everyone had every topic in round ").append(convergedRound);
+            if (startMs >= 0) {
+                sb.append(" after ").append(Math.max(0, convergedAtMs - startMs)).append(" ms");
+            }
+        }
+        sb.append(", ").append(messages).append(" node-to-node messages, residue ")
+                .append(String.format("%.2f", getResidue() * 100)).append("% [").append(topicSummary()).append(']');
+        return sb.toString();
+    }
+
+    public synchronized String topicSummary() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<MessageTopic, TopicState> entry : topics.entrySet()) {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            TopicState state = entry.getValue();
+            sb.append(entry.getKey().subject()).append('@').append(entry.getKey().sourceId())
+                    .append(' ').append(state.holderCount).append('/').append(numberOfNodes);
+            if (pushGossip) {
+                sb.append(" (").append(state.spreaderCount).append(" spreading)");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -2,13 +2,16 @@ package supervisor.network_emulation;
 
 import epidemic_core.node.DistributedNodeStub;
 import epidemic_core.message.common.MessageTopic;
+import general.communication.Transport;
+import general.communication.implementation.in_memory.InMemoryFabric;
 import general.communication.utils.Address;
 import supervisor.network_emulation.neighbors_and_subject.NetworkStructureManager;
 import supervisor.network_emulation.topology_creation.Topology;
-import supervisor.network_emulation.topology_creation.TopologyType;
 import supervisor.network_emulation.utils.NodeIdToAddressTable;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 
 public class NetworkEmulator {
@@ -18,10 +21,14 @@ public class NetworkEmulator {
     private Integer N;
     private Integer sourceNodes;
     private String topologyType;
+    private String topologyFile; // edge list replacing the generated topology (null = generate)
+    private String topologyExportFile;
     private String protocolType;
     private String modeType;
     private NetworkStructureManager networkStructureManager;
     private NodeIdToAddressTable nodeIdToAddressTable;
+    private final Transport transport;
+    private final InMemoryFabric fabric; // only for Transport.IN_MEMORY
     
     private Map<Integer, DistributedNodeStub> nodeStubs; // Map<nodeId, DistributedNodeStub> - nodes start in WAVING mode
     private Map<Integer, Thread> nodeThreads; // Map<nodeId, Thread>
@@ -33,14 +40,34 @@ public class NetworkEmulator {
                            String protocolType,
                            String modeType,
                            Address supervisorAddr) {
+        this(N, sourceNodes, topologyType, protocolType, modeType, supervisorAddr, Transport.UDP, null);
+    }
+
+    // Constructor choosing the node transport (fabric required for IN_MEMORY, ignored otherwise)
+    public NetworkEmulator(Integer N,
+                           Integer sourceNodes,
+                           String topologyType,
+                           String protocolType,
+                           String modeType,
+                           Address supervisorAddr,
+                           Transport transport,
+                           InMemoryFabric fabric) {
         this.N = N;
         this.sourceNodes = sourceNodes;
         this.topologyType = topologyType;
         this.protocolType = protocolType;
         this.modeType = modeType;
         this.supervisorAddr = supervisorAddr;
-        this.nodeStubs = new HashMap<>();
+        this.nodeStubs = new ConcurrentHashMap<>();
         this.nodeThreads = new HashMap<>();
+        this.transport = transport;
+        this.fabric = fabric;
+    }
+
+    // Optional edge-list files: load the topology from one and/or export the topology used to the other
+    public void setTopologyFiles(String topologyFile, String topologyExportFile) {
+        this.topologyFile = topologyFile;
+        this.topologyExportFile = topologyExportFile;
     }
 
     // Initialize the network
@@ -49,9 +76,12 @@ public class NetworkEmulator {
         this.nodeIdToAddressTable = new NodeIdToAddressTable(N); // ip + port
 
         // ========== Create Topology ==========
-        TopologyType type = TopologyType.fromString(topologyType);
         Topology topology = new Topology();
-        Map<Integer, List<Integer>> adjMap = topology.createTopology(type, N);
+        Map<Integer, List<Integer>> adjMap = topology.createTopology(topologyType, topologyFile, N, new Random());
+        if (topologyExportFile != null) {
+            topology.exportGraph(Path.of(topologyExportFile));
+            System.out.println("Topology exported to " + topologyExportFile);
+        }
 
         // ========== Network Structure Management ==========
         networkStructureManager = new NetworkStructureManager(adjMap, sourceNodes, N);
@@ -65,9 +95,12 @@ public class NetworkEmulator {
 
             Thread.startVirtualThread(() -> {
                 try {
-                    Thread.sleep(nodeId * 10);
+                    // Staggered socket binding; the in-memory fabric has no ports to contend for
+                    if (transport != Transport.IN_MEMORY) {
+                        Thread.sleep(nodeId * 10);
+                    }
 
-                    DistributedNodeStub stub = new DistributedNodeStub(nodeAddress.getIp(), nodeAddress.getPort());
+                    DistributedNodeStub stub = new DistributedNodeStub(nodeAddress.getIp(), nodeAddress.getPort(), transport, fabric);
                     nodeStubs.put(nodeId, stub);
                     
                     creationLatch.countDown();
@@ -125,6 +158,8 @@ public class NetworkEmulator {
 
     public Address getSupervisorAddr() { return supervisorAddr;}
 
+    public InMemoryFabric getFabric() { return fabric; }
+
     public Map<Integer, Address> getNodeAddresses() {return nodeIdToAddressTable != null ? nodeIdToAddressTable.getAll() : new HashMap<>();}
 
     public supervisor.network_emulation.neighbors_and_subject.StructuralInfosMatrix getStructuralInfosMatrix() {
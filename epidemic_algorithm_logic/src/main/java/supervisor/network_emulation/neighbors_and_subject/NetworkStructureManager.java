@@ -13,17 +13,21 @@ public class NetworkStructureManager {
     private final Set<Integer> sourceNodesId;
     
     public NetworkStructureManager(Map<Integer, List<Integer>> adjMap, Integer numSourceNodes, Integer totalNodes) {
+        this(adjMap, numSourceNodes, totalNodes, new Random());
+    }
+
+    // Caller-provided Random makes source selection and subject assignment reproducible
+    public NetworkStructureManager(Map<Integer, List<Integer>> adjMap, Integer numSourceNodes, Integer totalNodes, Random random) {
         this.adjMap = new HashMap<>(adjMap);
         this.nodeIdToSubject = new HashMap<>();
-        this.sourceNodesId = new HashSet<>();
+        this.sourceNodesId = new LinkedHashSet<>();
         
-        selectSourceNodes(numSourceNodes, totalNodes);
-        assignSubjectsToSourceNodes();
+        selectSourceNodes(numSourceNodes, totalNodes, random);
+        assignSubjectsToSourceNodes(random);
     }
     
     // Selects source nodes ids randomly
-    private void selectSourceNodes(Integer numSourceNodes, Integer totalNodes) {
-        Random random = new Random();
+    private void selectSourceNodes(Integer numSourceNodes, Integer totalNodes, Random random) {
         
         while (sourceNodesId.size() < numSourceNodes) {
             int nodeId = random.nextInt(totalNodes);
@@ -32,9 +36,8 @@ public class NetworkStructureManager {
     }
     
     // Assigns subjects randomly to source nodes.
-    private void assignSubjectsToSourceNodes() {
+    private void assignSubjectsToSourceNodes(Random random) {
         Subjects[] allSubjects = Subjects.values();
-        Random random = new Random();
         
         for (Integer nodeId : sourceNodesId) {
             Subjects subject = allSubjects[random.nextInt(allSubjects.length)];
@@ -0,0 +1,69 @@
+package supervisor.network_emulation.topology_creation;
+
+import java.util.Arrays;
+
+/**
+ * Collects undirected edges as two int arrays and turns them into a SparseGraph with a counting sort
+ * (O(N + E)); each node's neighbour row comes out sorted.
+ */
+class EdgeListBuilder {
+
+    private final int nodeCount;
+    private int[] from;
+    private int[] to;
+    private int edgeCount = 0;
+
+    EdgeListBuilder(int nodeCount, int expectedEdges) {
+        this.nodeCount = nodeCount;
+        this.from = new int[Math.max(1, expectedEdges)];
+        this.to = new int[Math.max(1, expectedEdges)];
+    }
+
+    void add(int a, int b) {
+        if (edgeCount == from.length) {
+            from = Arrays.copyOf(from, edgeCount * 2);
+            to = Arrays.copyOf(to, edgeCount * 2);
+        }
+        from[edgeCount] = a;
+        to[edgeCount] = b;
+        edgeCount++;
+    }
+
+    // Replaces edge e (used by generators that rewire edges in place)
+    void set(int e, int a, int b) {
+        from[e] = a;
+        to[e] = b;
+    }
+
+    int from(int e) { return from[e]; }
+
+    int to(int e) { return to[e]; }
+
+    int size() { return edgeCount; }
+
+    SparseGraph build() {
+        return build(nodeCount);
+    }
+
+    // For sources that only learn the node count while adding edges (every id must be < nodeCount)
+    SparseGraph build(int nodeCount) {
+        int[] offsets = new int[nodeCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+            offsets[to[e] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] fill = Arrays.copyOf(offsets, nodeCount);
+        int[] targets = new int[2 * edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            targets[fill[from[e]]++] = to[e];
+            targets[fill[to[e]]++] = from[e];
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            Arrays.sort(targets, offsets[i], offsets[i + 1]);
+        }
+        return new SparseGraph(nodeCount, offsets, targets);
+    }
+}
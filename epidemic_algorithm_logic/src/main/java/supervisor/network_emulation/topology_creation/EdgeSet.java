@@ -0,0 +1,95 @@
+package supervisor.network_emulation.topology_creation;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of undirected edges (packed as one long per edge), used by the generators to
+ * reject duplicate edges in O(1) without boxing. Supports removal (tombstones) for edge switching.
+ */
+class EdgeSet {
+
+    private static final long EMPTY = -1L;
+    private static final long REMOVED = -2L;
+
+    private long[] table;
+    private int used = 0; // live entries + tombstones
+
+    EdgeSet(int expectedEdges) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedEdges * 2 - 1)) << 1;
+        table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+    }
+
+    static long key(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    boolean contains(int a, int b) {
+        long key = key(a, b);
+        int mask = table.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long entry = table[slot];
+            if (entry == EMPTY) {
+                return false;
+            }
+            if (entry == key) {
+                return true;
+            }
+        }
+    }
+
+    // Returns false if the edge was already present
+    boolean add(int a, int b) {
+        if (contains(a, b)) {
+            return false;
+        }
+        if ((used + 1) * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        long key = key(a, b);
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] != EMPTY && table[slot] != REMOVED) {
+            slot = (slot + 1) & mask;
+        }
+        if (table[slot] == EMPTY) {
+            used++;
+        }
+        table[slot] = key;
+        return true;
+    }
+
+    void remove(int a, int b) {
+        long key = key(a, b);
+        int mask = table.length - 1;
+        for (int slot = hash(key) & mask; table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (table[slot] == key) {
+                table[slot] = REMOVED;
+                return;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        used = 0;
+        int mask = capacity - 1;
+        for (long key : old) {
+            if (key >= 0) {
+                int slot = hash(key) & mask;
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+                used++;
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,142 @@
+package supervisor.network_emulation.topology_creation;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Undirected graph over node ids 0..N-1 stored as CSR (compressed sparse row):
+ * the neighbours of node i are targets[offsets[i] .. offsets[i+1]-1].
+ * A complete graph (full mesh) is implicit: nothing is stored, neighbour k of i is k (k < i) or k + 1.
+ *
+ * asAdjacencyMap() exposes the graph as the Map<Integer, List<Integer>> the rest of the supervisor
+ * consumes, as read-only views (no per-node lists are materialized).
+ */
+public class SparseGraph {
+
+    private final int nodeCount;
+    private final int[] offsets; // null for the implicit complete graph
+    private final int[] targets;
+
+    public SparseGraph(int nodeCount, int[] offsets, int[] targets) {
+        if (offsets.length != nodeCount + 1 || offsets[nodeCount] != targets.length) {
+            throw new IllegalArgumentException("Invalid CSR arrays for " + nodeCount + " nodes");
+        }
+        this.nodeCount = nodeCount;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    private SparseGraph(int nodeCount) {
+        this.nodeCount = nodeCount;
+        this.offsets = null;
+        this.targets = null;
+    }
+
+    public static SparseGraph complete(int nodeCount) {
+        return new SparseGraph(nodeCount);
+    }
+
+    public int nodeCount() { return nodeCount; }
+
+    public boolean isComplete() { return offsets == null; }
+
+    public int degree(int node) {
+        return offsets == null ? nodeCount - 1 : offsets[node + 1] - offsets[node];
+    }
+
+    // k-th neighbour of node (0 <= k < degree(node))
+    public int neighbor(int node, int k) {
+        if (offsets == null) {
+            return k < node ? k : k + 1;
+        }
+        return targets[offsets[node] + k];
+    }
+
+    // Sum of degrees (each undirected edge counts twice)
+    public long adjacencyCount() {
+        return offsets == null ? (long) nodeCount * (nodeCount - 1) : targets.length;
+    }
+
+    public int[] neighbors(int node) {
+        int[] result = new int[degree(node)];
+        for (int k = 0; k < result.length; k++) {
+            result[k] = neighbor(node, k);
+        }
+        return result;
+    }
+
+    public List<Integer> neighborList(int node) {
+        return new NeighborList(node);
+    }
+
+    public Map<Integer, List<Integer>> asAdjacencyMap() {
+        return new AdjacencyMap();
+    }
+
+    private final class NeighborList extends AbstractList<Integer> implements RandomAccess {
+        private final int node;
+
+        NeighborList(int node) { this.node = node; }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= degree(node)) {
+                throw new IndexOutOfBoundsException("Index " + index + " for degree " + degree(node));
+            }
+            return neighbor(node, index);
+        }
+
+        @Override
+        public int size() { return degree(node); }
+    }
+
+    private final class AdjacencyMap extends AbstractMap<Integer, List<Integer>> {
+
+        @Override
+        public int size() { return nodeCount; }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer node && node >= 0 && node < nodeCount;
+        }
+
+        @Override
+        public List<Integer> get(Object key) {
+            return containsKey(key) ? new NeighborList((Integer) key) : null;
+        }
+
+        @Override
+        public Set<Entry<Integer, List<Integer>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() { return nodeCount; }
+
+                @Override
+                public Iterator<Entry<Integer, List<Integer>>> iterator() {
+                    return new Iterator<>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() { return next < nodeCount; }
+
+                        @Override
+                        public Entry<Integer, List<Integer>> next() {
+                            if (next >= nodeCount) {
+                                throw new NoSuchElementException();
+                            }
+                            int node = next++;
+                            return new SimpleImmutableEntry<>(node, new NeighborList(node));
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -1,99 +1,402 @@
 package supervisor.network_emulation.topology_creation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.HashMap;
 
+/**
+ * Builds the node topology as a SparseGraph (CSR int arrays, full mesh implicit).
+ * createTopology keeps returning the adjacency map the supervisor consumes, as a view over the graph.
+ */
 public class Topology {
 
     private Map<Integer, List<Integer>> adjMap;
+    private SparseGraph graph;
+    private Random random = new Random();
+    private int partialMeshMaxDegree = 0; // 0 = default for N (see defaultPartialMeshMaxDegree)
+    private int smallWorldNeighbours = 6; // ring lattice degree k (even)
+    private double smallWorldRewireProbability = 0.1;
+    private int scaleFreeEdgesPerNode = 3; // m: edges each new node brings
+    private int regularDegree = 4;
 
     // private Integer n; // number of nodes
     public Map<Integer, List<Integer>> createTopology(TopologyType type, Integer N) // type of topology chosen and
                                                                                     // number of nodes
     {
-        return switch (type) {
+        createGraph(type, N);
+        adjMap = graph.asAdjacencyMap();
+        return adjMap;
+    }
+
+    // Same, with a caller-provided Random (reproducible topologies)
+    public Map<Integer, List<Integer>> createTopology(TopologyType type, Integer N, Random random) {
+        this.random = random;
+        return createTopology(type, N);
+    }
+
+    // Generated from the type name, or loaded from an edge-list file when topologyFile is set
+    public Map<Integer, List<Integer>> createTopology(String topologyType, String topologyFile, int N, Random random) {
+        this.random = random;
+        if (topologyFile != null && !topologyFile.isBlank()) {
+            loadGraph(Path.of(topologyFile), N);
+        } else {
+            createGraph(TopologyType.fromString(topologyType), N);
+        }
+        adjMap = graph.asAdjacencyMap();
+        return adjMap;
+    }
+
+    // Edge-list file (see TopologyFiles) with node ids 0..N-1
+    public SparseGraph loadGraph(Path path, int N) {
+        SparseGraph loaded;
+        try {
+            loaded = TopologyFiles.read(path, N);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read topology file " + path, e);
+        }
+        if (loaded.nodeCount() != N) {
+            throw new IllegalArgumentException("Topology file " + path + " has " + loaded.nodeCount()
+                    + " nodes, expected " + N);
+        }
+        graph = loaded;
+        return graph;
+    }
+
+    // Writes the current graph so the run can be reproduced without regenerating it
+    public void exportGraph(Path path) {
+        try {
+            TopologyFiles.write(graph, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write topology file " + path, e);
+        }
+    }
+
+    public SparseGraph createGraph(TopologyType type, int N) {
+        graph = switch (type) {
             case FULL_MESH -> createMesh(N);
             case PARTIAL_MESH -> createPartialMesh(N);
             case RING -> createRing(N);
             case STAR -> createStar(N);
+            case SMALL_WORLD -> createSmallWorld(N);
+            case SCALE_FREE -> createScaleFree(N);
+            case RANDOM_REGULAR -> createRandomRegular(N);
+            case TORUS -> createTorus(N);
         };
+        return graph;
     }
 
-    // ========== Mesh Topology ==========
-    private Map<Integer, List<Integer>> createMesh(Integer N) {
-        adjMap = new HashMap<>();
+    public SparseGraph createGraph(TopologyType type, int N, Random random) {
+        this.random = random;
+        return createGraph(type, N);
+    }
 
-        for (int i = 0; i < N; i++) { // add neighbours
-            List<Integer> neighbours = new ArrayList<>();
+    // Upper bound on a node's degree in the partial mesh (0 restores the default)
+    public void setPartialMeshMaxDegree(int maxDegree) {
+        this.partialMeshMaxDegree = maxDegree;
+    }
 
-            for (int j = 0; j < N; j++) {
-                if (j != i)
-                    neighbours.add(j);
-            }
+    // Watts-Strogatz parameters: lattice degree k (rounded down to even) and rewiring probability beta
+    public void setSmallWorld(int neighbours, double rewireProbability) {
+        this.smallWorldNeighbours = neighbours;
+        this.smallWorldRewireProbability = rewireProbability;
+    }
 
-            adjMap.put(i, neighbours);
-        }
-        return adjMap;
+    // Barabasi-Albert parameter m
+    public void setScaleFreeEdgesPerNode(int edgesPerNode) {
+        this.scaleFreeEdgesPerNode = edgesPerNode;
+    }
+
+    // Degree d of the random regular graph (lowered to N - 1, and by one more if N * d is odd)
+    public void setRegularDegree(int degree) {
+        this.regularDegree = degree;
+    }
+
+    // ~2 log2(N), at least 4: sparse enough for large N, still well connected
+    public static int defaultPartialMeshMaxDegree(int N) {
+        int log2 = 32 - Integer.numberOfLeadingZeros(Math.max(1, N - 1));
+        return Math.max(1, Math.min(N - 1, Math.max(4, 2 * log2)));
+    }
+
+    // ========== Mesh Topology ==========
+    private SparseGraph createMesh(int N) {
+        return SparseGraph.complete(N); // implicit: every node is a neighbour of every other
     }
 
     // ========== Partial Mesh Topology ==========
-    private Map<Integer, List<Integer>> createPartialMesh(int N) {
-        adjMap = new HashMap<>();
-        Random random = new Random();
+    // Degree-bounded random graph in O(E): a random spanning tree (so the mesh is connected), then every
+    // node draws a target degree in [1, maxDegree] and is linked to uniformly random nodes that still have room
+    private SparseGraph createPartialMesh(int N) {
+        if (N <= 1) {
+            return new SparseGraph(N, new int[N + 1], new int[0]);
+        }
+        int maxDegree = partialMeshMaxDegree > 0 ? Math.min(partialMeshMaxDegree, N - 1) : defaultPartialMeshMaxDegree(N);
+        int[] degree = new int[N];
+        int[] slots = new int[N * maxDegree]; // neighbours of i in slots[i*maxDegree .. +degree[i]]
 
+        // Random spanning tree: each node (in random order) attaches to an earlier one with room left
+        int[] order = new int[N];
         for (int i = 0; i < N; i++) {
-            adjMap.put(i, new ArrayList<>());
+            order[i] = i;
+        }
+        for (int i = N - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        for (int k = 1; k < N; k++) {
+            int node = order[k];
+            boolean attached = false;
+            for (int attempt = 0; attempt < 32 && !attached; attempt++) {
+                attached = addEdge(order[random.nextInt(k)], node, degree, slots, maxDegree);
+            }
+            for (int p = random.nextInt(k), scanned = 0; !attached && scanned < k; p = (p + 1) % k, scanned++) {
+                attached = addEdge(order[p], node, degree, slots, maxDegree);
+            }
         }
 
+        // Fill up to each node's target degree (a bounded number of attempts keeps this O(E))
         for (int i = 0; i < N; i++) {
-            int n_neighbors = random.nextInt(N - 1); // number of neighbours for each node
+            int targetDegree = 1 + random.nextInt(maxDegree);
+            for (int attempt = 0; degree[i] < targetDegree && attempt < 4 * maxDegree; attempt++) {
+                addEdge(i, random.nextInt(N), degree, slots, maxDegree);
+            }
+        }
 
-            while (adjMap.get(i).size() < n_neighbors) {
-                int neighbour = random.nextInt(N - 1);
-                if (neighbour != i && !adjMap.get(i).contains(neighbour)) {
-                    adjMap.get(i).add(neighbour);
-                    adjMap.get(neighbour).add(i); // add neighbour to both nodes
-                }
+        int[] offsets = new int[N + 1];
+        for (int i = 0; i < N; i++) {
+            offsets[i + 1] = offsets[i] + degree[i];
+        }
+        int[] targets = new int[offsets[N]];
+        for (int i = 0; i < N; i++) {
+            System.arraycopy(slots, i * maxDegree, targets, offsets[i], degree[i]);
+            Arrays.sort(targets, offsets[i], offsets[i + 1]);
+        }
+        return new SparseGraph(N, offsets, targets);
+    }
+
+    private static boolean addEdge(int a, int b, int[] degree, int[] slots, int maxDegree) {
+        if (a == b || degree[a] >= maxDegree || degree[b] >= maxDegree) {
+            return false;
+        }
+        int base = a * maxDegree;
+        for (int k = 0; k < degree[a]; k++) { // bounded by maxDegree
+            if (slots[base + k] == b) {
+                return false;
             }
         }
-        return adjMap;
+        slots[base + degree[a]++] = b;
+        slots[b * maxDegree + degree[b]++] = a; // add neighbour to both nodes
+        return true;
     }
 
     // ========== Ring Topology ==========
-    private Map<Integer, List<Integer>> createRing(Integer N) {
-        adjMap = new HashMap<>();
+    private SparseGraph createRing(int N) {
+        int[] offsets = new int[N + 1];
+        int[] targets = new int[2 * N];
 
         for (int i = 0; i < N; i++) {
-            List<Integer> neighbours = new ArrayList<>();
+            offsets[i + 1] = offsets[i] + 2;
+            targets[2 * i] = (i - 1 + N) % N; // left neighbour
+            targets[2 * i + 1] = (i + 1) % N; // right neighbour
+        }
+        return new SparseGraph(N, offsets, targets);
+    }
 
-            int left = (i - 1 + N) % N; // left neighbour
-            int right = (i + 1) % N; // right neighbour
+    // ========== Star Topology ==========
+    private SparseGraph createStar(int N) {
+        if (N <= 1) {
+            return new SparseGraph(N, new int[N + 1], new int[0]);
+        }
+        int[] offsets = new int[N + 1];
+        int[] targets = new int[2 * (N - 1)];
 
-            neighbours.add(left);
-            neighbours.add(right);
+        // node 0 is the central node
+        offsets[1] = N - 1;
+        for (int j = 1; j < N; j++) {
+            targets[j - 1] = j;
+        }
+        for (int i = 1; i < N; i++) {
+            offsets[i + 1] = offsets[i] + 1;
+            targets[offsets[i]] = 0;
+        }
+        return new SparseGraph(N, offsets, targets);
+    }
 
-            adjMap.put(i, neighbours);
+    // ========== Small-World Topology (Watts-Strogatz) ==========
+    // Ring lattice where each node links to its k/2 nearest nodes on each side; every lattice edge then has
+    // its far end rewired to a uniformly random node with probability beta (no self loops or duplicates)
+    private SparseGraph createSmallWorld(int N) {
+        int k = Math.max(2, smallWorldNeighbours & ~1);
+        if (N <= k + 1) {
+            return createMesh(N);
         }
-        return adjMap;
+        int half = k / 2;
+        EdgeListBuilder edges = new EdgeListBuilder(N, N * half);
+        EdgeSet present = new EdgeSet(N * half);
+        for (int i = 0; i < N; i++) {
+            for (int j = 1; j <= half; j++) {
+                edges.add(i, (i + j) % N);
+                present.add(i, (i + j) % N);
+            }
+        }
+        for (int e = 0; e < edges.size(); e++) {
+            if (random.nextDouble() >= smallWorldRewireProbability) {
+                continue;
+            }
+            int a = edges.from(e);
+            for (int attempt = 0; attempt < 16; attempt++) { // bounded: a node can't be linked to everyone
+                int target = random.nextInt(N);
+                if (target != a && !present.contains(a, target)) {
+                    present.remove(a, edges.to(e));
+                    present.add(a, target);
+                    edges.set(e, a, target);
+                    break;
+                }
+            }
+        }
+        return edges.build();
     }
 
-    // ========== Star Topology ==========
-    private Map<Integer, List<Integer>> createStar(Integer N) {
-        adjMap = new HashMap<>();
+    // ========== Scale-Free Topology (Barabasi-Albert) ==========
+    // Preferential attachment: starts from a complete graph on m + 1 nodes, then each new node links to m
+    // distinct nodes drawn from the list of edge endpoints (so with probability proportional to degree)
+    private SparseGraph createScaleFree(int N) {
+        int m = Math.max(1, scaleFreeEdgesPerNode);
+        if (N <= m + 1) {
+            return createMesh(N);
+        }
+        int seedNodes = m + 1;
+        int edgeCount = seedNodes * m / 2 + (N - seedNodes) * m;
+        EdgeListBuilder edges = new EdgeListBuilder(N, edgeCount);
+        int[] endpoints = new int[2 * edgeCount];
+        int endpointCount = 0;
+        for (int a = 0; a < seedNodes; a++) {
+            for (int b = a + 1; b < seedNodes; b++) {
+                edges.add(a, b);
+                endpoints[endpointCount++] = a;
+                endpoints[endpointCount++] = b;
+            }
+        }
+        int[] chosen = new int[m];
+        for (int node = seedNodes; node < N; node++) {
+            int available = endpointCount; // only attach to nodes that existed before this one
+            for (int c = 0; c < m; ) {
+                int target = endpoints[random.nextInt(available)];
+                boolean duplicate = false;
+                for (int p = 0; p < c; p++) { // m is small
+                    duplicate |= chosen[p] == target;
+                }
+                if (!duplicate) {
+                    chosen[c++] = target;
+                }
+            }
+            for (int c = 0; c < m; c++) {
+                edges.add(node, chosen[c]);
+                endpoints[endpointCount++] = node;
+                endpoints[endpointCount++] = chosen[c];
+            }
+        }
+        return edges.build();
+    }
 
-        for (int i = 0; i < N; i++) {
-            List<Integer> neighbours = new ArrayList<>();
+    // ========== Random Regular Topology ==========
+    // Configuration model: N * d stubs are shuffled and paired up. Pairs that would be a self loop or a
+    // duplicate edge are then repaired with degree-preserving switches against random valid edges
+    private SparseGraph createRandomRegular(int N) {
+        if (regularDegree < 0) {
+            throw new IllegalArgumentException("Negative degree: " + regularDegree);
+        }
+        int d = Math.min(regularDegree, Math.max(0, N - 1));
+        if (((long) N * d) % 2 != 0) {
+            d--; // N * d stubs must pair up
+        }
+        if (d == N - 1) {
+            return createMesh(N);
+        }
+        int[] stubs = new int[N * d];
+        for (int i = 0; i < stubs.length; i++) {
+            stubs[i] = i / d;
+        }
+        for (int i = stubs.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = stubs[i];
+            stubs[i] = stubs[j];
+            stubs[j] = tmp;
+        }
+
+        int pairCount = stubs.length / 2;
+        EdgeListBuilder edges = new EdgeListBuilder(N, pairCount);
+        EdgeSet present = new EdgeSet(pairCount);
+        boolean[] valid = new boolean[pairCount];
+        int[] invalid = new int[pairCount];
+        int invalidCount = 0;
+        for (int p = 0; p < pairCount; p++) {
+            int a = stubs[2 * p];
+            int b = stubs[2 * p + 1];
+            edges.add(a, b);
+            valid[p] = a != b && present.add(a, b);
+            if (!valid[p]) {
+                invalid[invalidCount++] = p;
+            }
+        }
 
-            if (i == 0) { // node 0 is the central node
-                for (int j = 1; j < N; j++) {
-                    neighbours.add(j);
+        long attemptsLeft = 1000L * pairCount;
+        for (int k = 0; k < invalidCount; k++) {
+            int p = invalid[k];
+            int a = edges.from(p);
+            int b = edges.to(p);
+            while (!valid[p]) {
+                if (attemptsLeft-- == 0) {
+                    throw new IllegalStateException("Could not build a " + d + "-regular graph on " + N + " nodes");
+                }
+                int q = random.nextInt(pairCount);
+                if (!valid[q]) {
+                    continue;
                 }
-            } else
-                neighbours.add(0);
+                // switch {a-b, c-e} into {a-c, b-e}: every node keeps its degree
+                int c = random.nextBoolean() ? edges.from(q) : edges.to(q);
+                int e = c == edges.from(q) ? edges.to(q) : edges.from(q);
+                if (a == c || b == e || present.contains(a, c) || present.contains(b, e) || EdgeSet.key(a, c) == EdgeSet.key(b, e)) {
+                    continue;
+                }
+                present.remove(c, e);
+                present.add(a, c);
+                present.add(b, e);
+                edges.set(p, a, c);
+                edges.set(q, b, e);
+                valid[p] = true;
+            }
+        }
+        return edges.build();
+    }
 
-            adjMap.put(i, neighbours);
+    // ========== Torus Topology ==========
+    // 2D grid with wrap-around, rows x cols = N with rows the largest divisor of N not above sqrt(N)
+    // (a prime N degenerates into a ring). Node r * cols + c links to its right and lower neighbours
+    private SparseGraph createTorus(int N) {
+        int rows = Math.max(1, (int) Math.sqrt(N));
+        while (rows > 1 && N % rows != 0) {
+            rows--;
         }
-        return adjMap;
+        int cols = N / Math.max(1, rows);
+        EdgeListBuilder edges = new EdgeListBuilder(N, 2 * N);
+        EdgeSet present = new EdgeSet(2 * N); // small sides wrap onto the same neighbour
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int node = r * cols + c;
+                int right = r * cols + (c + 1) % cols;
+                int down = ((r + 1) % rows) * cols + c;
+                if (right != node && present.add(node, right)) {
+                    edges.add(node, right);
+                }
+                if (down != node && present.add(node, down)) {
+                    edges.add(node, down);
+                }
+            }
+        }
+        return edges.build();
     }
 
     public List<Integer> get(int nodeId) {
@@ -104,4 +407,8 @@ public class Topology {
         return adjMap;
     }
 
+    public SparseGraph getGraph() {
+        return graph;
+    }
+
 }
@@ -0,0 +1,237 @@
+package supervisor.network_emulation.topology_creation;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Edge-list files for topologies, read through memory-mapped windows straight into a SparseGraph.
+ *
+ * Binary: "EPGE" magic, int version, int nodeCount, long edgeCount, then edgeCount (int a, int b) pairs
+ * (little-endian). Text: one "a b" pair of 0-based node ids per line; extra columns (weights) are ignored,
+ * lines starting with '#' or '%' are comments. Both are undirected: self loops and repeated edges
+ * (including "b a" after "a b") are dropped on import. The format is detected from the first bytes.
+ * Export writes binary unless the file name ends with .txt, .edges or .el.
+ */
+public final class TopologyFiles {
+
+    private static final int MAGIC = 0x45475045; // "EPGE" read as a little-endian int
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final long MAP_WINDOW = 1L << 30; // a single mapping is limited to 2 GB
+
+    private TopologyFiles() {}
+
+    // minNodeCount: nodes with no edges at the end of the id range still exist (text files can't list them)
+    public static SparseGraph read(Path path, int minNodeCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= HEADER_BYTES) {
+                ByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, 4).order(ByteOrder.LITTLE_ENDIAN);
+                if (head.getInt(0) == MAGIC) {
+                    return readBinary(channel, size, minNodeCount);
+                }
+            }
+            return readText(channel, size, minNodeCount);
+        }
+    }
+
+    public static void write(SparseGraph graph, Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase();
+        if (name.endsWith(".txt") || name.endsWith(".edges") || name.endsWith(".el")) {
+            writeText(graph, path);
+        } else {
+            writeBinary(graph, path);
+        }
+    }
+
+    // ========== Binary ==========
+    private static SparseGraph readBinary(FileChannel channel, long size, int minNodeCount) throws IOException {
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        int version = header.getInt(4);
+        int nodeCount = header.getInt(8);
+        long edgeCount = header.getLong(12);
+        if (version != VERSION || nodeCount < 0 || edgeCount < 0 || size < HEADER_BYTES + edgeCount * 8) {
+            throw new IOException("Corrupt or unsupported binary edge list (version " + version + ", "
+                    + nodeCount + " nodes, " + edgeCount + " edges, " + size + " bytes)");
+        }
+        if (edgeCount > Integer.MAX_VALUE / 2) {
+            throw new IOException("Too many edges: " + edgeCount);
+        }
+        nodeCount = Math.max(nodeCount, minNodeCount);
+        EdgeCollector edges = new EdgeCollector((int) edgeCount);
+
+        long remaining = edgeCount * 8;
+        for (long position = HEADER_BYTES; remaining > 0; ) {
+            long length = Math.min(MAP_WINDOW, remaining); // multiple of 8: pairs never straddle windows
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            while (window.hasRemaining()) {
+                int a = window.getInt();
+                int b = window.getInt();
+                if (a < 0 || b < 0 || a >= nodeCount || b >= nodeCount) {
+                    throw new IOException("Edge " + a + "-" + b + " outside 0.." + (nodeCount - 1));
+                }
+                edges.add(a, b);
+            }
+            position += length;
+            remaining -= length;
+        }
+        return edges.build(nodeCount);
+    }
+
+    private static void writeBinary(SparseGraph graph, Path path) throws IOException {
+        int nodeCount = graph.nodeCount();
+        long edgeCount = graph.adjacencyCount() / 2;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = HEADER_BYTES + edgeCount * 8;
+            long windowStart = 0;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(MAP_WINDOW, size));
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            window.putInt(MAGIC).putInt(VERSION).putInt(nodeCount).putLong(edgeCount);
+
+            for (int a = 0; a < nodeCount; a++) {
+                int degree = graph.degree(a);
+                for (int k = 0; k < degree; k++) {
+                    int b = graph.neighbor(a, k);
+                    if (b <= a) {
+                        continue; // each undirected edge once
+                    }
+                    if (window.remaining() < 8) {
+                        windowStart += window.position();
+                        window.force();
+                        window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, Math.min(MAP_WINDOW, size - windowStart));
+                        window.order(ByteOrder.LITTLE_ENDIAN);
+                    }
+                    window.putInt(a).putInt(b);
+                }
+            }
+            window.force();
+        }
+    }
+
+    // ========== Text ==========
+    private static SparseGraph readText(FileChannel channel, long size, int minNodeCount) throws IOException {
+        TextParser parser = new TextParser((int) Math.min(Integer.MAX_VALUE / 2, Math.max(16, size / 8)));
+        for (long position = 0; position < size; position += MAP_WINDOW) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW, size - position));
+            while (window.hasRemaining()) {
+                parser.accept(window.get());
+            }
+        }
+        parser.endLine(); // last line may lack a newline
+        return parser.edges.build(Math.max(minNodeCount, parser.maxNode + 1));
+    }
+
+    // Byte-level parser; its state carries over mapped window boundaries
+    private static final class TextParser {
+        final EdgeCollector edges;
+        int maxNode = -1;
+        private long line = 1;
+        private int field = 0; // ids completed on this line
+        private long value = -1; // id being parsed, -1 = none
+        private int first;
+        private boolean skipRest = false; // comment, or columns after the edge
+
+        TextParser(int expectedEdges) {
+            this.edges = new EdgeCollector(expectedEdges);
+        }
+
+        void accept(byte c) throws IOException {
+            if (c == '\n') {
+                endLine();
+                line++;
+            } else if (skipRest) {
+                // ignored
+            } else if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > Integer.MAX_VALUE) {
+                    throw new IOException("Line " + line + ": node id too large");
+                }
+            } else if (c == ' ' || c == '\t' || c == ',' || c == '\r') {
+                endToken();
+            } else if ((c == '#' || c == '%') && field == 0 && value < 0) {
+                skipRest = true;
+            } else {
+                throw new IOException("Line " + line + ": unexpected character '" + (char) c + "'");
+            }
+        }
+
+        private void endToken() {
+            if (value < 0) {
+                return;
+            }
+            if (field++ == 0) {
+                first = (int) value;
+            } else {
+                edges.add(first, (int) value);
+                maxNode = Math.max(maxNode, Math.max(first, (int) value));
+                skipRest = true;
+            }
+            value = -1;
+        }
+
+        void endLine() throws IOException {
+            if (!skipRest) {
+                endToken();
+            }
+            if (field == 1) {
+                throw new IOException("Line " + line + ": expected two node ids");
+            }
+            field = 0;
+            value = -1;
+            skipRest = false;
+        }
+    }
+
+    private static void writeText(SparseGraph graph, Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            out.write(("# nodes " + graph.nodeCount() + " edges " + graph.adjacencyCount() / 2 + "\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            StringBuilder line = new StringBuilder(24);
+            for (int a = 0; a < graph.nodeCount(); a++) {
+                int degree = graph.degree(a);
+                for (int k = 0; k < degree; k++) {
+                    int b = graph.neighbor(a, k);
+                    if (b > a) {
+                        line.setLength(0);
+                        line.append(a).append(' ').append(b).append('\n');
+                        for (int i = 0; i < line.length(); i++) {
+                            out.write(line.charAt(i));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Drops self loops and repeated edges while collecting
+    private static final class EdgeCollector {
+        private final EdgeListBuilder edges;
+        private final EdgeSet present;
+
+        EdgeCollector(int expectedEdges) {
+            this.edges = new EdgeListBuilder(0, expectedEdges);
+            this.present = new EdgeSet(expectedEdges);
+        }
+
+        void add(int a, int b) {
+            if (a != b && present.add(a, b)) {
+                edges.add(a, b);
+            }
+        }
+
+        SparseGraph build(int nodeCount) {
+            return edges.build(nodeCount);
+        }
+    }
+}
@@ -4,7 +4,11 @@ public enum TopologyType {
     FULL_MESH,
     PARTIAL_MESH,
     RING,
-    STAR;
+    STAR,
+    SMALL_WORLD,    // Watts-Strogatz
+    SCALE_FREE,     // Barabasi-Albert
+    RANDOM_REGULAR,
+    TORUS;
 
     public static TopologyType fromString(String input) {
 
@@ -13,6 +17,10 @@ public enum TopologyType {
             case "partial mesh" -> PARTIAL_MESH;
             case "ring" -> RING;
             case "star" -> STAR;
+            case "small world", "watts strogatz" -> SMALL_WORLD;
+            case "scale free", "barabasi albert" -> SCALE_FREE;
+            case "random regular" -> RANDOM_REGULAR;
+            case "torus", "grid" -> TORUS;
 
             default -> throw new IllegalStateException("Unexpected value: " + input.toLowerCase());
         };
@@ -0,0 +1,126 @@
+package supervisor.round_sync;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
+import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
+import epidemic_core.node.round_sync.RoundSyncMode;
+import general.communication.Communication;
+import general.communication.implementation.in_memory.InMemoryCommunication;
+import general.communication.utils.Address;
+import general.communication.utils.FrameCharset;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends the numbered StartRoundMsg of every round to the nodes, encoded once per round:
+ * - UNICAST: one datagram per node
+ * - MULTICAST: one datagram to the multicast group (in-memory fabric has no groups: the fan-out to the
+ *   node addresses stands in for the network's, subject to the fabric's loss and latency)
+ * - TREE: one datagram to each of the treeArity roots (nodes 0..k-1); node i forwards to
+ *   k*(i+1) .. k*(i+1)+k-1, so every node is reached in log_k(N) hops (see treeChildren)
+ * Falls back to UNICAST if the multicast sender can't be opened. Local runs multicast on the loopback
+ * interface, distributed ones on the default interface.
+ */
+public final class RoundClock {
+
+    public static final String MULTICAST_GROUP = "239.255.42.99:7100";
+
+    private final RoundSyncMode mode;
+    private final int treeArity;
+    private final Communication communication;
+    private final List<Address> nodeAddresses; // index = node id (null = unknown)
+    private final List<Address> targets;
+    private MulticastSocket multicastSocket;
+    private InetSocketAddress multicastGroup;
+
+    public RoundClock(RoundSyncMode mode, int treeArity, Communication communication, Map<Integer, Address> addressesById,
+                      boolean loopback) {
+        this.treeArity = Math.max(1, treeArity);
+        this.communication = communication;
+
+        int maxId = addressesById.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        this.nodeAddresses = new ArrayList<>(maxId + 1);
+        for (int id = 0; id <= maxId; id++) {
+            nodeAddresses.add(addressesById.get(id));
+        }
+
+        if (mode == RoundSyncMode.MULTICAST && !(communication instanceof InMemoryCommunication) && !openMulticastSocket(loopback)) {
+            mode = RoundSyncMode.UNICAST;
+        }
+        this.mode = mode;
+        this.targets = switch (mode) {
+            case UNICAST -> nonNull(nodeAddresses);
+            case TREE -> nonNull(nodeAddresses.subList(0, Math.min(this.treeArity, nodeAddresses.size())));
+            case MULTICAST -> multicastSocket == null ? nonNull(nodeAddresses) : List.of(); // in-memory fan-out
+        };
+    }
+
+    // Children of a node in the round-signal tree (ids < nodeCount)
+    public static List<Integer> treeChildren(int nodeId, int treeArity, int nodeCount) {
+        List<Integer> children = new ArrayList<>(treeArity);
+        long first = (long) treeArity * (nodeId + 1);
+        for (long child = first; child < first + treeArity && child < nodeCount; child++) {
+            children.add((int) child);
+        }
+        return children;
+    }
+
+    public RoundSyncMode getMode() { return mode; }
+
+    // Returns the number of datagrams the supervisor sent
+    public int signal(int round) throws IOException {
+        StartRoundMsg startRoundMsg = new StartRoundMsg(
+                Direction.supervisor_to_node.toString(),
+                SupervisorToNodeMessageType.start_round.toString(),
+                round,
+                System.currentTimeMillis());
+        String encodedMsg = startRoundMsg.encode();
+
+        if (mode == RoundSyncMode.MULTICAST && multicastSocket != null) {
+            byte[] bytes = FrameCharset.toBytes(encodedMsg);
+            multicastSocket.send(new DatagramPacket(bytes, bytes.length, multicastGroup));
+            return 1;
+        }
+
+        for (Address target : targets) {
+            communication.sendMessage(target, encodedMsg);
+        }
+        return mode == RoundSyncMode.MULTICAST ? 1 : targets.size(); // multicast: one datagram to the group
+    }
+
+    public void close() {
+        if (multicastSocket != null) {
+            multicastSocket.close();
+        }
+    }
+
+    // TTL 1: the round signal never leaves the local network
+    private boolean openMulticastSocket(boolean loopback) {
+        try {
+            Address group = Address.parse(MULTICAST_GROUP);
+            multicastGroup = new InetSocketAddress(InetAddress.getByName(group.getIp()), group.getPort());
+            multicastSocket = new MulticastSocket();
+            if (loopback) {
+                multicastSocket.setNetworkInterface(NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress()));
+            }
+            multicastSocket.setTimeToLive(1);
+            return true;
+        } catch (IOException e) {
+            System.err.println("[RoundClock] Multicast unavailable, falling back to unicast: " + e.getMessage());
+            close();
+            return false;
+        }
+    }
+
+    private static List<Address> nonNull(List<Address> addresses) {
+        return addresses.stream().filter(address -> address != null).toList();
+    }
+}
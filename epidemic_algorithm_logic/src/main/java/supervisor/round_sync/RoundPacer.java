@@ -0,0 +1,97 @@
+package supervisor.round_sync;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Decides how long the round thread waits after signalling a round before starting the next one.
+ *
+ * activity: a monotonic count of messages seen so far (node-to-node sends + reports ingested); any change
+ * means the round is still spreading. inFlight: messages sent but not yet handled (on the wire or queued at
+ * the supervisor), 0 when unknown.
+ *
+ * - FIXED: sleeps intervalMs
+ * - FAST: waits at least minMs, then returns once activity has not changed for quietMs and nothing is in
+ *   flight (quiescence), at the latest after intervalMs
+ * - ADAPTIVE: waits the predicted round length, 1.5 x the EWMA of the active part of the previous rounds
+ *   (signal -> last activity) + quietMs, clamped to [minMs, intervalMs]; keeps waiting past it while messages
+ *   are still in flight so that rounds never overlap, again at most intervalMs
+ */
+public class RoundPacer {
+
+    private static final long POLL_MS = 5;
+    private static final double EWMA_WEIGHT = 0.3;
+    private static final double ADAPTIVE_HEADROOM = 1.5;
+
+    private final RoundPacingMode mode;
+    private final long intervalMs;
+    private final long minMs;
+    private final long quietMs;
+    private final LongSupplier activity;
+    private final LongSupplier inFlight;
+
+    private double activeEwmaMs = -1;
+    private long lastActiveMs = -1;
+    private long lastWaitMs = -1;
+
+    public RoundPacer(RoundPacingMode mode, long intervalMs, long minMs, long quietMs,
+                      LongSupplier activity, LongSupplier inFlight) {
+        this.mode = mode;
+        this.intervalMs = Math.max(1, intervalMs);
+        this.minMs = Math.clamp(minMs, 0, this.intervalMs);
+        this.quietMs = Math.max(POLL_MS, quietMs);
+        this.activity = activity;
+        this.inFlight = inFlight;
+    }
+
+    // Blocks until the next round is due; returns the time waited in ms
+    public long awaitNextRound() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        if (mode == RoundPacingMode.FIXED) {
+            Thread.sleep(intervalMs);
+            lastWaitMs = System.currentTimeMillis() - start;
+            return lastWaitMs;
+        }
+
+        long target = mode == RoundPacingMode.FAST ? minMs : predictedMs();
+        long lastCount = activity.getAsLong();
+        long lastChange = start;
+        long now = start;
+        while (now - start < intervalMs) {
+            Thread.sleep(POLL_MS);
+            now = System.currentTimeMillis();
+            long count = activity.getAsLong();
+            if (count != lastCount) {
+                lastCount = count;
+                lastChange = now;
+            }
+            boolean drained = inFlight.getAsLong() <= 0;
+            if (now - start >= target && drained
+                    && (mode == RoundPacingMode.ADAPTIVE || now - lastChange >= quietMs)) {
+                break;
+            }
+        }
+
+        lastActiveMs = lastChange - start;
+        activeEwmaMs = activeEwmaMs < 0 ? lastActiveMs : EWMA_WEIGHT * lastActiveMs + (1 - EWMA_WEIGHT) * activeEwmaMs;
+        lastWaitMs = now - start;
+        return lastWaitMs;
+    }
+
+    // Round length the adaptive policy aims for (first round: quiescence bound, as nothing was observed yet)
+    long predictedMs() {
+        if (activeEwmaMs < 0) {
+            return Math.clamp(minMs + 2 * quietMs, minMs, intervalMs);
+        }
+        return Math.clamp((long) (activeEwmaMs * ADAPTIVE_HEADROOM) + quietMs, minMs, intervalMs);
+    }
+
+    public RoundPacingMode getMode() { return mode; }
+
+    public String summary() {
+        if (mode == RoundPacingMode.FIXED) {
+            return mode + " " + intervalMs + " ms";
+        }
+        return mode + ": waited " + lastWaitMs + " ms, last message after " + lastActiveMs + " ms, next target "
+                + (mode == RoundPacingMode.FAST ? minMs + "+" + quietMs : predictedMs()) + " ms (max " + intervalMs + ")";
+    }
+}
@@ -0,0 +1,24 @@
+package supervisor.round_sync;
+
+// When the supervisor starts the next round
+public enum RoundPacingMode
+{
+    FIXED,    // every roundIntervalMs (original behaviour, 5 s by default)
+    FAST,     // as soon as the network is quiescent (no new messages for roundQuietMs, nothing in flight)
+    ADAPTIVE; // predicted from how long the previous rounds stayed active, extended while messages are in flight
+
+    public static RoundPacingMode fromString(String input){
+
+        if (input == null) {
+            return FIXED;
+        }
+
+        return switch(input.toLowerCase()){
+            case "fixed" -> FIXED;
+            case "fast", "asap" -> FAST;
+            case "adaptive" -> ADAPTIVE;
+
+            default -> throw new IllegalStateException("Unexpected value: " + input.toLowerCase());
+        };
+    }
+}
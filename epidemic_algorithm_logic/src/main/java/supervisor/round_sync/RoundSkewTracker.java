@@ -0,0 +1,72 @@
+package supervisor.round_sync;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Round-start lag reported by the nodes (receive time - supervisor send time, piggybacked on
+ * StatusBatchMsg) aggregated per round, plus the rounds each node says it missed.
+ * Skew of a round = slowest - fastest node to see its start signal.
+ * Samples are kept for the last WINDOW rounds only (late batches of older rounds are dropped).
+ * record() is called by the ingest apply threads, summary() by the round thread.
+ */
+public class RoundSkewTracker {
+
+    private static final int WINDOW = 4;
+
+    private final int[] windowRound = new int[WINDOW];
+    private final long[][] lags = new long[WINDOW][64];
+    private final int[] counts = new int[WINDOW];
+    private final ConcurrentHashMap<Integer, Long> missedByNode = new ConcurrentHashMap<>();
+
+    public synchronized void record(int round, long lagMs) {
+        int slot = Math.floorMod(round, WINDOW);
+        if (windowRound[slot] != round) {
+            if (windowRound[slot] > round) {
+                return; // too late: the slot already holds a newer round
+            }
+            windowRound[slot] = round;
+            counts[slot] = 0;
+        }
+        if (counts[slot] == lags[slot].length) {
+            lags[slot] = Arrays.copyOf(lags[slot], counts[slot] * 2);
+        }
+        lags[slot][counts[slot]++] = lagMs;
+    }
+
+    // missedRounds is the node's running total
+    public void recordMissed(int nodeId, long missedRounds) {
+        missedByNode.merge(nodeId, missedRounds, Math::max);
+    }
+
+    public long getTotalMissedRounds() {
+        return missedByNode.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // Skew of a round in ms, -1 if no node reported it
+    public synchronized long getSkewMs(int round) {
+        int slot = Math.floorMod(round, WINDOW);
+        if (windowRound[slot] != round || counts[slot] == 0) {
+            return -1;
+        }
+        long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+        for (int i = 0; i < counts[slot]; i++) {
+            min = Math.min(min, lags[slot][i]);
+            max = Math.max(max, lags[slot][i]);
+        }
+        return max - min;
+    }
+
+    public synchronized String summary(int round) {
+        int slot = Math.floorMod(round, WINDOW);
+        int count = windowRound[slot] == round ? counts[slot] : 0;
+        if (count == 0) {
+            return "round " + round + ": no lag samples, missed rounds " + getTotalMissedRounds();
+        }
+        long[] sorted = Arrays.copyOf(lags[slot], count);
+        Arrays.sort(sorted);
+        return "round " + round + ": " + count + " lag samples, p50 " + sorted[(count - 1) / 2]
+                + " ms, p99 " + sorted[(int) ((count - 1) * 0.99)] + " ms, max " + sorted[count - 1]
+                + " ms, skew " + (sorted[count - 1] - sorted[0]) + " ms, missed rounds " + getTotalMissedRounds();
+    }
+}
@@ -0,0 +1,142 @@
+package supervisor.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live SIR (susceptible / infected / removed) counters per subject, updated on every
+ * infection/remotion report instead of being recomputed from the history.
+ *
+ * At the end of each round the current counters are appended as one point per curve, so a chart
+ * only has to pick up the points it has not drawn yet plus the live (still open) round.
+ */
+class InfectionCurveAggregator {
+
+    static final String ALL_SUBJECTS = "All subjects";
+
+    private final int numberOfNodes;
+    private final Map<String, SirCurve> curves = new LinkedHashMap<>();
+    private final SirCurve allSubjects;
+    private int closedRounds = 0; // rounds 0..closedRounds-1 have a point on every curve
+
+    InfectionCurveAggregator(int numberOfNodes) {
+        this.numberOfNodes = numberOfNodes;
+        this.allSubjects = new SirCurve(numberOfNodes);
+        curves.put(ALL_SUBJECTS, allSubjects);
+    }
+
+    synchronized void onInfection(int nodeId, String subject) {
+        curve(subject).infect(nodeId);
+        allSubjects.infect(nodeId);
+    }
+
+    synchronized void onRemotion(int nodeId, String subject) {
+        curve(subject).remove(nodeId);
+        // a node counts as removed for "all subjects" once it removed anything (same rule as the node view)
+        allSubjects.remove(nodeId);
+    }
+
+    // Freezes the counters of every round up to (excluding) the given one into a point per curve
+    synchronized void closeRoundsBefore(int round) {
+        while (closedRounds < round) {
+            for (SirCurve curve : curves.values()) {
+                curve.appendPoint(closedRounds);
+            }
+            closedRounds++;
+        }
+    }
+
+    synchronized List<String> getCurveNames() {
+        return new ArrayList<>(curves.keySet());
+    }
+
+    // Closed points of rounds [fromRound, closedRounds) of one curve
+    synchronized CurvePoints getClosedPoints(String name, int fromRound) {
+        SirCurve curve = curves.get(name);
+        int from = Math.max(fromRound, curve.firstRound);
+        int count = Math.max(0, closedRounds - from);
+        int offset = from - curve.firstRound;
+        return new CurvePoints(from,
+                Arrays.copyOfRange(curve.susceptible, offset, offset + count),
+                Arrays.copyOfRange(curve.infected, offset, offset + count),
+                Arrays.copyOfRange(curve.removed, offset, offset + count));
+    }
+
+    // Counters of the open round as {susceptible, infected, removed}
+    synchronized int[] getLivePoint(String name) {
+        SirCurve curve = curves.get(name);
+        return new int[] { curve.susceptibleCount(), curve.infectedCount(), curve.removedCount };
+    }
+
+    // susceptible[i], infected[i], removed[i] belong to round firstRound + i
+    record CurvePoints(int firstRound, int[] susceptible, int[] infected, int[] removed) {
+        int nextRound() { return firstRound + susceptible.length; }
+    }
+
+    private SirCurve curve(String subject) {
+        String key = subject != null ? subject : "";
+        SirCurve curve = curves.get(key);
+        if (curve == null) {
+            curve = new SirCurve(numberOfNodes);
+            curve.firstRound = closedRounds; // no points before the subject first showed up
+            curves.put(key, curve);
+        }
+        return curve;
+    }
+
+    private static final class SirCurve {
+        private final int numberOfNodes;
+        private final BitSet infectedNodes = new BitSet();
+        private final BitSet removedNodes = new BitSet();
+        private int everInfectedCount = 0;
+        private int removedCount = 0;
+
+        private int firstRound = 0;
+        private int points = 0;
+        private int[] susceptible = new int[32];
+        private int[] infected = new int[32];
+        private int[] removed = new int[32];
+
+        SirCurve(int numberOfNodes) {
+            this.numberOfNodes = numberOfNodes;
+        }
+
+        void infect(int nodeId) {
+            if (!infectedNodes.get(nodeId)) {
+                infectedNodes.set(nodeId);
+                everInfectedCount++;
+            }
+        }
+
+        void remove(int nodeId) {
+            if (!removedNodes.get(nodeId)) {
+                removedNodes.set(nodeId);
+                removedCount++;
+            }
+            infect(nodeId); // a removed node was infected at some point
+        }
+
+        int susceptibleCount() { return Math.max(0, numberOfNodes - everInfectedCount); }
+
+        int infectedCount() { return everInfectedCount - removedCount; }
+
+        void appendPoint(int round) {
+            if (round < firstRound) {
+                return;
+            }
+            if (points == susceptible.length) {
+                susceptible = Arrays.copyOf(susceptible, points * 2);
+                infected = Arrays.copyOf(infected, points * 2);
+                removed = Arrays.copyOf(removed, points * 2);
+            }
+            susceptible[points] = susceptibleCount();
+            infected[points] = infectedCount();
+            removed[points] = removedCount;
+            points++;
+        }
+    }
+}
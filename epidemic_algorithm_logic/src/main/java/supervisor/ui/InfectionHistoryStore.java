@@ -0,0 +1,132 @@
+package supervisor.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented infection history for the supervisor GUI, reduced to what the node views read.
+ *
+ * Topics (interned subject id, source) get a dense id; per topic there is one primitive column per
+ * field (timestamp, round, data id) indexed by node, holding the latest version that node reported.
+ * Memory is nodes x topics ints no matter how many reports arrive (payloads are interned, so the
+ * data table grows with published versions, not with reports). Also kept on append:
+ *   - which nodes got anything yet, and how many
+ *   - distinct topics per node (node view is O(topics))
+ * (infection curves are kept by InfectionCurveAggregator)
+ *
+ * Writers are the ingest workers, readers the Swing timers; all access goes through the store's lock.
+ */
+class InfectionHistoryStore {
+
+    private static final int NONE = -1; // data id of a (node, topic) never reported
+
+    private final int numberOfNodes;
+
+    // Topic table: (subject id, source) -> topic id
+    private final StringTable subjects = new StringTable();
+    private final StringTable data = new StringTable();
+    private final Map<Long, Integer> topicIds = new HashMap<>();
+    private int[] topicSubject = new int[8];
+    private int[] topicSource = new int[8];
+
+    // Latest version per topic and node: column.get(topic)[node]
+    private final List<int[]> timestampCol = new ArrayList<>();
+    private final List<int[]> roundCol = new ArrayList<>();
+    private final List<int[]> dataCol = new ArrayList<>();
+
+    // Per-node aggregates
+    private final BitSet infected;
+    private final int[] topicsHeld;
+    private int infectedNodes = 0;
+
+    InfectionHistoryStore(int numberOfNodes) {
+        this.numberOfNodes = numberOfNodes;
+        this.infected = new BitSet(numberOfNodes);
+        this.topicsHeld = new int[numberOfNodes];
+    }
+
+    // Records an infection report; returns true if it is the node's first infection
+    synchronized boolean append(int nodeId, String subject, int sourceId, int timestamp, String payload, int round) {
+        int topic = topicId(subjects.intern(subject), sourceId);
+        int[] dataIds = dataCol.get(topic);
+        int[] timestamps = timestampCol.get(topic);
+        if (dataIds[nodeId] == NONE) {
+            topicsHeld[nodeId]++;
+        } else if (timestamps[nodeId] > timestamp) {
+            return false; // older version than the one already shown
+        }
+        timestamps[nodeId] = timestamp;
+        roundCol.get(topic)[nodeId] = round;
+        dataIds[nodeId] = data.intern(payload);
+
+        if (infected.get(nodeId)) {
+            return false;
+        }
+        infected.set(nodeId);
+        infectedNodes++;
+        return true;
+    }
+
+    synchronized int getInfectedNodeCount() { return infectedNodes; }
+
+    synchronized int getDistinctMessageCount(int nodeId) {
+        return topicsHeld[nodeId];
+    }
+
+    // Latest infection per (subject, source) the node holds, materialized for display
+    synchronized List<SupervisorGui.InfectionRecord> latestRecords(int nodeId) {
+        List<SupervisorGui.InfectionRecord> records = new ArrayList<>(topicsHeld[nodeId]);
+        for (int topic = 0; topic < dataCol.size(); topic++) {
+            int dataId = dataCol.get(topic)[nodeId];
+            if (dataId != NONE) {
+                records.add(new SupervisorGui.InfectionRecord(nodeId, subjects.get(topicSubject[topic]),
+                        timestampCol.get(topic)[nodeId], topicSource[topic], roundCol.get(topic)[nodeId], data.get(dataId)));
+            }
+        }
+        return records;
+    }
+
+    private int topicId(int subjectId, int sourceId) {
+        long key = ((long) subjectId << 32) | (sourceId & 0xFFFFFFFFL);
+        Integer id = topicIds.get(key);
+        if (id != null) {
+            return id;
+        }
+        id = topicIds.size();
+        topicIds.put(key, id);
+        if (id == topicSubject.length) {
+            topicSubject = Arrays.copyOf(topicSubject, id * 2);
+            topicSource = Arrays.copyOf(topicSource, id * 2);
+        }
+        topicSubject[id] = subjectId;
+        topicSource[id] = sourceId;
+        timestampCol.add(new int[numberOfNodes]);
+        roundCol.add(new int[numberOfNodes]);
+        int[] dataIds = new int[numberOfNodes];
+        Arrays.fill(dataIds, NONE);
+        dataCol.add(dataIds);
+        return id;
+    }
+
+    // String <-> dense int id
+    private static final class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int intern(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                values.add(value);
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        String get(int id) { return values.get(id); }
+    }
+}
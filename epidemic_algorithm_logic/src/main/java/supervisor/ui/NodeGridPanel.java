@@ -0,0 +1,192 @@
+package supervisor.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Heat-map grid of all nodes, painted directly instead of one JButton per node.
+ *
+ * Node state is read from a NodeStateTable. The Swing frame timer calls repaintDirty(), which repaints
+ * only the cells changed since the last frame that are inside the visible rectangle, and
+ * paintComponent only walks the cells intersecting the clip.
+ */
+@SuppressWarnings("serial") // Swing component, never serialized
+class NodeGridPanel extends JComponent implements Scrollable {
+
+    private static final int CELL_WIDTH = 72;
+    private static final int CELL_HEIGHT = 26;
+    private static final int GAP = 4;
+
+    private static final Color[] STATE_COLORS = {
+        new Color(200, 200, 200), // SUSCEPTIBLE - light gray
+        new Color(173, 216, 230), // INFECTED (forwarder) - light blue
+        new Color(144, 238, 144), // SOURCE - light green
+        new Color(255, 100, 100)  // REMOVED - light red
+    };
+    private static final Color BORDER_COLOR = new Color(120, 120, 120);
+    private static final Font CELL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 11);
+
+    private final NodeStateTable nodeStates;
+    private final int numberOfNodes;
+    private int columns = 10;
+
+    NodeGridPanel(NodeStateTable nodeStates, IntConsumer onNodeClicked) {
+        this.nodeStates = nodeStates;
+        this.numberOfNodes = nodeStates.size();
+
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        ToolTipManager.sharedInstance().registerComponent(this);
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int nodeId = nodeAt(e.getX(), e.getY());
+                if (nodeId >= 0) {
+                    onNodeClicked.accept(nodeId);
+                }
+            }
+        });
+    }
+
+    // ---------------------------------- Painting (EDT) ----------------------------------
+    // Repaints the cells changed since the last frame that are currently visible
+    void repaintDirty() {
+        BitSet changed = nodeStates.drainDirty();
+        if (changed == null) {
+            return;
+        }
+
+        Rectangle visible = getVisibleRect();
+        if (visible.isEmpty()) {
+            return;
+        }
+        int firstNode = (visible.y / (CELL_HEIGHT + GAP)) * columns;
+        int lastNode = Math.min(numberOfNodes - 1, ((visible.y + visible.height) / (CELL_HEIGHT + GAP) + 1) * columns - 1);
+
+        for (int nodeId = changed.nextSetBit(firstNode); nodeId >= 0 && nodeId <= lastNode; nodeId = changed.nextSetBit(nodeId + 1)) {
+            repaint(cellBounds(nodeId)); // RepaintManager coalesces these into one paint
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setFont(CELL_FONT);
+        FontMetrics metrics = g2.getFontMetrics();
+
+        int rowHeight = CELL_HEIGHT + GAP;
+        int colWidth = CELL_WIDTH + GAP;
+        int firstRow = Math.max(0, clip.y / rowHeight);
+        int lastRow = (clip.y + clip.height) / rowHeight;
+        int firstCol = Math.max(0, clip.x / colWidth);
+        int lastCol = Math.min(columns - 1, (clip.x + clip.width) / colWidth);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int nodeId = row * columns + col;
+                if (nodeId >= numberOfNodes) {
+                    return;
+                }
+                int x = GAP + col * colWidth;
+                int y = GAP + row * rowHeight;
+
+                g2.setColor(STATE_COLORS[nodeStates.getState(nodeId)]);
+                g2.fillRect(x, y, CELL_WIDTH, CELL_HEIGHT);
+                g2.setColor(BORDER_COLOR);
+                g2.drawRect(x, y, CELL_WIDTH - 1, CELL_HEIGHT - 1);
+
+                int count = nodeStates.getMessageCount(nodeId);
+                String label = count > 0 ? nodeId + " (" + count + ")" : String.valueOf(nodeId);
+                g2.setColor(Color.BLACK);
+                g2.drawString(label, x + (CELL_WIDTH - metrics.stringWidth(label)) / 2,
+                        y + (CELL_HEIGHT + metrics.getAscent() - metrics.getDescent()) / 2);
+            }
+        }
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        int nodeId = nodeAt(e.getX(), e.getY());
+        if (nodeId < 0) {
+            return null;
+        }
+        switch (nodeStates.getState(nodeId)) {
+            case NodeStateTable.REMOVED:
+                return "Node " + nodeId + ": REMOVED (" + nodeStates.getRemovedCount(nodeId) + " message(s) removed)";
+            case NodeStateTable.SOURCE:
+                return "Node " + nodeId + ": SOURCE: " + nodeStates.getSourceSubject(nodeId);
+            case NodeStateTable.INFECTED:
+                return "Node " + nodeId + ": INFECTED (FORWARDER)";
+            default:
+                return "Node " + nodeId + ": SUSCEPTIBLE (not infected)";
+        }
+    }
+
+    // ---------------------------------- Layout ----------------------------------
+    private Rectangle cellBounds(int nodeId) {
+        int row = nodeId / columns;
+        int col = nodeId % columns;
+        return new Rectangle(GAP + col * (CELL_WIDTH + GAP), GAP + row * (CELL_HEIGHT + GAP), CELL_WIDTH, CELL_HEIGHT);
+    }
+
+    private int nodeAt(int x, int y) {
+        int col = (x - GAP) / (CELL_WIDTH + GAP);
+        int row = (y - GAP) / (CELL_HEIGHT + GAP);
+        if (x < GAP || y < GAP || col >= columns) {
+            return -1;
+        }
+        int nodeId = row * columns + col;
+        return nodeId < numberOfNodes && cellBounds(nodeId).contains(x, y) ? nodeId : -1;
+    }
+
+    // Fits as many columns as the viewport width allows, rows follow from the node count
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        int fitting = Math.max(1, (width - GAP) / (CELL_WIDTH + GAP));
+        if (fitting != columns) {
+            columns = fitting;
+            revalidate();
+        }
+        super.setBounds(x, y, width, height);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int rows = (numberOfNodes + columns - 1) / columns;
+        return new Dimension(GAP + columns * (CELL_WIDTH + GAP), GAP + rows * (CELL_HEIGHT + GAP));
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(800, 200);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? CELL_HEIGHT + GAP : CELL_WIDTH + GAP;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() { return true; }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() { return false; }
+}
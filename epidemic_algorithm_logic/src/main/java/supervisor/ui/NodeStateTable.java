@@ -0,0 +1,81 @@
+package supervisor.ui;
+
+import java.util.BitSet;
+
+/**
+ * Compact per-node display state (one byte of state plus counters per node) written by the ingest
+ * threads and read by NodeGridPanel. Every write marks the node dirty until the next frame drains it.
+ */
+class NodeStateTable {
+
+    static final byte SUSCEPTIBLE = 0;
+    static final byte INFECTED = 1;
+    static final byte SOURCE = 2;
+    static final byte REMOVED = 3;
+
+    private final int numberOfNodes;
+    private final byte[] states;
+    private final int[] messageCounts; // distinct subject:source messages held
+    private final int[] removedCounts;
+    private final String[] sourceSubjects;
+
+    private final BitSet dirty = new BitSet(); // guarded by itself, also publishes the writes above to the EDT
+
+    NodeStateTable(int numberOfNodes) {
+        this.numberOfNodes = numberOfNodes;
+        this.states = new byte[numberOfNodes];
+        this.messageCounts = new int[numberOfNodes];
+        this.removedCounts = new int[numberOfNodes];
+        this.sourceSubjects = new String[numberOfNodes];
+    }
+
+    int size() { return numberOfNodes; }
+
+    void setInfected(int nodeId, int messageCount) {
+        if (states[nodeId] == SUSCEPTIBLE) {
+            states[nodeId] = INFECTED;
+        }
+        messageCounts[nodeId] = messageCount;
+        markDirty(nodeId);
+    }
+
+    void setSource(int nodeId, String subject) {
+        sourceSubjects[nodeId] = subject;
+        if (states[nodeId] != REMOVED) {
+            states[nodeId] = SOURCE;
+        }
+        markDirty(nodeId);
+    }
+
+    void setRemoved(int nodeId, int removedCount) {
+        states[nodeId] = REMOVED;
+        removedCounts[nodeId] = removedCount;
+        markDirty(nodeId);
+    }
+
+    byte getState(int nodeId) { return states[nodeId]; }
+
+    int getMessageCount(int nodeId) { return messageCounts[nodeId]; }
+
+    int getRemovedCount(int nodeId) { return removedCounts[nodeId]; }
+
+    String getSourceSubject(int nodeId) { return sourceSubjects[nodeId]; }
+
+    // Nodes changed since the previous call (null if none)
+    BitSet drainDirty() {
+        synchronized (dirty) {
+            if (dirty.isEmpty()) {
+                return null;
+            }
+            BitSet changed = (BitSet) dirty.clone();
+            dirty.clear();
+            return changed;
+        }
+    }
+
+    private void markDirty(int nodeId) {
+        synchronized (dirty) {
+            dirty.set(nodeId);
+        }
+    }
+}
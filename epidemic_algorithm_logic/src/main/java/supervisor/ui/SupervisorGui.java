@@ -6,9 +6,10 @@ import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartFrame;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.plot.PlotOrientation;
-import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.axis.NumberAxis;
-import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
@@ -19,30 +20,34 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Graphical interface for the supervisor to visualize nodes and infections.
  * Similar to the old simulation supervisor's UI.
  */
 public class SupervisorGui {
-    private final Map<Integer, List<InfectionRecord>> infectionHistory;
+    private final InfectionHistoryStore infectionHistory;
+    private final InfectionCurveAggregator infectionCurves;
+    private final NodeStateTable nodeStates; // what the node grid paints
     private final Map<Integer, Set<MessageId>> remotionHistory;
     private final Map<Integer, String> sourceNodes; // nodeId -> subject
 
-    private int currentRound = 0;
-    private final Map<Integer, Set<Integer>> infectionsPerRound;
-    private final Set<Integer> uniqueInfectedNodes;
+    private volatile int currentRound = 0;
 
     private ChartFrame chartFrame;
+    private XYSeriesCollection curveDataset; // EDT only, points are appended, never rebuilt
+    private final Map<String, XYSeries[]> curveSeries = new HashMap<>(); // curve -> {S, I, R}
+    private final Map<String, Integer> drawnRounds = new HashMap<>(); // curve -> next closed round to draw
     private volatile boolean chartAutoUpdate = false;
     private java.util.Timer chartUpdateTimer;
 
     private JFrame nodeGuiFrame;
-    private JPanel nodesPanel;
+    private NodeGridPanel nodeGrid;
     private JTextArea messagesArea;
     private JLabel selectedNodeLabel;
-    private javax.swing.Timer refreshTimer;
+    private javax.swing.Timer refreshTimer; // node grid frame timer
+    private static final int NODE_GRID_FRAME_MS = 200;
 
     private JTable discoveredNodesTable;
     private DefaultTableModel discoveredNodesTableModel;
@@ -50,6 +55,8 @@ public class SupervisorGui {
 
     private JLabel nodeToNodeCountLabel;
     private javax.swing.Timer messageCountTimer;
+    private javax.swing.Timer discoveryStatusTimer;
+    private JFrame mainFrame;
 
     private static class DiscoveredNodeInfo {
         final int nodeId;
@@ -69,16 +76,16 @@ public class SupervisorGui {
     private LocalDateTime searchingStartTime;
 
     private final int numberOfNodes;
+    private final AtomicLong fullInfectionAtMs = new AtomicLong(-1); // wall clock when the last node got its first message
     
     /**
-     * Record to store infection information
+     * Latest infection of one (subject, source) held by a node, as shown in the node view
      */
     public static class InfectionRecord {
         private final int nodeId;
         private final String subject;
         private final int timestamp;
         private final int sourceId;
-        private final LocalDateTime infectionTime;
         private final int round;
         private final String data;
         
@@ -87,7 +94,6 @@ public class SupervisorGui {
             this.subject = subject;
             this.timestamp = timestamp;
             this.sourceId = sourceId;
-            this.infectionTime = LocalDateTime.now();
             this.round = round;
             this.data = data;
         }
@@ -96,40 +102,35 @@ public class SupervisorGui {
         public String getSubject() { return subject; }
         public int getTimestamp() { return timestamp; }
         public int getSourceId() { return sourceId; }
-        public LocalDateTime getInfectionTime() { return infectionTime; }
         public int getRound() { return round; }
         public String getData() { return data; }
         
         @Override
         public String toString() {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            return String.format("Node %d infected with subject '%s' from source %d (timestamp: %d, data: %s) at round %d - %s", 
-                    nodeId, subject, sourceId, timestamp, data, round, infectionTime.format(formatter));
+            return String.format("Node %d infected with subject '%s' from source %d (timestamp: %d, data: %s) at round %d", 
+                    nodeId, subject, sourceId, timestamp, data, round);
         }
     }
     
     public SupervisorGui(int numberOfNodes) {
         this.numberOfNodes = numberOfNodes;
-        this.infectionHistory = new ConcurrentHashMap<>();
+        this.infectionHistory = new InfectionHistoryStore(numberOfNodes);
+        this.infectionCurves = new InfectionCurveAggregator(numberOfNodes);
+        this.nodeStates = new NodeStateTable(numberOfNodes);
         this.remotionHistory = new ConcurrentHashMap<>();
         this.sourceNodes = new ConcurrentHashMap<>();
-        this.infectionsPerRound = new ConcurrentHashMap<>();
-        this.uniqueInfectedNodes = ConcurrentHashMap.newKeySet();
         this.discoveredNodes = new ConcurrentHashMap<>();
         this.searchingStartTime = null;
 
         for (int i = 0; i < numberOfNodes; i++) {
-            infectionHistory.put(i, Collections.synchronizedList(new ArrayList<>()));
             remotionHistory.put(i, ConcurrentHashMap.newKeySet());
         }
 
-        infectionsPerRound.put(0, ConcurrentHashMap.newKeySet());
-
         SwingUtilities.invokeLater(this::initializeGui);
     }
     
     private void initializeGui() {
-        JFrame mainFrame = new JFrame("Epidemic Dissemination Supervisor");
+        mainFrame = new JFrame("Epidemic Dissemination Supervisor");
         mainFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         mainFrame.setLayout(new BorderLayout());
 
@@ -185,12 +186,12 @@ public class SupervisorGui {
         topPanel.add(selectedNodeLabel);
         nodeGuiFrame.add(topPanel, BorderLayout.NORTH);
 
-        nodesPanel = new JPanel();
-        nodesPanel.setLayout(new GridLayout(0, 10, 5, 5)); // 10 columns, auto rows
-        nodesPanel.setBorder(new TitledBorder("Nodes"));
+        nodeGrid = new NodeGridPanel(nodeStates, this::showNodeMessages);
         
-        JScrollPane nodesScrollPane = new JScrollPane(nodesPanel);
+        JScrollPane nodesScrollPane = new JScrollPane(nodeGrid);
+        nodesScrollPane.setBorder(new TitledBorder("Nodes"));
         nodesScrollPane.setPreferredSize(new Dimension(800, 200));
+        nodesScrollPane.getViewport().addChangeListener(e -> nodeGrid.repaint()); // newly visible cells
         nodeGuiFrame.add(nodesScrollPane, BorderLayout.CENTER);
 
         JPanel messagesPanel = new JPanel();
@@ -205,14 +206,12 @@ public class SupervisorGui {
         messagesPanel.add(messagesScrollPane, BorderLayout.CENTER);
 
         JButton refreshButton = new JButton("Refresh Now");
-        refreshButton.addActionListener(e -> refreshNodes());
+        refreshButton.addActionListener(e -> nodeGrid.repaint());
         messagesPanel.add(refreshButton, BorderLayout.SOUTH);
         
         nodeGuiFrame.add(messagesPanel, BorderLayout.SOUTH);
 
-        refreshNodes();
-
-        refreshTimer = new javax.swing.Timer(2000, e -> refreshNodes());
+        refreshTimer = new javax.swing.Timer(NODE_GRID_FRAME_MS, e -> nodeGrid.repaintDirty());
         refreshTimer.start();
         
         nodeGuiFrame.pack();
@@ -260,8 +259,8 @@ public class SupervisorGui {
         discoveredNodesStatusLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
         statusPanel.add(discoveredNodesStatusLabel, BorderLayout.CENTER);
 
-        javax.swing.Timer statusTimer = new javax.swing.Timer(1000, e -> updateDiscoveredNodesStatus());
-        statusTimer.start();
+        discoveryStatusTimer = new javax.swing.Timer(1000, e -> updateDiscoveredNodesStatus());
+        discoveryStatusTimer.start();
         
         panel.add(statusPanel, BorderLayout.SOUTH);
         
@@ -397,30 +396,21 @@ public class SupervisorGui {
             System.out.println("[SupervisorGui] Detected SOURCE node: " + nodeId + " with subject: " + subject);
         }
 
-        List<InfectionRecord> records = infectionHistory.get(nodeId);
-        if (records == null) {
-            System.err.println("[SupervisorGui] ERROR: No infection history for nodeId=" + nodeId + 
-                             " (infectionHistory size=" + infectionHistory.size() + 
-                             ", numberOfNodes=" + numberOfNodes + ")");
-
-            if (nodeId >= 0 && nodeId < numberOfNodes) {
-                System.out.println("[SupervisorGui] Initializing infection history for nodeId=" + nodeId);
-                records = Collections.synchronizedList(new ArrayList<>());
-                infectionHistory.put(nodeId, records);
-            } else {
-                System.err.println("[SupervisorGui] ERROR: Invalid nodeId=" + nodeId + " (must be 0-" + (numberOfNodes-1) + ")");
-                return;
-            }
+        if (nodeId < 0 || nodeId >= numberOfNodes) {
+            System.err.println("[SupervisorGui] ERROR: Invalid nodeId=" + nodeId + " (must be 0-" + (numberOfNodes-1) + ")");
+            return;
         }
-        
-        InfectionRecord record = new InfectionRecord(nodeId, subject, timestamp, sourceId, round, data);
-        records.add(record);
-        System.out.println("[SupervisorGui] Added InfectionRecord to history for nodeId=" + nodeId + 
-                         " (total records for this node: " + records.size() + ")");
 
-        boolean isNewInfection = uniqueInfectedNodes.add(nodeId);
+        boolean isNewInfection = infectionHistory.append(nodeId, subject, sourceId, timestamp, data, round);
+        infectionCurves.onInfection(nodeId, subject);
+        nodeStates.setInfected(nodeId, infectionHistory.getDistinctMessageCount(nodeId));
+        if (nodeId == sourceId) {
+            nodeStates.setSource(nodeId, subject);
+        }
+        if (isNewInfection && infectionHistory.getInfectedNodeCount() == numberOfNodes) {
+            fullInfectionAtMs.compareAndSet(-1, System.currentTimeMillis());
+        }
         if (isNewInfection) {
-            infectionsPerRound.computeIfAbsent(round, k -> ConcurrentHashMap.newKeySet()).add(nodeId);
             System.out.println("[SupervisorGui] INFECTED (NEW): nodeId=" + nodeId + 
                              ", sourceId=" + sourceId + 
                              ", subject=" + subject + 
@@ -440,75 +430,50 @@ public class SupervisorGui {
             new epidemic_core.message.common.MessageTopic(subject, sourceId),
             timestamp
         );
-        remotionHistory.computeIfAbsent(nodeId, k -> ConcurrentHashMap.newKeySet()).add(msgId);
+        Set<MessageId> removed = remotionHistory.computeIfAbsent(nodeId, k -> ConcurrentHashMap.newKeySet());
+        removed.add(msgId);
+        if (nodeId >= 0 && nodeId < numberOfNodes) {
+            infectionCurves.onRemotion(nodeId, subject);
+            nodeStates.setRemoved(nodeId, removed.size());
+        }
+    }
+
+    public int getInfectedNodeCount() {
+        return infectionHistory.getInfectedNodeCount();
+    }
+
+    // -1 while some node has not received any message yet
+    public long getFullInfectionAtMs() {
+        return fullInfectionAtMs.get();
     }
 
     public void incrementRound() {
         currentRound++;
-        infectionsPerRound.put(currentRound, ConcurrentHashMap.newKeySet());
+        infectionCurves.closeRoundsBefore(currentRound);
     }
 
     public void generateInfectionChart() {
         SwingUtilities.invokeLater(() -> {
-            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-
-            Map<Integer, Set<Integer>> uniqueInfectionsPerRound = new TreeMap<>();
-            Set<Integer> cumulativeInfectedNodes = new HashSet<>();
-
-            Map<Integer, Integer> firstInfectionRound = new HashMap<>();
-
-            for (Map.Entry<Integer, List<InfectionRecord>> entry : infectionHistory.entrySet()) {
-                int nodeId = entry.getKey();
-                for (InfectionRecord record : entry.getValue()) {
-                    int round = record.getRound();
-                    if (!firstInfectionRound.containsKey(nodeId) || round < firstInfectionRound.get(nodeId)) {
-                        firstInfectionRound.put(nodeId, round);
-                    }
-                }
-            }
-
-            for (int round = 0; round <= currentRound; round++) {
-                Set<Integer> roundInfections = new HashSet<>();
-                
-                for (Map.Entry<Integer, Integer> entry : firstInfectionRound.entrySet()) {
-                    int nodeId = entry.getKey();
-                    int firstRound = entry.getValue();
-                    if (firstRound == round) {
-                        roundInfections.add(nodeId);
-                    }
+            if (chartFrame == null || !chartFrame.isDisplayable()) {
+                if (curveDataset == null) {
+                    curveDataset = new XYSeriesCollection();
                 }
-                
-                cumulativeInfectedNodes.addAll(roundInfections);
-                uniqueInfectionsPerRound.put(round, new HashSet<>(cumulativeInfectedNodes));
-            }
 
-            int maxRound = uniqueInfectionsPerRound.isEmpty() ? 0 : Collections.max(uniqueInfectionsPerRound.keySet());
-            for (int round = 0; round <= maxRound; round++) {
-                int cumulativeCount = uniqueInfectionsPerRound.getOrDefault(round, Collections.emptySet()).size();
-                if (cumulativeCount >= numberOfNodes) {
-                    cumulativeCount = numberOfNodes;
-                    dataset.addValue(cumulativeCount, "Cumulative Infections", String.valueOf(round));
-                    break;
-                }
-                dataset.addValue(cumulativeCount, "Cumulative Infections", String.valueOf(round));
-            }
+                JFreeChart chart = ChartFactory.createXYLineChart(
+                        "SIR Curves Over Rounds (per Subject)",
+                        "Round",
+                        "Nodes",
+                        curveDataset,
+                        PlotOrientation.VERTICAL,
+                        true,
+                        true,
+                        false
+                );
+
+                XYPlot plot = (XYPlot) chart.getPlot();
+                ((NumberAxis) plot.getDomainAxis()).setStandardTickUnits(NumberAxis.createIntegerTickUnits());
+                ((NumberAxis) plot.getRangeAxis()).setStandardTickUnits(NumberAxis.createIntegerTickUnits());
 
-            JFreeChart chart = ChartFactory.createLineChart(
-                    "Infections Over Rounds (All Subjects & Sources)",
-                    "Round",
-                    "Cumulative Infections",
-                    dataset,
-                    PlotOrientation.VERTICAL,
-                    true,
-                    true,
-                    false
-            );
-
-            CategoryPlot plot = (CategoryPlot) chart.getPlot();
-            NumberAxis rangeAxis = (NumberAxis) plot.getRangeAxis();
-            rangeAxis.setStandardTickUnits(NumberAxis.createIntegerTickUnits());
-
-            if (chartFrame == null || !chartFrame.isDisplayable()) {
                 chartFrame = new ChartFrame("Infection Chart", chart);
                 chartFrame.setDefaultCloseOperation(JFrame.HIDE_ON_CLOSE);
                 chartFrame.pack();
@@ -517,15 +482,48 @@ public class SupervisorGui {
                 if (!chartAutoUpdate) {
                     startChartAutoUpdate();
                 }
-            } else {
-                chartFrame.getChartPanel().setChart(chart);
-                if (!chartFrame.isVisible()) {
-                    chartFrame.setVisible(true);
-                }
+            } else if (!chartFrame.isVisible()) {
+                chartFrame.setVisible(true);
             }
+            appendCurvePoints();
         });
     }
-    
+
+    // EDT: adds the rounds closed since the last update and moves the live point of the open round
+    private void appendCurvePoints() {
+        if (curveDataset == null) {
+            return;
+        }
+        for (String name : infectionCurves.getCurveNames()) {
+            XYSeries[] series = curveSeries.get(name);
+            if (series == null) {
+                series = new XYSeries[] {
+                    new XYSeries(name + " - S", true, false),
+                    new XYSeries(name + " - I", true, false),
+                    new XYSeries(name + " - R", true, false)
+                };
+                for (XYSeries s : series) {
+                    curveDataset.addSeries(s);
+                }
+                curveSeries.put(name, series);
+            }
+
+            InfectionCurveAggregator.CurvePoints closed = infectionCurves.getClosedPoints(name, drawnRounds.getOrDefault(name, 0));
+            for (int i = 0; i < closed.susceptible().length; i++) {
+                int round = closed.firstRound() + i;
+                series[0].addOrUpdate(round, closed.susceptible()[i]);
+                series[1].addOrUpdate(round, closed.infected()[i]);
+                series[2].addOrUpdate(round, closed.removed()[i]);
+            }
+            drawnRounds.put(name, closed.nextRound());
+
+            int[] live = infectionCurves.getLivePoint(name);
+            for (int k = 0; k < 3; k++) {
+                series[k].addOrUpdate(closed.nextRound(), live[k]);
+            }
+        }
+    }
+
     private void startChartAutoUpdate() {
         chartAutoUpdate = true;
         chartUpdateTimer = new java.util.Timer(true);
@@ -533,66 +531,14 @@ public class SupervisorGui {
             @Override
             public void run() {
                 if (chartAutoUpdate) {
-                    generateInfectionChart();
+                    SwingUtilities.invokeLater(SupervisorGui.this::appendCurvePoints);
                 }
             }
         }, 1000, 1000); // Update every second
     }
     
-    private void refreshNodes() {
-        SwingUtilities.invokeLater(() -> {
-            nodesPanel.removeAll();
-            
-            for (int nodeId = 0; nodeId < numberOfNodes; nodeId++) {
-                JButton nodeButton = createNodeButton(nodeId);
-                nodesPanel.add(nodeButton);
-            }
-            
-            nodesPanel.revalidate();
-            nodesPanel.repaint();
-        });
-    }
-    
-    private JButton createNodeButton(int nodeId) {
-        JButton button = new JButton("Node " + nodeId);
-        
-        List<InfectionRecord> infections = infectionHistory.getOrDefault(nodeId, Collections.emptyList());
-        boolean isInfected = !infections.isEmpty();
-        boolean isSource = sourceNodes.containsKey(nodeId);
-        boolean hasRemovedMessages = remotionHistory.containsKey(nodeId) && 
-                                     !remotionHistory.get(nodeId).isEmpty();
-
-        if (hasRemovedMessages) {
-            int removedCount = remotionHistory.get(nodeId).size();
-            button.setBackground(new Color(255, 100, 100)); // Light red
-            button.setToolTipText("REMOVED (" + removedCount + " message(s) removed)");
-        } else if (!isInfected) {
-            button.setBackground(new Color(200, 200, 200)); // Light gray
-            button.setToolTipText("SUSCEPTIBLE (not infected)");
-        } else if (isSource) {
-            button.setBackground(new Color(144, 238, 144)); // Light green
-            button.setToolTipText("SOURCE: " + sourceNodes.get(nodeId));
-        } else {
-            button.setBackground(new Color(173, 216, 230)); // Light blue
-            button.setToolTipText("INFECTED (FORWARDER)");
-        }
-        
-        long uniqueMessages = infections.stream()
-            .map(inf -> inf.getSubject() + ":" + inf.getSourceId())
-            .distinct()
-            .count();
-        
-        if (uniqueMessages > 0) {
-            button.setText("Node " + nodeId + " (" + uniqueMessages + ")");
-        }
-        
-        button.addActionListener(e -> showNodeMessages(nodeId));
-        
-        return button;
-    }
-    
     private void showNodeMessages(int nodeId) {
-        List<InfectionRecord> infections = infectionHistory.getOrDefault(nodeId, Collections.emptyList());
+        List<InfectionRecord> infections = infectionHistory.latestRecords(nodeId); // latest per subject:source
         boolean isSource = sourceNodes.containsKey(nodeId);
         
         SwingUtilities.invokeLater(() -> {
@@ -610,12 +556,7 @@ public class SupervisorGui {
             } else {
                 sb.append("INFECTED (FORWARDER)\n");
             }
-            sb.append("Total unique messages: ").append(
-                infections.stream()
-                    .map(inf -> inf.getSubject() + ":" + inf.getSourceId())
-                    .distinct()
-                    .count()
-            ).append("\n\n");
+            sb.append("Total unique messages: ").append(infections.size()).append("\n\n");
             
             if (infections.isEmpty()) {
                 sb.append("No infections recorded yet.\n");
@@ -624,14 +565,7 @@ public class SupervisorGui {
                     "Subject", "Timestamp", "SourceId", "Round", "Data"));
                 sb.append("------------------------------------------------------------\n");
                 
-                Map<String, InfectionRecord> latestBySubjectSource = infections.stream()
-                    .collect(Collectors.toMap(
-                        inf -> inf.getSubject() + ":" + inf.getSourceId(),
-                        inf -> inf,
-                        (inf1, inf2) -> inf1.getTimestamp() > inf2.getTimestamp() ? inf1 : inf2
-                    ));
-                
-                for (InfectionRecord record : latestBySubjectSource.values()) {
+                for (InfectionRecord record : infections) {
                     sb.append(String.format("%-15s %-12d %-10d %-10d %-10s\n",
                         record.getSubject(),
                         record.getTimestamp(),
@@ -645,6 +579,37 @@ public class SupervisorGui {
         });
     }
     
+    public int getNumberOfNodes() { return numberOfNodes; }
+
+    // New GUI for another node count that keeps the discovered nodes table; this one is closed
+    public SupervisorGui resizedTo(int numberOfNodes) {
+        SupervisorGui resized = new SupervisorGui(numberOfNodes);
+        resized.discoveredNodes.putAll(discoveredNodes);
+        resized.searchingStartTime = searchingStartTime;
+        SwingUtilities.invokeLater(resized::updateDiscoveredNodesTable);
+        dispose();
+        return resized;
+    }
+
+    // Stops the timers and closes the windows
+    public void dispose() {
+        stop();
+        SwingUtilities.invokeLater(() -> {
+            if (messageCountTimer != null) {
+                messageCountTimer.stop();
+            }
+            if (discoveryStatusTimer != null) {
+                discoveryStatusTimer.stop();
+            }
+            if (nodeGuiFrame != null) {
+                nodeGuiFrame.dispose();
+            }
+            if (mainFrame != null) {
+                mainFrame.dispose();
+            }
+        });
+    }
+
     public void stop() {
         if (refreshTimer != null) {
             refreshTimer.stop();
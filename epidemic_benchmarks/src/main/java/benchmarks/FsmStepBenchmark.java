@@ -0,0 +1,117 @@
+package benchmarks;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.Envelope;
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
+import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
+import epidemic_core.node.Node;
+import epidemic_core.node.NodeFactory;
+import epidemic_core.node.NodeRandom;
+import epidemic_core.node.pacing.WorkerLoop;
+import general.communication.utils.Address;
+import general.fsm.FiniteStateMachine;
+import general.logging.ConsoleLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one FSM step:
+ * - fsmTransition / fsmIdleStep: the updateTis -> setNewState -> setState cycle every worker FSM runs
+ *   (with and without a state change)
+ * - nodeIdleStep: a node's workingStep with nothing to do (what a polling worker pays every tick)
+ * - nodePushRound: a StartRoundMsg delivered and settled like the simulator does (one push to a neighbour
+ *   per stored topic; the socket is a no-op)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class FsmStepBenchmark {
+
+    private enum Phase { IDLE, ACTIVE }
+
+    @Param({"push", "pull", "pushpull"})
+    public String mode;
+
+    private FiniteStateMachine<Phase> fsm;
+    private Node node;
+    private Envelope startRound;
+
+    @Setup
+    public void setup() {
+        ConsoleLog.setQuiet(true); // node logging is not the hot path (Scope.Thread: set on the benchmark thread)
+
+        fsm = new FiniteStateMachine<>(Phase.IDLE);
+
+        // node 0 with 8 neighbours, holding one topic of its own
+        Map<Integer, Address> addresses = new HashMap<>();
+        List<Integer> neighbours = new ArrayList<>();
+        for (int id = 0; id <= 8; id++) {
+            addresses.put(id, new Address("127.0.0.1", 9000 + id));
+            if (id > 0) {
+                neighbours.add(id);
+            }
+        }
+        NodeRandom.setRunSeed(1L);
+        node = NodeFactory.createNode(0, neighbours, "FUEL_LEVEL", addresses,
+                List.of(new MessageTopic("FUEL_LEVEL", 0)), new Address("127.0.0.1", 7000),
+                mode, "anti_entropy", null, new NoOpCommunication());
+        startRound = Envelope.of(new StartRoundMsg(Direction.supervisor_to_node.toString(),
+                SupervisorToNodeMessageType.start_round.toString()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        node.stop();
+        NodeRandom.clearRunSeed();
+        ConsoleLog.clearQuiet();
+    }
+
+    @Benchmark
+    public Phase fsmTransition() {
+        fsm.updateTis();
+        fsm.setNewState(fsm.getState() == Phase.IDLE ? Phase.ACTIVE : Phase.IDLE);
+        fsm.setState();
+        return fsm.getState();
+    }
+
+    @Benchmark
+    public Phase fsmIdleStep() {
+        fsm.updateTis();
+        fsm.setNewState(fsm.getState());
+        fsm.setState();
+        return fsm.getState();
+    }
+
+    @Benchmark
+    public void nodeIdleStep() {
+        node.workingStep();
+    }
+
+    @Benchmark
+    public void nodePushRound() {
+        node.deliver(startRound);
+        for (int i = 0; i < WorkerLoop.SETTLE_STEPS; i++) {
+            node.workingStep();
+        }
+    }
+}
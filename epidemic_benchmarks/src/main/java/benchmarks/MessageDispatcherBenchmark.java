@@ -0,0 +1,74 @@
+package benchmarks;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageDispatcher;
+import epidemic_core.message.node_to_node.NodeToNodeMessageType;
+import epidemic_core.message.node_to_node.request.RequestMsg;
+import epidemic_core.message.node_to_node.spread.SpreadMsg;
+import epidemic_core.message.supervisor_to_node.SupervisorToNodeMessageType;
+import epidemic_core.message.supervisor_to_node.start_round.StartRoundMsg;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MessageDispatcher on raw JSON: the full decode to a message object, and the string predicates the
+ * listeners use to route a message before (or instead of) decoding it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class MessageDispatcherBenchmark {
+
+    @Param({"spread", "request", "start_round"})
+    public String messageType;
+
+    private String raw;
+
+    @Setup
+    public void setup() throws IOException {
+        raw = switch (messageType) {
+            case "spread" -> new SpreadMsg(Direction.node_to_node.toString(), NodeToNodeMessageType.spread.toString(),
+                    "FUEL_LEVEL", 17, 42L, 3, "57").encode();
+            case "request" -> new RequestMsg(Direction.node_to_node.toString(), NodeToNodeMessageType.request.toString(),
+                    "FUEL_LEVEL", 17, 42L, 3).encode();
+            case "start_round" -> new StartRoundMsg(Direction.supervisor_to_node.toString(),
+                    SupervisorToNodeMessageType.start_round.toString(), 12, 1_700_000_000_000L).encode();
+            default -> throw new IllegalStateException("Unexpected value: " + messageType);
+        };
+    }
+
+    @Benchmark
+    public Object decode() {
+        return MessageDispatcher.decode(raw);
+    }
+
+    @Benchmark
+    public String getMessageType() {
+        return MessageDispatcher.getMessageType(raw);
+    }
+
+    @Benchmark
+    public boolean isSpread() {
+        return MessageDispatcher.isSpread(raw);
+    }
+
+    @Benchmark
+    public boolean isStartRound() {
+        return MessageDispatcher.isStartRound(raw);
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.node_to_node.NodeToNodeMessageType;
+import epidemic_core.message.node_to_node.spread.SpreadMsg;
+import epidemic_core.message.node_to_supervisor.NodeToSupervisorMessageType;
+import epidemic_core.message.node_to_supervisor.infection_update.InfectionUpdateMsg;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode + decode round trip with a new ObjectMapper per call (how the message classes used to work)
+ * vs the shared MessageMappers registry behind encode()/decodeMessage().
+ * Run with -prof gc to compare the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class MessageMapperBenchmark {
+
+    @Param({"spread", "infection_update"})
+    public String messageType;
+
+    private SpreadMsg spreadMsg;
+    private InfectionUpdateMsg infectionMsg;
+
+    @Setup
+    public void setup() {
+        spreadMsg = new SpreadMsg(Direction.node_to_node.toString(), NodeToNodeMessageType.spread.toString(),
+                "temperature", 3, 12L, 7, "42");
+        infectionMsg = new InfectionUpdateMsg(Direction.node_to_supervisor.toString(),
+                NodeToSupervisorMessageType.infection_update.toString(), 7, 3, "temperature", 3, 12L, "42");
+    }
+
+    @Benchmark
+    public Object perCallMapper() throws IOException {
+        if ("spread".equals(messageType)) {
+            String json = new ObjectMapper().writeValueAsString(spreadMsg);
+            return new ObjectMapper().readValue(json, SpreadMsg.class);
+        }
+        String json = new ObjectMapper().writeValueAsString(infectionMsg);
+        return new ObjectMapper().readValue(json, InfectionUpdateMsg.class);
+    }
+
+    @Benchmark
+    public Object sharedRegistry() throws IOException {
+        if ("spread".equals(messageType)) {
+            return SpreadMsg.decodeMessage(spreadMsg.encode());
+        }
+        return InfectionUpdateMsg.decodeMessage(infectionMsg.encode());
+    }
+}
@@ -0,0 +1,100 @@
+package benchmarks;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.common.MessageTopic;
+import epidemic_core.message.node_to_node.NodeToNodeMessageType;
+import epidemic_core.message.node_to_node.spread.SpreadMsg;
+import epidemic_core.node.Node;
+import epidemic_core.node.NodeFactory;
+import epidemic_core.node.NodeRandom;
+import general.communication.utils.Address;
+import general.logging.ConsoleLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node.storeOrIgnoreMessage against a store already holding storeSize topics:
+ * - duplicate: the stored version arrives again and is ignored (the common case once a topic spread)
+ * - newerVersion: a newer version replaces the stored one and is reported to the supervisor
+ *   (includes building the SpreadMsg and encoding the report; the socket is a no-op)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class MessageStoreBenchmark {
+
+    private static final String[] SUBJECTS = {"ENGINE_TEMPERATURE", "FUEL_LEVEL", "HUMIDITY", "VOLTAGE"};
+
+    @Param({"1", "64", "4096"})
+    public int storeSize;
+
+    private Node node;
+    private SpreadMsg[] stored;
+    private int next = 0;
+    private long version = 0;
+
+    @Setup
+    public void setup() {
+        ConsoleLog.setQuiet(true); // node logging is not the hot path (Scope.Thread: set on the benchmark thread)
+
+        List<MessageTopic> topics = new ArrayList<>(storeSize);
+        for (int i = 0; i < storeSize; i++) {
+            topics.add(new MessageTopic(SUBJECTS[i % SUBJECTS.length], i + 1));
+        }
+        NodeRandom.setRunSeed(1L);
+        node = NodeFactory.createNode(0, List.of(1), null,
+                Map.of(0, new Address("127.0.0.1", 9000), 1, new Address("127.0.0.1", 9001)),
+                topics, new Address("127.0.0.1", 7000), "push", "anti_entropy", null, new NoOpCommunication());
+
+        stored = new SpreadMsg[storeSize];
+        for (int i = 0; i < storeSize; i++) {
+            MessageTopic topic = topics.get(i);
+            stored[i] = spread(topic, 0L);
+            node.storeOrIgnoreMessage(stored[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        node.stop();
+        NodeRandom.clearRunSeed();
+        ConsoleLog.clearQuiet();
+    }
+
+    @Benchmark
+    public boolean duplicate() {
+        SpreadMsg message = stored[next];
+        next = next + 1 == storeSize ? 0 : next + 1;
+        return node.storeOrIgnoreMessage(message);
+    }
+
+    @Benchmark
+    public boolean newerVersion() {
+        MessageTopic topic = stored[next].getId().topic();
+        next = next + 1 == storeSize ? 0 : next + 1;
+        return node.storeOrIgnoreMessage(spread(topic, ++version)); // newer than every stored version
+    }
+
+    private static SpreadMsg spread(MessageTopic topic, long timestamp) {
+        return new SpreadMsg(Direction.node_to_node.toString(), NodeToNodeMessageType.spread.toString(),
+                topic.subject(), topic.sourceId(), timestamp, 1, "57");
+    }
+}
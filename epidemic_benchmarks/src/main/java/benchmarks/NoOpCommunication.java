@@ -0,0 +1,28 @@
+package benchmarks;
+
+import general.communication.Communication;
+import general.communication.utils.Address;
+
+// Communication that drops everything: node benchmarks measure the node, not a socket
+class NoOpCommunication implements Communication {
+
+    private long sent = 0;
+
+    @Override
+    public void setupSocket(Address myAddress) {}
+
+    @Override
+    public void sendMessage(Address destination, String message) {
+        sent++;
+    }
+
+    @Override
+    public String receiveMessage() {
+        return null;
+    }
+
+    @Override
+    public void closeSocket() {}
+
+    long getSent() { return sent; }
+}
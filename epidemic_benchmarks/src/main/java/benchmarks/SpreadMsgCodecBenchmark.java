@@ -0,0 +1,70 @@
+package benchmarks;
+
+import epidemic_core.message.common.Direction;
+import epidemic_core.message.node_to_node.NodeToNodeMessageType;
+import epidemic_core.message.node_to_node.codec.NodeToNodeCodec;
+import epidemic_core.message.node_to_node.codec.WireFormat;
+import epidemic_core.message.node_to_node.spread.SpreadMsg;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpreadMsg on the wire: the JSON encode/decode of the message class itself, and the binary codec
+ * nodes use by default.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class SpreadMsgCodecBenchmark {
+
+    private static final List<String> SUBJECTS = List.of("ENGINE_TEMPERATURE", "FUEL_LEVEL", "HUMIDITY", "VOLTAGE");
+
+    private SpreadMsg message;
+    private String json;
+    private NodeToNodeCodec binaryCodec;
+    private String binary;
+
+    @Setup
+    public void setup() throws IOException {
+        message = new SpreadMsg(Direction.node_to_node.toString(), NodeToNodeMessageType.spread.toString(),
+                "FUEL_LEVEL", 17, 42L, 3, "57");
+        json = message.encode();
+        binaryCodec = NodeToNodeCodec.create(WireFormat.BINARY, SUBJECTS);
+        binary = binaryCodec.encode(message);
+    }
+
+    @Benchmark
+    public String jsonEncode() throws IOException {
+        return message.encode();
+    }
+
+    @Benchmark
+    public SpreadMsg jsonDecode() throws IOException {
+        return SpreadMsg.decodeMessage(json);
+    }
+
+    @Benchmark
+    public String binaryEncode() throws IOException {
+        return binaryCodec.encode(message);
+    }
+
+    @Benchmark
+    public Object binaryDecode() throws IOException {
+        return binaryCodec.decode(binary);
+    }
+}
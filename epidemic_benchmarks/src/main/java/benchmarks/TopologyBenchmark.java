@@ -0,0 +1,45 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import supervisor.network_emulation.topology_creation.Topology;
+import supervisor.network_emulation.topology_creation.TopologyType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Topology.createTopology for every TopologyType. Each invocation uses a Random with the same seed,
+ * so every invocation (and every run) builds the same graph.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class TopologyBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"FULL_MESH", "PARTIAL_MESH", "RING", "STAR", "SMALL_WORLD", "SCALE_FREE", "RANDOM_REGULAR", "TORUS"})
+    public TopologyType type;
+
+    @Param({"1000", "100000"})
+    public int N;
+
+    @Benchmark
+    public Map<Integer, List<Integer>> createTopology() {
+        return new Topology().createTopology(type, N, new Random(SEED));
+    }
+}